@@ -2,8 +2,12 @@ package com.ifm.projectmgmt.config;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -13,7 +17,12 @@ import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Configuration class for asynchronous task execution.
- * Configures a thread pool for handling notification emails asynchronously.
+ * Configures the executor for sending notification emails asynchronously.
+ *
+ * <p>The thread mode follows {@code spring.threads.virtual.enabled}, the same switch that moves Tomcat request
+ * handling to virtual threads. With platform threads notifications are sent on a bounded thread pool, with
+ * virtual threads every notification gets its own virtual thread. In both modes at most
+ * {@code notification.executor.max-concurrency} notifications are sent at once.</p>
  *
  * @author Kervin Balibagoso
  * @version 1.0.0
@@ -23,32 +32,66 @@ import java.util.concurrent.ThreadPoolExecutor;
 @Configuration
 public class AsyncConfig implements AsyncConfigurer {
 
+    private static final String THREAD_NAME_PREFIX = "notification-";
+    private static final int CORE_POOL_SIZE = 5;
+    private static final int QUEUE_CAPACITY = 100;
+    private static final int AWAIT_TERMINATION_SECONDS = 60;
+
     /**
-     * Configure the thread pool executor for async tasks.
-     * Uses ThreadPoolExecutor.CallerRunsPolicy to handle rejections gracefully.
+     * Configure the executor for async tasks in the configured thread mode.
      *
+     * @param environment    the environment holding the thread mode
+     * @param maxConcurrency the maximum number of notifications sent at once
      * @return configured executor
      */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(Environment environment,
+                                 @Value("${notification.executor.max-concurrency:10}") int maxConcurrency) {
+        return Threading.VIRTUAL.isActive(environment)
+                ? virtualThreadExecutor(maxConcurrency)
+                : platformThreadExecutor(maxConcurrency);
+    }
+
+    /**
+     * Thread pool executor for platform thread mode.
+     * Uses ThreadPoolExecutor.CallerRunsPolicy to handle rejections gracefully.
+     */
+    private Executor platformThreadExecutor(int maxConcurrency) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("notification-");
+        executor.setCorePoolSize(Math.min(CORE_POOL_SIZE, maxConcurrency));
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(QUEUE_CAPACITY);
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(60);
+        executor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
 
         // Initialize the executor
         executor.initialize();
 
-        log.info("Async Task Executor initialized with core pool size: {}, max pool size: {}",
+        log.info("Async Task Executor initialized with platform threads, core pool size: {}, max pool size: {}",
                  executor.getCorePoolSize(), executor.getMaxPoolSize());
 
         return executor;
     }
 
+    /**
+     * Virtual thread executor for virtual thread mode.
+     * Once the concurrency limit is reached, submitting blocks until a running notification completes,
+     * which holds back the outbox dispatcher rather than piling up work for the senders.
+     */
+    private Executor virtualThreadExecutor(int maxConcurrency) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(maxConcurrency);
+        executor.setTaskTerminationTimeout(AWAIT_TERMINATION_SECONDS * 1000L);
+
+        log.info("Async Task Executor initialized with virtual threads, concurrency limit: {}",
+                 executor.getConcurrencyLimit());
+
+        return executor;
+    }
+
     /**
      * Handle exceptions thrown by async methods.
      *
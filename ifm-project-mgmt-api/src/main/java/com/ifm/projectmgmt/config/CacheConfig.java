@@ -0,0 +1,210 @@
+package com.ifm.projectmgmt.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.ifm.projectmgmt.datasource.ReadYourWritesCacheManager;
+import com.ifm.projectmgmt.datasource.ReadYourWritesTracker;
+import com.ifm.projectmgmt.dto.response.PagedResponse;
+import com.ifm.projectmgmt.dto.response.TaskResponse;
+import com.ifm.projectmgmt.service.TaskWriteGeneration;
+import com.ifm.projectmgmt.util.Constants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Configuration class for in-process caching.
+ * Backs the Spring cache abstraction with bounded, size-weighted Caffeine caches.
+ * Puts and evictions are deferred until the surrounding transaction commits,
+ * so a rolled-back write never invalidates or populates an entry. Puts of read-only transactions are not deferred:
+ * at commit they could land after the eviction of a write that committed meanwhile.
+ * With read replica routing, puts of data a lagging replica may have served are dropped.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Slf4j
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Rough fixed cost of a cached TaskResponse (object headers, boxed fields, dates).
+     */
+    private static final int TASK_RESPONSE_BASE_WEIGHT = 256;
+
+    @Value("${cache.task-by-id.ttl:5m}")
+    private Duration taskByIdTtl;
+
+    @Value("${cache.task-by-id.max-weight:16MB}")
+    private DataSize taskByIdMaxWeight;
+
+    @Value("${cache.task-search.ttl:5m}")
+    private Duration taskSearchTtl;
+
+    @Value("${cache.task-search.max-weight:32MB}")
+    private DataSize taskSearchMaxWeight;
+
+    @Value("${cache.task-count.ttl:5m}")
+    private Duration taskCountTtl;
+
+    @Value("${cache.task-count.max-size:10000}")
+    private long taskCountMaxSize;
+
+    /**
+     * Configure the cache manager with one Caffeine cache per cache name.
+     * Statistics are recorded so hit, miss and eviction counts are exported as metrics.
+     *
+     * @param readYourWritesTracker the recent-writer tracker, present with read replica routing
+     * @return transaction-aware cache manager
+     */
+    @Bean
+    public CacheManager cacheManager(ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+
+        cacheManager.registerCustomCache(Constants.CACHE_TASK_BY_ID,
+                Caffeine.newBuilder()
+                        .maximumWeight(taskByIdMaxWeight.toBytes())
+                        .weigher((Weigher<Object, Object>) (key, value) -> weighTaskResponse(value))
+                        .expireAfterWrite(taskByIdTtl)
+                        .recordStats()
+                        .build());
+
+        cacheManager.registerCustomCache(Constants.CACHE_TASK_SEARCH,
+                Caffeine.newBuilder()
+                        .maximumWeight(taskSearchMaxWeight.toBytes())
+                        .weigher((Weigher<Object, Object>) (key, value) -> weighPagedResponse(value))
+                        .expireAfterWrite(taskSearchTtl)
+                        .recordStats()
+                        .build());
+
+        cacheManager.registerCustomCache(Constants.CACHE_TASK_COUNT,
+                Caffeine.newBuilder()
+                        .maximumSize(taskCountMaxSize)
+                        .expireAfterWrite(taskCountTtl)
+                        .recordStats()
+                        .build());
+
+        log.info("Cache '{}' initialized with max weight: {} bytes, ttl: {}",
+                 Constants.CACHE_TASK_BY_ID, taskByIdMaxWeight.toBytes(), taskByIdTtl);
+        log.info("Cache '{}' initialized with max weight: {} bytes, ttl: {}",
+                 Constants.CACHE_TASK_SEARCH, taskSearchMaxWeight.toBytes(), taskSearchTtl);
+        log.info("Cache '{}' initialized with max size: {}, ttl: {}",
+                 Constants.CACHE_TASK_COUNT, taskCountMaxSize, taskCountTtl);
+
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        if (tracker != null) {
+            return new TransactionAwareCacheManager(new ReadYourWritesCacheManager(cacheManager, tracker));
+        }
+        return new TransactionAwareCacheManager(cacheManager);
+    }
+
+    /**
+     * Key generator for task searches.
+     * Stamps the full filter request with the current task write generation,
+     * so any committed task write invalidates all earlier search results at once.
+     *
+     * @param writeGeneration the task write-generation counter
+     * @return key generator
+     */
+    @Bean(Constants.CACHE_TASK_SEARCH_KEY_GENERATOR)
+    public KeyGenerator taskSearchKeyGenerator(TaskWriteGeneration writeGeneration) {
+        return (target, method, params) -> new SimpleKey(writeGeneration.current(), new SimpleKey(params));
+    }
+
+    /**
+     * Estimate the retained heap size of a cached task response in bytes.
+     *
+     * @param value the cached value
+     * @return approximate weight in bytes
+     */
+    static int weighTaskResponse(Object value) {
+        if (!(value instanceof TaskResponse task)) {
+            return TASK_RESPONSE_BASE_WEIGHT;
+        }
+        return TASK_RESPONSE_BASE_WEIGHT
+                + stringWeight(task.getName())
+                + stringWeight(task.getAssignee())
+                + stringWeight(task.getProjectName());
+    }
+
+    /**
+     * Estimate the retained heap size of a cached page of task responses in bytes.
+     *
+     * @param value the cached value
+     * @return approximate weight in bytes
+     */
+    static int weighPagedResponse(Object value) {
+        if (!(value instanceof PagedResponse<?> page) || page.getContent() == null) {
+            return TASK_RESPONSE_BASE_WEIGHT;
+        }
+        int weight = TASK_RESPONSE_BASE_WEIGHT;
+        for (Object item : page.getContent()) {
+            weight += weighTaskResponse(item);
+        }
+        return weight;
+    }
+
+    private static int stringWeight(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+
+    /**
+     * Cache manager proxy deferring puts and evictions until the surrounding read-write transaction commits.
+     * A read-only transaction puts what it read right away, so its put cannot follow the eviction of a write
+     * that committed while it was still open, which would keep the pre-write value for the whole TTL.
+     */
+    static class TransactionAwareCacheManager implements CacheManager {
+
+        private final CacheManager targetCacheManager;
+
+        TransactionAwareCacheManager(CacheManager targetCacheManager) {
+            this.targetCacheManager = targetCacheManager;
+        }
+
+        @Override
+        public Cache getCache(String name) {
+            Cache targetCache = targetCacheManager.getCache(name);
+            return targetCache != null ? new ReadOnlyPutCache(targetCache) : null;
+        }
+
+        @Override
+        public Collection<String> getCacheNames() {
+            return targetCacheManager.getCacheNames();
+        }
+    }
+
+    /**
+     * Transaction-aware cache whose puts in read-only transactions are not deferred.
+     */
+    private static class ReadOnlyPutCache extends TransactionAwareCacheDecorator {
+
+        ReadOnlyPutCache(Cache targetCache) {
+            super(targetCache);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                getTargetCache().put(key, value);
+            } else {
+                super.put(key, value);
+            }
+        }
+    }
+}
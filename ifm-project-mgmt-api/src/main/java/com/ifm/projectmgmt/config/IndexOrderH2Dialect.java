@@ -0,0 +1,19 @@
+package com.ifm.projectmgmt.config;
+
+import org.hibernate.dialect.H2Dialect;
+
+/**
+ * H2 dialect that renders ORDER BY items as expressions instead of select-list positions.
+ * H2 only reads a page straight off an index when every ORDER BY item names an index column;
+ * a position such as {@code ORDER BY t.due_date, 1} for the selected ID makes it sort the matches instead.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public class IndexOrderH2Dialect extends H2Dialect {
+
+    @Override
+    public boolean supportsOrdinalSelectItemReference() {
+        return false;
+    }
+}
@@ -0,0 +1,138 @@
+package com.ifm.projectmgmt.config;
+
+import com.ifm.projectmgmt.datasource.ReadWriteRoutingDataSource;
+import com.ifm.projectmgmt.datasource.ReadYourWritesFilter;
+import com.ifm.projectmgmt.datasource.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuration class for read replica routing, active when {@code read-replica.enabled} is true.
+ * Replaces the single connection pool with two: the primary pool, configured by {@code spring.datasource}, and a
+ * replica pool, configured by {@code read-replica}. {@code @Transactional(readOnly = true)} methods run on the
+ * replica, so a burst of list traffic can exhaust only the replica pool and never holds up writes.
+ * Both pools export their HikariCP metrics, tagged with the pool name.
+ *
+ * <p>A replica may lag behind the primary. Reads of a client that wrote within {@code read-replica.read-your-writes
+ * .window} are sent to the primary, so clients always see their own writes. Within the window of any write, data read
+ * from the replica is not cached, so the cache cannot hand a writer the data from before its write either.</p>
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "read-replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    private static final String PRIMARY_POOL_NAME = "primary";
+    private static final String REPLICA_POOL_NAME = "replica";
+
+    @Value("${read-replica.read-your-writes.window:5s}")
+    private Duration readYourWritesWindow;
+
+    @Value("${read-replica.read-your-writes.max-clients:100000}")
+    private long readYourWritesMaxClients;
+
+    /**
+     * Primary pool, for writes and non-transactional access.
+     * Sized by the usual {@code spring.datasource.hikari} properties.
+     *
+     * @param properties the {@code spring.datasource} properties
+     * @return primary pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                                                .type(HikariDataSource.class)
+                                                .build();
+        dataSource.setPoolName(PRIMARY_POOL_NAME);
+        return dataSource;
+    }
+
+    /**
+     * Replica pool, for read-only transactions. Sized by the {@code read-replica.hikari} properties.
+     *
+     * @param url      the replica JDBC URL
+     * @param username the replica username
+     * @param password the replica password
+     * @return replica pool
+     */
+    @Bean
+    @ConfigurationProperties("read-replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${read-replica.url}") String url,
+                                              @Value("${read-replica.username:}") String username,
+                                              @Value("${read-replica.password:}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                                                       .type(HikariDataSource.class)
+                                                       .url(url)
+                                                       .username(username)
+                                                       .password(password)
+                                                       .build();
+        dataSource.setPoolName(REPLICA_POOL_NAME);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Application DataSource routing each transaction to the primary or the replica pool.
+     *
+     * @param primary               the primary pool
+     * @param replica               the replica pool
+     * @param readYourWritesTracker the recent-writer tracker
+     * @param meterRegistry         the meter registry
+     * @return lazy routing DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                 @Qualifier("replicaDataSource") HikariDataSource replica,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 MeterRegistry meterRegistry) {
+        log.info("Routing read-only transactions to replica {}, read-your-writes window: {}",
+                 replica.getJdbcUrl(), readYourWritesWindow);
+        return ReadWriteRoutingDataSource.lazy(primary, replica, readYourWritesTracker, meterRegistry);
+    }
+
+    /**
+     * Tracker of clients that wrote within the read-your-writes window.
+     *
+     * @return read-your-writes tracker
+     */
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(readYourWritesWindow, readYourWritesMaxClients);
+    }
+
+    /**
+     * Register the read-your-writes filter ahead of all other filters,
+     * so every database access of a request sees its routing decision.
+     *
+     * @param readYourWritesTracker the recent-writer tracker
+     * @return filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            ReadYourWritesTracker readYourWritesTracker) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(readYourWritesTracker));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
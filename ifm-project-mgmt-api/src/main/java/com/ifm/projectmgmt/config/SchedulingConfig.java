@@ -0,0 +1,15 @@
+package com.ifm.projectmgmt.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class for scheduled background jobs.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,86 @@
+package com.ifm.projectmgmt.config;
+
+import com.ifm.projectmgmt.datasource.SqlObservingDataSource;
+import com.ifm.projectmgmt.datasource.SqlStatisticsFilter;
+import com.ifm.projectmgmt.datasource.SqlStatisticsIntegrator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration class for SQL statistics, active unless {@code sql-statistics.enabled} is false.
+ * Observes the application DataSource and Hibernate's load events, and records the SQL activity of every request
+ * as per-endpoint metrics. Statements slower than {@code sql-statistics.slow-query-threshold} are logged with their
+ * bind parameters.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sql-statistics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    /**
+     * Wrap the application DataSource, so every statement of the application runs through it.
+     * With a read replica this is the routing DataSource, so reads and writes are both observed, once.
+     *
+     * @param slowQueryThreshold executions taking at least this long are logged
+     * @return DataSource post-processor
+     */
+    @Bean
+    public static BeanPostProcessor sqlObservingDataSourcePostProcessor(
+            @Value("${sql-statistics.slow-query-threshold:500ms}") Duration slowQueryThreshold) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new SqlObservingDataSource(dataSource, slowQueryThreshold);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Register the integrator counting entity loads and collection fetches.
+     *
+     * @return Hibernate properties customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatisticsHibernatePropertiesCustomizer() {
+        IntegratorProvider integratorProvider = () -> List.of(new SqlStatisticsIntegrator());
+        return properties -> properties.put(JpaSettings.INTEGRATOR_PROVIDER, integratorProvider);
+    }
+
+    /**
+     * Register the SQL statistics filter right after the read-your-writes filter,
+     * so it encloses all database access of a request.
+     *
+     * @param meterRegistry  the meter registry
+     * @param warnStatements statement count above which a request is logged
+     * @return filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<SqlStatisticsFilter> sqlStatisticsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${sql-statistics.warn-statements:50}") long warnStatements) {
+        FilterRegistrationBean<SqlStatisticsFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatisticsFilter(meterRegistry, warnStatements));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
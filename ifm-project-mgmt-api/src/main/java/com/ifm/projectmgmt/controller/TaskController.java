@@ -1,26 +1,46 @@
 package com.ifm.projectmgmt.controller;
 
+import com.ifm.projectmgmt.dto.request.CreateTaskBatchRequest;
 import com.ifm.projectmgmt.dto.request.CreateTaskRequest;
 import com.ifm.projectmgmt.dto.request.TaskFilterRequest;
 import com.ifm.projectmgmt.dto.request.UpdateTaskRequest;
+import com.ifm.projectmgmt.dto.request.UpdateTaskStatusBatchRequest;
 import com.ifm.projectmgmt.dto.request.UpdateTaskStatusRequest;
 import com.ifm.projectmgmt.dto.response.PagedResponse;
+import com.ifm.projectmgmt.dto.response.TaskBatchResponse;
+import com.ifm.projectmgmt.dto.response.TaskImportResponse;
 import com.ifm.projectmgmt.dto.response.TaskResponse;
+import com.ifm.projectmgmt.dto.response.TaskStatusBatchResponse;
+import com.ifm.projectmgmt.dto.response.TaskSuggestion;
 import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.service.TaskExportService;
+import com.ifm.projectmgmt.service.TaskImportService;
 import com.ifm.projectmgmt.service.TaskService;
+import com.ifm.projectmgmt.util.AcceptEncodings;
 import com.ifm.projectmgmt.util.Constants;
+import com.ifm.projectmgmt.util.TaskETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * REST Controller for task management.
@@ -32,22 +52,28 @@ import java.time.LocalDate;
 @Slf4j
 @Tag(name = "Tasks", description = "Task management endpoints")
 @RestController
+@Validated
 @RequiredArgsConstructor
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final TaskExportService taskExportService;
 
     /**
      * Get all tasks with optional filters and sorting.
      *
-     * @param status    the status filter (optional)
-     * @param taskName  the task name filter for search/auto-suggest (optional, partial match)
-     * @param startDate the start date filter (optional)
-     * @param endDate   the end date filter (optional)
-     * @param sortBy    the field to sort by (priority or dueDate)
-     * @param order     the sort order (asc or desc)
-     * @param page      the page number
-     * @param size      the page size
+     * @param status     the status filter (optional)
+     * @param taskName   the task name filter for search/auto-suggest (optional, partial match)
+     * @param startDate  the start date filter (optional)
+     * @param endDate    the end date filter (optional)
+     * @param sortBy     the field to sort by (priority or dueDate)
+     * @param order      the sort order (asc or desc)
+     * @param page       the page number
+     * @param size       the page size
+     * @param pagination the pagination mode (offset or cursor)
+     * @param cursor     the cursor of the requested page (cursor mode only)
+     * @param total      the total count mode (exact, cached or none; offset mode only)
      * @return paged list of all tasks
      */
     @GetMapping(Constants.TASKS_PATH)
@@ -89,7 +115,23 @@ public class TaskController {
 
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20")
-            int size) {
+            int size,
+
+            @Parameter(description = "Pagination mode (offset or cursor). Cursor mode returns nextCursor/prevCursor " +
+                    "instead of page numbers and totals")
+            @RequestParam(defaultValue = Constants.PAGINATION_OFFSET)
+            @Pattern(regexp = Constants.PAGINATION_PATTERN, message = Constants.ERROR_INVALID_PAGINATION)
+            String pagination,
+
+            @Parameter(description = "Opaque cursor from a previous cursor page (implies cursor mode)")
+            @RequestParam(required = false)
+            String cursor,
+
+            @Parameter(description = "Total count mode for offset pages (exact, cached or none). " +
+                    "None skips the count query and omits totals; cached reuses a count until the next task write")
+            @RequestParam(defaultValue = Constants.TOTAL_EXACT)
+            @Pattern(regexp = Constants.TOTAL_PATTERN, message = Constants.ERROR_INVALID_TOTAL)
+            String total) {
 
         log.info("GET request to fetch all tasks with filters - status: {}, taskName: {}", status, taskName);
 
@@ -103,11 +145,87 @@ public class TaskController {
                                                            .order(order)
                                                            .page(page)
                                                            .size(size)
+                                                           .pagination(pagination)
+                                                           .cursor(cursor)
+                                                           .total(total)
                                                            .build();
 
         PagedResponse<TaskResponse> tasks = taskService.getAllTasks(filterRequest);
 
-        return ResponseEntity.ok(tasks);
+        // A page whose tag matches If-None-Match is answered with 304 and no body
+        return ResponseEntity.ok().eTag(TaskETags.ofPage(tasks)).body(tasks);
+    }
+
+    /**
+     * Export all tasks matching the filters as CSV or NDJSON, in ID order.
+     *
+     * @param status         the status filter (optional)
+     * @param taskName       the task name filter (optional, partial match)
+     * @param startDate      the start date filter (optional)
+     * @param endDate        the end date filter (optional)
+     * @param format         the file format (csv or ndjson)
+     * @param acceptEncoding the accepted content encodings; the file is gzipped if gzip is accepted
+     * @return the file, streamed as the tasks are read
+     */
+    @GetMapping(Constants.TASKS_PATH + "/export")
+    @Operation(
+            summary = "Export tasks",
+            description = "Stream every task matching the filters as CSV or NDJSON in ID order, without paging. " +
+                    "Rows are written while they are read from the database, so exports of any size use " +
+                    "constant memory. The file is gzipped on the fly when the client accepts gzip."
+    )
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "Status filter (PENDING, IN_PROGRESS, COMPLETED)")
+            @RequestParam(required = false)
+            TaskStatus status,
+
+            @Parameter(description = "Task name filter (partial match, case-insensitive)")
+            @RequestParam(required = false)
+            String taskName,
+
+            @Parameter(description = "Start date for filtering (yyyy-MM-dd)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate startDate,
+
+            @Parameter(description = "End date for filtering (yyyy-MM-dd)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate endDate,
+
+            @Parameter(description = "File format (csv or ndjson)")
+            @RequestParam(defaultValue = Constants.FORMAT_CSV)
+            String format,
+
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+            String acceptEncoding) {
+
+        log.info("GET request to export tasks as {} with filters - status: {}, taskName: {}", format, status, taskName);
+
+        TaskFilterRequest filterRequest = TaskFilterRequest.builder()
+                                                           .status(status)
+                                                           .taskName(taskName)
+                                                           .startDate(startDate)
+                                                           .endDate(endDate)
+                                                           .build();
+
+        String mediaType = taskExportService.checkExport(filterRequest, format);
+        boolean gzip = AcceptEncodings.acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = output -> taskExportService.exportTasks(filterRequest, format, gzip, output);
+
+        ContentDisposition attachment = ContentDisposition.attachment()
+                                                          .filename("tasks." + format.toLowerCase(Locale.ROOT))
+                                                          .build();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                                                            .contentType(MediaType.parseMediaType(mediaType))
+                                                            .header(HttpHeaders.CONTENT_DISPOSITION, attachment.toString())
+                                                            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     /**
@@ -115,7 +233,7 @@ public class TaskController {
      *
      * @param projectId the project ID
      * @param request   the create task request
-     * @return the created task
+     * @return the created task with its ETag
      */
     @PostMapping(Constants.PROJECTS_PATH + "/{projectId}/tasks")
     @Operation(summary = "Create a new task", description = "Create a new task for a specific project")
@@ -127,25 +245,82 @@ public class TaskController {
 
         TaskResponse task = taskService.createTask(projectId, request);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(task);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(TaskETags.of(task)).body(task);
     }
 
     /**
-     * Get tasks for a project with optional filters and sorting.
+     * Create several tasks for a project in one request.
      *
      * @param projectId the project ID
-     * @param startDate the start date filter (optional)
-     * @param endDate   the end date filter (optional)
-     * @param sortBy    the field to sort by (priority or dueDate)
-     * @param order     the sort order (asc or desc)
-     * @param page      the page number
-     * @param size      the page size
+     * @param request   the batch of create task requests
+     * @return IDs of the created tasks
+     */
+    @PostMapping(Constants.PROJECTS_PATH + "/{projectId}/tasks:batch")
+    @Operation(
+            summary = "Create tasks in batch",
+            description = "Create up to " + Constants.MAX_BATCH_SIZE + " tasks for a project in one transaction. " +
+                    "Each assignee receives one notification listing their new tasks."
+    )
+    public ResponseEntity<TaskBatchResponse> createTasks(
+            @PathVariable Long projectId,
+            @Valid @RequestBody CreateTaskBatchRequest request) {
+
+        log.info("POST request to create {} tasks for project id: {}", request.getTasks().size(), projectId);
+
+        TaskBatchResponse response = taskService.createTasks(projectId, request.getTasks());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Import tasks for a project from a CSV or NDJSON file.
+     *
+     * @param projectId   the project ID
+     * @param contentType the content type of the file
+     * @param content     the file content
+     * @return counts, throughput and the errors of rejected rows
+     * @throws IOException if the content cannot be read
+     */
+    @PostMapping(Constants.PROJECTS_PATH + "/{projectId}/tasks/import")
+    @Operation(
+            summary = "Import tasks from a file",
+            description = "Stream a CSV (" + Constants.MEDIA_TYPE_CSV + ", header row with name, priority, dueDate, " +
+                    "assignee) or NDJSON (" + Constants.MEDIA_TYPE_NDJSON + ", one task object per line) file " +
+                    "into a project. Rows are validated like single creates; invalid rows are reported and skipped. " +
+                    "Valid rows are committed in chunks, and no notifications are sent."
+    )
+    public ResponseEntity<TaskImportResponse> importTasks(
+            @PathVariable Long projectId,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream content) throws IOException {
+
+        log.info("POST request to import tasks for project id: {}, content type: {}", projectId, contentType);
+
+        TaskImportResponse response = taskImportService.importTasks(projectId, contentType, content);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get tasks for a project with optional filters and sorting.
+     *
+     * @param projectId  the project ID
+     * @param startDate  the start date filter (optional)
+     * @param endDate    the end date filter (optional)
+     * @param sortBy     the field to sort by (priority or dueDate)
+     * @param order      the sort order (asc or desc)
+     * @param page       the page number
+     * @param size       the page size
+     * @param pagination the pagination mode (offset or cursor)
+     * @param cursor     the cursor of the requested page (cursor mode only)
+     * @param total      the total count mode (exact, cached or none; offset mode only)
      * @return paged list of tasks
      */
     @GetMapping(Constants.PROJECTS_PATH + "/{projectId}/tasks")
     @Operation(
             summary = "Get tasks for a project",
-            description = "Retrieve tasks for a project with optional date range filter, sorting, and pagination"
+            description = "Retrieve tasks for a project with optional date range filter, sorting, and offset or " +
+                    "cursor (keyset) pagination"
     )
     public ResponseEntity<PagedResponse<TaskResponse>> getTasksForProject(
             @PathVariable Long projectId,
@@ -174,31 +349,110 @@ public class TaskController {
 
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20")
-            int size) {
+            int size,
+
+            @Parameter(description = "Pagination mode (offset or cursor). Cursor mode returns nextCursor/prevCursor " +
+                    "instead of page numbers and totals")
+            @RequestParam(defaultValue = Constants.PAGINATION_OFFSET)
+            @Pattern(regexp = Constants.PAGINATION_PATTERN, message = Constants.ERROR_INVALID_PAGINATION)
+            String pagination,
+
+            @Parameter(description = "Opaque cursor from a previous cursor page (implies cursor mode)")
+            @RequestParam(required = false)
+            String cursor,
+
+            @Parameter(description = "Total count mode for offset pages (exact, cached or none). " +
+                    "None skips the count query and omits totals; cached reuses a count until the next task write")
+            @RequestParam(defaultValue = Constants.TOTAL_EXACT)
+            @Pattern(regexp = Constants.TOTAL_PATTERN, message = Constants.ERROR_INVALID_TOTAL)
+            String total) {
 
         log.info("GET request to fetch tasks for project id: {}", projectId);
 
-        PagedResponse<TaskResponse> tasks = taskService.getTasksForProject(
-                projectId, startDate, endDate, sortBy, order, page, size
-        );
+        TaskFilterRequest filterRequest = TaskFilterRequest.builder()
+                                                           .startDate(startDate)
+                                                           .endDate(endDate)
+                                                           .sortBy(sortBy)
+                                                           .order(order)
+                                                           .page(page)
+                                                           .size(size)
+                                                           .pagination(pagination)
+                                                           .cursor(cursor)
+                                                           .total(total)
+                                                           .build();
+
+        PagedResponse<TaskResponse> tasks = taskService.getTasksForProject(projectId, filterRequest);
 
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok().eTag(TaskETags.ofPage(tasks)).body(tasks);
+    }
+
+    /**
+     * Suggest distinct task names for auto-suggest.
+     *
+     * @param q         the typed prefix
+     * @param projectId the project to suggest from (optional)
+     * @param limit     the maximum number of suggestions
+     * @return suggested names with the ID of their most recent task
+     */
+    @GetMapping(Constants.TASKS_PATH + "/suggest")
+    @Operation(
+            summary = "Suggest task names",
+            description = "Return distinct task names starting with the given prefix (case-insensitive), ranked by " +
+                    "how many tasks share the name and then by recency. Served from memory without a database query."
+    )
+    public ResponseEntity<List<TaskSuggestion>> suggestTaskNames(
+            @Parameter(description = "Name prefix")
+            @RequestParam(defaultValue = "")
+            String q,
+
+            @Parameter(description = "Project ID to restrict suggestions to (optional)")
+            @RequestParam(required = false)
+            Long projectId,
+
+            @Parameter(description = "Maximum number of suggestions (1-" + Constants.MAX_SUGGEST_LIMIT + ")")
+            @RequestParam(defaultValue = "" + Constants.DEFAULT_SUGGEST_LIMIT)
+            int limit) {
+
+        log.debug("GET request to suggest task names - q: {}, projectId: {}", q, projectId);
+
+        List<TaskSuggestion> suggestions = taskService.suggestTaskNames(q, projectId, limit);
+
+        return ResponseEntity.ok(suggestions);
     }
 
     /**
      * Get a task by ID.
+     * A conditional request whose If-None-Match still matches is answered with 304 from the task version alone.
      *
-     * @param id the task ID
-     * @return the task
+     * @param id          the task ID
+     * @param ifNoneMatch the entity tags the client holds (optional)
+     * @return the task with its ETag, or 304 Not Modified
      */
     @GetMapping(Constants.TASKS_PATH + "/{id}")
-    @Operation(summary = "Get task by ID", description = "Retrieve a specific task by its ID")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
+    @Operation(
+            summary = "Get task by ID",
+            description = "Retrieve a specific task by its ID. The ETag header identifies the task version; send it " +
+                    "back in If-None-Match to get 304 Not Modified while the task is unchanged."
+    )
+    public ResponseEntity<TaskResponse> getTaskById(
+            @PathVariable Long id,
+
+            @Parameter(description = "ETag of the client's copy of the task (optional)")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch) {
+
         log.info("GET request to fetch task with id: {}", id);
 
+        if (ifNoneMatch != null) {
+            String etag = taskService.getTaskETag(id);
+            if (TaskETags.matchesIfNoneMatch(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+
         TaskResponse task = taskService.getTaskById(id);
 
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok().eTag(TaskETags.of(task)).body(task);
     }
 
     /**
@@ -206,19 +460,52 @@ public class TaskController {
      *
      * @param id      the task ID
      * @param request the update task request
-     * @return the updated task
+     * @param ifMatch the ETag the update is based on (optional)
+     * @return the updated task with its new ETag
      */
     @PutMapping(Constants.TASKS_PATH + "/{id}")
-    @Operation(summary = "Update a task", description = "Update task details (supports partial updates)")
+    @Operation(
+            summary = "Update a task",
+            description = "Update task details (supports partial updates). With If-Match, the update is rejected " +
+                    "with 412 Precondition Failed if the task changed since that ETag was read."
+    )
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable Long id,
-            @Valid @RequestBody UpdateTaskRequest request) {
+            @Valid @RequestBody UpdateTaskRequest request,
+
+            @Parameter(description = "ETag of the task version the update is based on (optional)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            String ifMatch) {
 
         log.info("PUT request to update task with id: {}", id);
 
-        TaskResponse task = taskService.updateTask(id, request);
+        TaskResponse task = taskService.updateTask(id, request, ifMatch);
+
+        return ResponseEntity.ok().eTag(TaskETags.of(task)).body(task);
+    }
+
+    /**
+     * Update the status of several tasks at once.
+     * Each change carries the task version it was based on and succeeds or conflicts on its own.
+     *
+     * @param request the batch of versioned status changes
+     * @return per-change outcomes
+     */
+    @PatchMapping(Constants.TASKS_PATH + "/status")
+    @Operation(
+            summary = "Update task statuses in batch",
+            description = "Apply versioned status changes to several tasks. Each change is updated only if the task " +
+                    "version still matches; stale or unknown tasks are reported per item without rolling back the rest. " +
+                    "A batch may change each task only once."
+    )
+    public ResponseEntity<TaskStatusBatchResponse> updateTaskStatuses(
+            @Valid @RequestBody UpdateTaskStatusBatchRequest request) {
+
+        log.info("PATCH request to update status of {} tasks", request.getUpdates().size());
+
+        TaskStatusBatchResponse response = taskService.updateTaskStatuses(request.getUpdates());
 
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -226,19 +513,28 @@ public class TaskController {
      *
      * @param id      the task ID
      * @param request the update status request
-     * @return the updated task
+     * @param ifMatch the ETag the update is based on (optional)
+     * @return the updated task with its new ETag
      */
     @PatchMapping(Constants.TASKS_PATH + "/{id}/status")
-    @Operation(summary = "Update task status", description = "Update only the status of a task")
+    @Operation(
+            summary = "Update task status",
+            description = "Update only the status of a task. With If-Match, the update is rejected with " +
+                    "412 Precondition Failed if the task changed since that ETag was read."
+    )
     public ResponseEntity<TaskResponse> updateTaskStatus(
             @PathVariable Long id,
-            @Valid @RequestBody UpdateTaskStatusRequest request) {
+            @Valid @RequestBody UpdateTaskStatusRequest request,
+
+            @Parameter(description = "ETag of the task version the update is based on (optional)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            String ifMatch) {
 
         log.info("PATCH request to update task status with id: {}", id);
 
-        TaskResponse task = taskService.updateTaskStatus(id, request);
+        TaskResponse task = taskService.updateTaskStatus(id, request, ifMatch);
 
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok().eTag(TaskETags.of(task)).body(task);
     }
 
     /**
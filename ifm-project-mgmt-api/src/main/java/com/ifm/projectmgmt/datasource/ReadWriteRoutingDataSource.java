@@ -0,0 +1,82 @@
+package com.ifm.projectmgmt.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * DataSource sending read-only transactions to a replica and everything else to the primary.
+ * Reads of a thread pinned by the {@link ReadYourWritesTracker} stay on the primary; other reads are marked on the tracker
+ * as served by the replica.
+ *
+ * <p>The routing decision needs the transaction's read-only flag, which is only known once the transaction has begun,
+ * so this DataSource must be used through {@link #lazy(DataSource, DataSource, ReadYourWritesTracker, MeterRegistry)}:
+ * the proxy hands out a connection handle at transaction begin and picks the target on the first statement.
+ * The decision is made once per connection, so every transaction must get its own: a session held open across
+ * transactions, such as JPA's open-in-view, would run later write transactions on a replica connection.</p>
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Lookup keys of the two target DataSources.
+     */
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Counter pinnedReadsCounter;
+
+    private ReadWriteRoutingDataSource(DataSource primary,
+                                       DataSource replica,
+                                       ReadYourWritesTracker readYourWritesTracker,
+                                       MeterRegistry meterRegistry) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.pinnedReadsCounter = Counter.builder("datasource.routing.pinned.reads")
+                                         .description("Read-only connections sent to the primary for read-your-writes")
+                                         .register(meterRegistry);
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Create a routing DataSource wrapped in a lazy connection proxy.
+     *
+     * @param primary               the primary DataSource, for writes and non-transactional access
+     * @param replica               the replica DataSource, for read-only transactions
+     * @param readYourWritesTracker the tracker deciding which threads stay on the primary
+     * @param meterRegistry         the meter registry
+     * @return lazy routing DataSource
+     */
+    public static LazyConnectionDataSourceProxy lazy(DataSource primary,
+                                                     DataSource replica,
+                                                     ReadYourWritesTracker readYourWritesTracker,
+                                                     MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica, readYourWritesTracker, meterRegistry));
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.PRIMARY;
+        }
+        if (readYourWritesTracker.isPinnedToPrimary()) {
+            pinnedReadsCounter.increment();
+            return Route.PRIMARY;
+        }
+        readYourWritesTracker.markReplicaRead();
+        return Route.REPLICA;
+    }
+}
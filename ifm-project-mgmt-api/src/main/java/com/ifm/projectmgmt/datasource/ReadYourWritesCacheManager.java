@@ -0,0 +1,117 @@
+package com.ifm.projectmgmt.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache manager decorator keeping data of a possibly lagging replica out of the caches.
+ * A put is dropped when the current thread read from the replica while a write was in flight or within the
+ * read-your-writes window of one, so a write's eviction is never refilled with the data from before it.
+ * Without this, a write's own client, whose reads are pinned to the primary, would still be served the stale entry
+ * from the cache.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesCacheManager implements CacheManager {
+
+    private final CacheManager targetCacheManager;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    public Cache getCache(String name) {
+        Cache targetCache = targetCacheManager.getCache(name);
+        return targetCache != null ? new ReadYourWritesCache(targetCache) : null;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return targetCacheManager.getCacheNames();
+    }
+
+    /**
+     * Cache decorator dropping puts of possibly stale replica data.
+     */
+    @RequiredArgsConstructor
+    private class ReadYourWritesCache implements Cache {
+
+        private final Cache targetCache;
+
+        @Override
+        public String getName() {
+            return targetCache.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return targetCache.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return targetCache.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return targetCache.get(key, type);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            ValueWrapper cached = targetCache.get(key);
+            if (cached != null) {
+                return (T) cached.get();
+            }
+            T value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            put(key, value);
+            return value;
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            if (!readYourWritesTracker.mayHoldStaleReplicaData()) {
+                targetCache.put(key, value);
+            }
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            if (readYourWritesTracker.mayHoldStaleReplicaData()) {
+                return targetCache.get(key);
+            }
+            return targetCache.putIfAbsent(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            targetCache.evict(key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            return targetCache.evictIfPresent(key);
+        }
+
+        @Override
+        public void clear() {
+            targetCache.clear();
+        }
+
+        @Override
+        public boolean invalidate() {
+            return targetCache.invalidate();
+        }
+    }
+}
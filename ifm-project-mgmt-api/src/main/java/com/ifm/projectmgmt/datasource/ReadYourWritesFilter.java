@@ -0,0 +1,59 @@
+package com.ifm.projectmgmt.datasource;
+
+import com.ifm.projectmgmt.util.Constants;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Servlet filter giving each client read-your-writes consistency on top of replica reads.
+ * A client is identified by the {@code X-Client-Id} header, or by its remote address without one.
+ * Requests of a client that sent a write within the window are pinned to the primary, and every write request
+ * (any method other than GET, HEAD and OPTIONS) restarts the client's window, whatever its outcome.
+ * Write requests are also tracked while in flight, so replica reads of other clients can be kept out of the caches.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS =
+            Set.of(HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clientId = clientId(request);
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write) {
+            readYourWritesTracker.beginWrite();
+        }
+        if (readYourWritesTracker.isRecentWriter(clientId)) {
+            readYourWritesTracker.pinToPrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWritesTracker.release();
+            if (write) {
+                readYourWritesTracker.recordWrite(clientId);
+            }
+        }
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String clientId = request.getHeader(Constants.HEADER_CLIENT_ID);
+        return StringUtils.hasText(clientId) ? clientId : request.getRemoteAddr();
+    }
+}
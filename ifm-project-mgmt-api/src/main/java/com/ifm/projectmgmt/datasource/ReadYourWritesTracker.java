@@ -0,0 +1,111 @@
+package com.ifm.projectmgmt.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks which clients wrote recently, so their reads can be served by the primary instead of a lagging replica.
+ * A client counts as a recent writer for a fixed window after its last write. The decision for the request being
+ * handled is bound to the current thread, as is whether the request has read from the replica.
+ *
+ * <p>The window is also taken as the worst replication lag of the replica as a whole: while any write is in flight
+ * or finished within the window, data read from the replica may predate it.</p>
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public class ReadYourWritesTracker {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> READ_FROM_REPLICA = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+    private final long windowNanos;
+    private final AtomicInteger writesInFlight = new AtomicInteger();
+    private volatile long lastWriteNanos;
+
+    /**
+     * @param window     how long a client's reads go to the primary after its last write
+     * @param maxClients maximum number of recent writers tracked; the oldest are dropped first
+     */
+    public ReadYourWritesTracker(Duration window, long maxClients) {
+        this.recentWriters = Caffeine.newBuilder()
+                                     .expireAfterWrite(window)
+                                     .maximumSize(maxClients)
+                                     .build();
+        this.windowNanos = window.toNanos();
+        this.lastWriteNanos = System.nanoTime() - windowNanos;
+    }
+
+    /**
+     * Record the start of a write, which the replica may lag behind until {@link #recordWrite(String)}
+     * plus the window.
+     */
+    public void beginWrite() {
+        writesInFlight.incrementAndGet();
+    }
+
+    /**
+     * Record the end of a write by a client, restarting its window and the replica's.
+     *
+     * @param clientId the client ID
+     */
+    public void recordWrite(String clientId) {
+        recentWriters.put(clientId, Boolean.TRUE);
+        lastWriteNanos = System.nanoTime();
+        writesInFlight.decrementAndGet();
+    }
+
+    /**
+     * Check whether a client wrote within the window.
+     *
+     * @param clientId the client ID
+     * @return true if the client is a recent writer
+     */
+    public boolean isRecentWriter(String clientId) {
+        return recentWriters.getIfPresent(clientId) != null;
+    }
+
+    /**
+     * Route the read-only transactions of the current thread to the primary until {@link #release()}.
+     */
+    public void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    /**
+     * Let the read-only transactions of the current thread go to the replica again,
+     * and forget that the thread read from it.
+     */
+    public void release() {
+        PINNED_TO_PRIMARY.remove();
+        READ_FROM_REPLICA.remove();
+    }
+
+    /**
+     * Record that the current thread read from the replica.
+     */
+    public void markReplicaRead() {
+        READ_FROM_REPLICA.set(Boolean.TRUE);
+    }
+
+    /**
+     * Check whether the current thread may hold data that a lagging replica served from before a recent write.
+     *
+     * @return true if the thread read from the replica while a write was in flight or within the window of one
+     */
+    public boolean mayHoldStaleReplicaData() {
+        return READ_FROM_REPLICA.get() != null
+                && (writesInFlight.get() > 0 || System.nanoTime() - lastWriteNanos < windowNanos);
+    }
+
+    /**
+     * @return true if the current thread is pinned to the primary
+     */
+    public boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+}
@@ -0,0 +1,209 @@
+package com.ifm.projectmgmt.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSource observing every JDBC statement executed through its connections.
+ * Each execution is counted, with its duration, in the current {@link SqlStatistics} scope, and executions slower
+ * than the threshold are logged with their SQL and bind parameters.
+ * Connections and statements are wrapped in JDK proxies; all other calls go straight to the target.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Slf4j
+public class SqlObservingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final Set<String> BATCH_METHODS = Set.of("executeBatch", "executeLargeBatch");
+    private static final int MAX_LOGGED_VALUE_LENGTH = 100;
+    private static final ClassLoader PROXY_CLASS_LOADER = SqlObservingDataSource.class.getClassLoader();
+
+    private final long slowQueryThresholdNanos;
+
+    /**
+     * Create an observing DataSource.
+     *
+     * @param targetDataSource   the DataSource to observe
+     * @param slowQueryThreshold executions taking at least this long are logged
+     */
+    public SqlObservingDataSource(DataSource targetDataSource, Duration slowQueryThreshold) {
+        super(targetDataSource);
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return observe(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return observe(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection observe(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(PROXY_CLASS_LOADER, new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object identityMethod(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private static boolean isIdentityMethod(Method method) {
+        return method.getDeclaringClass() == Object.class && !method.getName().equals("toString");
+    }
+
+    /**
+     * Hands out observed statements.
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identityMethod(proxy, method, args);
+            }
+            Object result = invokeTarget(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> observe((Statement) result, Statement.class, null);
+                case "prepareStatement" -> observe((Statement) result, PreparedStatement.class, (String) args[0]);
+                case "prepareCall" -> observe((Statement) result, CallableStatement.class, (String) args[0]);
+                default -> result;
+            };
+        }
+
+        private Statement observe(Statement statement, Class<? extends Statement> type, String sql) {
+            return (Statement) Proxy.newProxyInstance(PROXY_CLASS_LOADER, new Class<?>[]{type},
+                    new StatementHandler(statement, sql));
+        }
+    }
+
+    /**
+     * Times executions and records the bind parameters of the statement.
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final Map<Integer, Object> parameters = new TreeMap<>();
+        private int batchSize;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identityMethod(proxy, method, args);
+            }
+            String name = method.getName();
+            if (EXECUTE_METHODS.contains(name)) {
+                return execute(method, args);
+            }
+            if (preparedSql != null && name.startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer index) {
+                parameters.put(index, args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.equals("addBatch")) {
+                batchSize++;
+            } else if (name.equals("clearBatch")) {
+                batchSize = 0;
+            }
+            return invokeTarget(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                return invokeTarget(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                SqlStatistics.recordStatement(elapsed);
+                if (elapsed >= slowQueryThresholdNanos) {
+                    logSlowStatement(elapsed, args != null && args.length > 0 && args[0] instanceof String sql
+                            ? sql : preparedSql, BATCH_METHODS.contains(method.getName()));
+                }
+                if (BATCH_METHODS.contains(method.getName())) {
+                    batchSize = 0;
+                }
+            }
+        }
+
+        private void logSlowStatement(long elapsedNanos, String sql, boolean batch) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            if (batch) {
+                log.warn("Slow SQL batch of {} statements took {} ms: {} | last parameters: {}",
+                         batchSize, millis, sql, formatParameters());
+            } else {
+                log.warn("Slow SQL statement took {} ms: {} | parameters: {}", millis, sql, formatParameters());
+            }
+        }
+
+        private String formatParameters() {
+            StringJoiner joiner = new StringJoiner(", ", "[", "]");
+            parameters.forEach((index, value) -> joiner.add(index + "=" + formatValue(value)));
+            return joiner.toString();
+        }
+
+        private String formatValue(Object value) {
+            if (value == null) {
+                return "null";
+            }
+            if (value instanceof byte[] bytes) {
+                return "<" + bytes.length + " bytes>";
+            }
+            if (value instanceof InputStream || value instanceof Reader) {
+                return "<stream>";
+            }
+            String text = value.toString();
+            if (text.length() > MAX_LOGGED_VALUE_LENGTH) {
+                text = text.substring(0, MAX_LOGGED_VALUE_LENGTH) + "...";
+            }
+            return value instanceof CharSequence ? "'" + text + "'" : text;
+        }
+    }
+}
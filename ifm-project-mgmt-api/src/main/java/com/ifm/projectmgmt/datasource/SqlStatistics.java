@@ -0,0 +1,116 @@
+package com.ifm.projectmgmt.datasource;
+
+import java.time.Duration;
+
+/**
+ * SQL activity of a unit of work, such as one HTTP request: JDBC statements executed, time spent executing them,
+ * entities loaded and collections fetched by Hibernate.
+ * Activity is counted on the thread doing the work while a scope opened by {@link #begin()} is current.
+ * Scopes nest: closing a scope adds its counts to the enclosing one.
+ *
+ * <p>A JDBC batch counts as one statement, as it is sent in one round trip.</p>
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public final class SqlStatistics implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatistics parent;
+    private long statements;
+    private long jdbcNanos;
+    private long entitiesLoaded;
+    private long collectionsFetched;
+    private boolean closed;
+
+    private SqlStatistics(SqlStatistics parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Open a scope counting the SQL activity of the current thread until it is closed.
+     *
+     * @return the new scope
+     */
+    public static SqlStatistics begin() {
+        SqlStatistics statistics = new SqlStatistics(CURRENT.get());
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    static void recordStatement(long nanos) {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statements++;
+            statistics.jdbcNanos += nanos;
+        }
+    }
+
+    static void recordEntityLoad() {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.entitiesLoaded++;
+        }
+    }
+
+    static void recordCollectionFetch() {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.collectionsFetched++;
+        }
+    }
+
+    /**
+     * Close this scope and make the enclosing scope current again.
+     *
+     * @throws IllegalStateException if a scope opened inside this one is still open
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        if (CURRENT.get() != this) {
+            throw new IllegalStateException("SQL statistics scopes must be closed in reverse order of opening");
+        }
+        closed = true;
+        if (parent == null) {
+            CURRENT.remove();
+            return;
+        }
+        CURRENT.set(parent);
+        parent.statements += statements;
+        parent.jdbcNanos += jdbcNanos;
+        parent.entitiesLoaded += entitiesLoaded;
+        parent.collectionsFetched += collectionsFetched;
+    }
+
+    /**
+     * @return JDBC statements and batches executed
+     */
+    public long getStatements() {
+        return statements;
+    }
+
+    /**
+     * @return time spent executing JDBC statements
+     */
+    public Duration getJdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+
+    /**
+     * @return entities loaded by Hibernate
+     */
+    public long getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    /**
+     * @return collections fetched by Hibernate
+     */
+    public long getCollectionsFetched() {
+        return collectionsFetched;
+    }
+}
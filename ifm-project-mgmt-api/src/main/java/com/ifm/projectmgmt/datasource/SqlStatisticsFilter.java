@@ -0,0 +1,79 @@
+package com.ifm.projectmgmt.datasource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Servlet filter recording the SQL activity of each request per endpoint, tagged with the HTTP method and the
+ * matched URI pattern: JDBC statements, JDBC time, entities loaded and collections fetched.
+ * A request executing more statements than the warning limit is logged, which is how an N+1 query shows up.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final long warnStatements;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatistics statistics = SqlStatistics.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statistics.close();
+            record(request, statistics);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("http.sql.statements")
+                           .description("JDBC statements and batches executed per request")
+                           .tags(tags)
+                           .register(meterRegistry)
+                           .record(statistics.getStatements());
+        DistributionSummary.builder("http.sql.entities.loaded")
+                           .description("Entities loaded by Hibernate per request")
+                           .tags(tags)
+                           .register(meterRegistry)
+                           .record(statistics.getEntitiesLoaded());
+        DistributionSummary.builder("http.sql.collections.fetched")
+                           .description("Collections fetched by Hibernate per request")
+                           .tags(tags)
+                           .register(meterRegistry)
+                           .record(statistics.getCollectionsFetched());
+        Timer.builder("http.sql.time")
+             .description("Time spent executing JDBC statements per request")
+             .tags(tags)
+             .register(meterRegistry)
+             .record(statistics.getJdbcTime());
+
+        if (statistics.getStatements() > warnStatements) {
+            log.warn("{} {} executed {} SQL statements ({} entities loaded, {} collections fetched)",
+                     request.getMethod(), uri, statistics.getStatements(), statistics.getEntitiesLoaded(),
+                     statistics.getCollectionsFetched());
+        }
+    }
+}
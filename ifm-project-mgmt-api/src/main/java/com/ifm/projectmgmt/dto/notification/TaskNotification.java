@@ -0,0 +1,43 @@
+package com.ifm.projectmgmt.dto.notification;
+
+import com.ifm.projectmgmt.entity.TaskStatus;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Snapshot of a task as stored in a notification outbox payload.
+ * Captured inside the write transaction so the dispatcher never touches the managed entity.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskNotification {
+
+    private Long taskId;
+
+    private String taskName;
+
+    private Integer priority;
+
+    private LocalDate dueDate;
+
+    private TaskStatus status;
+
+    /**
+     * Status before the change (status change notifications only).
+     */
+    private TaskStatus previousStatus;
+
+    private String projectName;
+
+    /**
+     * Description of what changed (update notifications only).
+     */
+    private String changes;
+}
@@ -0,0 +1,27 @@
+package com.ifm.projectmgmt.dto.request;
+
+import com.ifm.projectmgmt.util.Constants;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO for creating several tasks of a project in one request.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateTaskBatchRequest {
+
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = Constants.MAX_BATCH_SIZE, message = "A batch must not exceed " + Constants.MAX_BATCH_SIZE + " tasks")
+    private List<@Valid CreateTaskRequest> tasks;
+}
@@ -1,6 +1,7 @@
 package com.ifm.projectmgmt.dto.request;
 
 import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.util.Constants;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
@@ -39,4 +40,12 @@ public class TaskFilterRequest {
     @Min(value = 1, message = "Page size must be at least 1")
     @Max(value = 100, message = "Page size must not exceed 100")
     private int size;
+
+    @Pattern(regexp = Constants.PAGINATION_PATTERN, message = Constants.ERROR_INVALID_PAGINATION)
+    private String pagination;
+
+    private String cursor;
+
+    @Pattern(regexp = Constants.TOTAL_PATTERN, message = Constants.ERROR_INVALID_TOTAL)
+    private String total;
 }
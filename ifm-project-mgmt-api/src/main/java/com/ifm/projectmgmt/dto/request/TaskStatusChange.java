@@ -0,0 +1,28 @@
+package com.ifm.projectmgmt.dto.request;
+
+import com.ifm.projectmgmt.entity.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * DTO for one versioned status change in a batch status update.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusChange {
+
+    @NotNull(message = "Task ID is required")
+    private Long id;
+
+    @NotNull(message = "Version is required")
+    private Long version;
+
+    @NotNull(message = "Status is required")
+    private TaskStatus status;
+}
@@ -1,11 +1,13 @@
 package com.ifm.projectmgmt.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.util.List;
 
 /**
  * Generic DTO for paginated responses.
+ * Offset pages carry page numbers and totals; cursor pages carry opaque next/previous cursors instead.
  *
  * @param <T> the type of content in the page
  * @author Kervin Balibagoso
@@ -16,15 +18,16 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PagedResponse<T> {
 
     private List<T> content;
 
-    private long totalElements;
+    private Long totalElements;
 
-    private int totalPages;
+    private Integer totalPages;
 
-    private int currentPage;
+    private Integer currentPage;
 
     private int pageSize;
 
@@ -34,6 +37,10 @@ public class PagedResponse<T> {
 
     private boolean empty;
 
+    private String nextCursor;
+
+    private String prevCursor;
+
     /**
      * Create a paged response from Spring Data Page object.
      *
@@ -53,4 +60,46 @@ public class PagedResponse<T> {
                             .empty(page.isEmpty())
                             .build();
     }
+
+    /**
+     * Create a paged response from a Spring Data Slice object.
+     * Totals are omitted because a slice is fetched without a count query.
+     *
+     * @param slice the Spring Data Slice
+     * @param <T>   the content type
+     * @return paged response
+     */
+    public static <T> PagedResponse<T> ofSlice(org.springframework.data.domain.Slice<T> slice) {
+        return PagedResponse.<T>builder()
+                            .content(slice.getContent())
+                            .currentPage(slice.getNumber())
+                            .pageSize(slice.getSize())
+                            .first(slice.isFirst())
+                            .last(!slice.hasNext())
+                            .empty(slice.isEmpty())
+                            .build();
+    }
+
+    /**
+     * Create a keyset (cursor) paged response.
+     * No totals or page numbers are included, since computing them would defeat keyset pagination.
+     *
+     * @param content    the page content
+     * @param pageSize   the requested page size
+     * @param nextCursor the cursor of the next page, or null if this is the last page
+     * @param prevCursor the cursor of the previous page, or null if this is the first page
+     * @param <T>        the content type
+     * @return paged response
+     */
+    public static <T> PagedResponse<T> ofCursor(List<T> content, int pageSize, String nextCursor, String prevCursor) {
+        return PagedResponse.<T>builder()
+                            .content(content)
+                            .pageSize(pageSize)
+                            .first(prevCursor == null)
+                            .last(nextCursor == null)
+                            .empty(content.isEmpty())
+                            .nextCursor(nextCursor)
+                            .prevCursor(prevCursor)
+                            .build();
+    }
 }
@@ -1,6 +1,7 @@
 package com.ifm.projectmgmt.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.ifm.projectmgmt.entity.Project;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -31,4 +32,22 @@ public class ProjectResponse {
 
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime updatedAt;
+
+    /**
+     * Create a project response from a project entity.
+     * The task count is read from the maintained column, so no per-project count query is issued.
+     *
+     * @param project the project entity
+     * @return project response
+     */
+    public static ProjectResponse from(Project project) {
+        return ProjectResponse.builder()
+                              .id(project.getId())
+                              .name(project.getName())
+                              .description(project.getDescription())
+                              .taskCount(project.getTaskCount())
+                              .createdAt(project.getCreatedAt())
+                              .updatedAt(project.getUpdatedAt())
+                              .build();
+    }
 }
@@ -0,0 +1,25 @@
+package com.ifm.projectmgmt.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a batch task creation.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchResponse {
+
+    private Long projectId;
+
+    private Integer createdCount;
+
+    private List<Long> taskIds;
+}
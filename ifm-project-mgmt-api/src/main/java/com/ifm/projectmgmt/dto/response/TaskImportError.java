@@ -0,0 +1,24 @@
+package com.ifm.projectmgmt.dto.response;
+
+import lombok.*;
+
+/**
+ * DTO for a row rejected by a task import.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportError {
+
+    /**
+     * Line of the file the row starts on (1-based, the CSV header is line 1).
+     */
+    private Long line;
+
+    private String message;
+}
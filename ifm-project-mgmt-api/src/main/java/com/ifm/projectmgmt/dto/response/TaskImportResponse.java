@@ -0,0 +1,51 @@
+package com.ifm.projectmgmt.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a streaming task import.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportResponse {
+
+    private Long projectId;
+
+    private String format;
+
+    /**
+     * Rows read from the file, imported or not.
+     */
+    private Long rowsRead;
+
+    private Long importedCount;
+
+    private Long rejectedCount;
+
+    /**
+     * True if the file could not be read to the end; rows after the error were not read.
+     */
+    private boolean aborted;
+
+    private Long durationMillis;
+
+    private Double rowsPerSecond;
+
+    /**
+     * Errors of the rejected rows, up to the configured maximum.
+     */
+    private List<TaskImportError> errors;
+
+    /**
+     * True if more rows were rejected than errors are listed.
+     */
+    private boolean errorsTruncated;
+}
@@ -1,6 +1,7 @@
 package com.ifm.projectmgmt.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.ifm.projectmgmt.entity.Task;
 import com.ifm.projectmgmt.entity.TaskStatus;
 import lombok.*;
 
@@ -37,9 +38,34 @@ public class TaskResponse {
 
     private String projectName;
 
+    private Long version;
+
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime createdAt;
 
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime updatedAt;
+
+    /**
+     * Create a task response from a task entity.
+     * Reads the project's ID and name, so the project must be loaded or its proxy initializable.
+     *
+     * @param task the task entity
+     * @return task response
+     */
+    public static TaskResponse from(Task task) {
+        return TaskResponse.builder()
+                           .id(task.getId())
+                           .name(task.getName())
+                           .priority(task.getPriority())
+                           .dueDate(task.getDueDate())
+                           .assignee(task.getAssignee())
+                           .status(task.getStatus())
+                           .projectId(task.getProject().getId())
+                           .projectName(task.getProject().getName())
+                           .version(task.getVersion())
+                           .createdAt(task.getCreatedAt())
+                           .updatedAt(task.getUpdatedAt())
+                           .build();
+    }
 }
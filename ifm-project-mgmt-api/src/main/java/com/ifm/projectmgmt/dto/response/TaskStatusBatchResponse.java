@@ -0,0 +1,28 @@
+package com.ifm.projectmgmt.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a batch status update.
+ * Every change is applied or rejected on its own; results are in request order.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusBatchResponse {
+
+    private Integer updatedCount;
+
+    private Integer conflictCount;
+
+    private Integer notFoundCount;
+
+    private List<TaskStatusResult> results;
+}
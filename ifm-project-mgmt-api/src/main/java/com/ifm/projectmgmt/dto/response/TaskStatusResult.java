@@ -0,0 +1,35 @@
+package com.ifm.projectmgmt.dto.response;
+
+import lombok.*;
+
+/**
+ * DTO for the outcome of one status change in a batch status update.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusResult {
+
+    /**
+     * Outcome of a single versioned status change.
+     */
+    public enum Outcome {
+        UPDATED,
+        CONFLICT,
+        NOT_FOUND
+    }
+
+    private Long id;
+
+    private Outcome outcome;
+
+    /**
+     * The new version if updated, otherwise the current version (null if not found).
+     */
+    private Long version;
+}
@@ -0,0 +1,30 @@
+package com.ifm.projectmgmt.dto.response;
+
+import lombok.*;
+
+/**
+ * DTO for a task name auto-suggest entry.
+ * Tasks sharing a name (case-insensitively) are collapsed into one suggestion.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSuggestion {
+
+    private String name;
+
+    /**
+     * ID of the most recently created task with this name.
+     */
+    private Long taskId;
+
+    /**
+     * Number of tasks with this name.
+     */
+    private int taskCount;
+}
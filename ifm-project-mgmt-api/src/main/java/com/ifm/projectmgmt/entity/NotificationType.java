@@ -0,0 +1,16 @@
+package com.ifm.projectmgmt.entity;
+
+/**
+ * Enum representing the kind of notification stored in the notification outbox.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public enum NotificationType {
+    TASK_CREATED,
+    TASKS_CREATED,
+    TASK_UPDATED,
+    TASK_STATUS_CHANGED,
+    TASK_STATUSES_CHANGED,
+    TASK_DIGEST
+}
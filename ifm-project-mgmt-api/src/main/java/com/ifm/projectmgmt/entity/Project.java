@@ -2,6 +2,7 @@ package com.ifm.projectmgmt.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -36,6 +37,14 @@ public class Project {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    /**
+     * Number of tasks in this project, maintained by atomic increments in the task write paths.
+     * Never written through the entity, so a stale in-memory value cannot overwrite it.
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long taskCount;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
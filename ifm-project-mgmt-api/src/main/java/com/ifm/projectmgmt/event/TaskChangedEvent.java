@@ -0,0 +1,127 @@
+package com.ifm.projectmgmt.event;
+
+import com.ifm.projectmgmt.dto.response.TaskResponse;
+import com.ifm.projectmgmt.entity.Task;
+import com.ifm.projectmgmt.entity.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable description of a committed change to one task.
+ * Published by TaskService inside the write transaction and handed to TaskEventBus once the transaction commits,
+ * so consumers only ever see committed changes and never touch a managed entity.
+ *
+ * @param type      the kind of change
+ * @param taskId    the task ID
+ * @param projectId the project ID
+ * @param version   the task version the change committed with (the last version for deletes)
+ * @param before    the task values before the change, null for creates
+ * @param after     the task values after the change, null for deletes
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public record TaskChangedEvent(ChangeType type, Long taskId, Long projectId, Long version,
+                               TaskState before, TaskState after) {
+
+    /**
+     * Kind of task change.
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * Create an event for a newly persisted task.
+     *
+     * @param task the created task
+     * @return created event
+     */
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(ChangeType.CREATED, task.getId(), task.getProject().getId(), task.getVersion(),
+                                    null, TaskState.of(task));
+    }
+
+    /**
+     * Create an event for a modified task.
+     * The task must already be flushed, so its version is the incremented one the change commits with.
+     *
+     * @param before the task values before the change
+     * @param task   the modified task, already flushed
+     * @return updated event
+     */
+    public static TaskChangedEvent updated(TaskState before, Task task) {
+        return new TaskChangedEvent(ChangeType.UPDATED, task.getId(), task.getProject().getId(),
+                                    task.getVersion(), before, TaskState.of(task));
+    }
+
+    /**
+     * Create an event for a status change applied by a versioned batch update.
+     *
+     * @param task       the task as read before the update
+     * @param status     the new status
+     * @param newVersion the version written by the update
+     * @return updated event
+     */
+    public static TaskChangedEvent statusChanged(TaskResponse task, TaskStatus status, Long newVersion) {
+        TaskState before = TaskState.of(task);
+        return new TaskChangedEvent(ChangeType.UPDATED, task.getId(), task.getProjectId(), newVersion,
+                                    before, before.withStatus(status));
+    }
+
+    /**
+     * Create an event for a deleted task.
+     *
+     * @param task the deleted task
+     * @return deleted event
+     */
+    public static TaskChangedEvent deleted(Task task) {
+        return new TaskChangedEvent(ChangeType.DELETED, task.getId(), task.getProject().getId(), task.getVersion(),
+                                    TaskState.of(task), null);
+    }
+
+    /**
+     * Values of a task at one point in time.
+     *
+     * @param name     the task name
+     * @param priority the priority
+     * @param dueDate  the due date
+     * @param status   the status
+     * @param assignee the assignee
+     */
+    public record TaskState(String name, Integer priority, LocalDate dueDate, TaskStatus status, String assignee) {
+
+        /**
+         * Capture the current values of a task entity.
+         *
+         * @param task the task
+         * @return task state
+         */
+        public static TaskState of(Task task) {
+            return new TaskState(task.getName(), task.getPriority(), task.getDueDate(), task.getStatus(),
+                                 task.getAssignee());
+        }
+
+        /**
+         * Capture the values of a task response.
+         *
+         * @param task the task response
+         * @return task state
+         */
+        public static TaskState of(TaskResponse task) {
+            return new TaskState(task.getName(), task.getPriority(), task.getDueDate(), task.getStatus(),
+                                 task.getAssignee());
+        }
+
+        /**
+         * Copy of this state with another status.
+         *
+         * @param status the new status
+         * @return task state
+         */
+        public TaskState withStatus(TaskStatus status) {
+            return new TaskState(name, priority, dueDate, status, assignee);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.ifm.projectmgmt.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process bus delivering committed task changes to every TaskEventConsumer.
+ * Events are received after the publishing transaction commits and written to a pre-allocated ring buffer.
+ * Every consumer reads the buffer on its own thread and tracks its own sequence, so consumers progress
+ * independently and never block the publishing request thread while they keep up.
+ *
+ * <p>Publishers claim slots with a single atomic increment. A slot is reused only once every consumer has
+ * passed it: when the slowest consumer is a whole buffer behind, publishers wait (backpressure) instead of
+ * dropping events. Events published while the bus is stopped are discarded; consumers that keep state
+ * rebuild it from the database at startup.</p>
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class TaskEventBus implements SmartLifecycle {
+
+    private static final int SPIN_TRIES = 100;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<TaskChangedEvent> slots;
+    private final AtomicLongArray publishedSequences;
+    private final AtomicLong claimedSequence = new AtomicLong(-1);
+    private final List<ConsumerWorker> workers;
+
+    private final Counter publishedCounter;
+    private final Counter backpressureCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+
+    public TaskEventBus(List<TaskEventConsumer> consumers,
+                        MeterRegistry meterRegistry,
+                        @Value("${task-events.ring-buffer-size:1024}") int ringBufferSize) {
+        if (Integer.bitCount(ringBufferSize) != 1) {
+            throw new IllegalArgumentException("Task event ring buffer size must be a power of two: "
+                                                       + ringBufferSize);
+        }
+
+        this.capacity = ringBufferSize;
+        this.mask = ringBufferSize - 1;
+        this.slots = new AtomicReferenceArray<>(ringBufferSize);
+        this.publishedSequences = new AtomicLongArray(ringBufferSize);
+        for (int i = 0; i < ringBufferSize; i++) {
+            publishedSequences.set(i, -1);
+        }
+        this.workers = consumers.stream().map(ConsumerWorker::new).toList();
+
+        this.publishedCounter = Counter.builder("task.events.published")
+                                       .description("Committed task changes published to the event bus")
+                                       .register(meterRegistry);
+        this.backpressureCounter = Counter.builder("task.events.backpressure")
+                                          .description("Publishes that waited for the slowest consumer")
+                                          .register(meterRegistry);
+        this.failedCounter = Counter.builder("task.events.failed")
+                                    .description("Task events a consumer failed to handle")
+                                    .register(meterRegistry);
+        for (ConsumerWorker worker : workers) {
+            Gauge.builder("task.events.lag", worker, w -> claimedSequence.get() - w.sequence.get())
+                 .description("Task events published but not yet handled by the consumer")
+                 .tag("consumer", worker.consumer.consumerName())
+                 .register(meterRegistry);
+        }
+
+        log.info("Task event bus initialized with ring buffer size: {}, consumers: {}",
+                 ringBufferSize, consumers.stream().map(TaskEventConsumer::consumerName).toList());
+    }
+
+    /**
+     * Publish a task change once its transaction has committed.
+     *
+     * @param event the committed task change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        publish(event);
+    }
+
+    /**
+     * Write an event to the ring buffer, waiting while the slowest consumer is a whole buffer behind.
+     *
+     * @param event the task change
+     */
+    public void publish(TaskChangedEvent event) {
+        if (!running) {
+            log.debug("Task event bus stopped, discarding event for task id: {}", event.taskId());
+            return;
+        }
+
+        long sequence = claimedSequence.incrementAndGet();
+        long wrapPoint = sequence - capacity;
+        if (wrapPoint > minConsumerSequence()) {
+            backpressureCounter.increment();
+            Backoff backoff = new Backoff();
+            while (wrapPoint > minConsumerSequence()) {
+                backoff.idle();
+            }
+        }
+
+        int index = (int) (sequence & mask);
+        slots.set(index, event);
+        publishedSequences.lazySet(index, sequence);
+        publishedCounter.increment();
+    }
+
+    /**
+     * Get how many events a consumer has not handled yet.
+     *
+     * @param consumerName the consumer name
+     * @return number of events behind the latest published one
+     */
+    public long lag(String consumerName) {
+        return workers.stream()
+                      .filter(worker -> worker.consumer.consumerName().equals(consumerName))
+                      .mapToLong(worker -> claimedSequence.get() - worker.sequence.get())
+                      .findFirst()
+                      .orElse(0);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        workers.forEach(ConsumerWorker::start);
+    }
+
+    /**
+     * Stop accepting events and let every consumer drain what was already published.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MILLIS;
+        for (ConsumerWorker worker : workers) {
+            try {
+                worker.thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (worker.thread.isAlive()) {
+                log.warn("Task event consumer {} did not drain within {} ms, lag: {}",
+                         worker.consumer.consumerName(), SHUTDOWN_TIMEOUT_MILLIS,
+                         claimedSequence.get() - worker.sequence.get());
+                worker.thread.interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private long minConsumerSequence() {
+        long min = Long.MAX_VALUE;
+        for (ConsumerWorker worker : workers) {
+            min = Math.min(min, worker.sequence.get());
+        }
+        return min;
+    }
+
+    /**
+     * Reads the ring buffer for one consumer on a dedicated thread.
+     */
+    private final class ConsumerWorker implements Runnable {
+
+        private final TaskEventConsumer consumer;
+        private final AtomicLong sequence = new AtomicLong(-1);
+        private Thread thread;
+
+        private ConsumerWorker(TaskEventConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        private void start() {
+            thread = Thread.ofPlatform()
+                           .name("task-events-" + consumer.consumerName())
+                           .daemon(true)
+                           .start(this);
+        }
+
+        @Override
+        public void run() {
+            Backoff backoff = new Backoff();
+            long next = sequence.get() + 1;
+
+            while (!Thread.currentThread().isInterrupted()) {
+                int index = (int) (next & mask);
+                if (publishedSequences.get(index) != next) {
+                    if (!running && next > claimedSequence.get()) {
+                        return;
+                    }
+                    backoff.idle();
+                    continue;
+                }
+
+                TaskChangedEvent event = slots.get(index);
+                try {
+                    consumer.onTaskChanged(event);
+                } catch (RuntimeException e) {
+                    failedCounter.increment();
+                    log.error("Task event consumer {} failed on {} event for task id: {}",
+                              consumer.consumerName(), event.type(), event.taskId(), e);
+                }
+
+                sequence.lazySet(next);
+                next++;
+                backoff.reset();
+            }
+        }
+    }
+
+    /**
+     * Spin briefly, then park with a growing delay up to one millisecond.
+     */
+    private static final class Backoff {
+
+        private int tries;
+
+        private void idle() {
+            if (tries < SPIN_TRIES) {
+                tries++;
+                Thread.onSpinWait();
+            } else {
+                long parkNanos = Math.min(MAX_PARK_NANOS, 1_000L << Math.min(tries++ - SPIN_TRIES, 10));
+                LockSupport.parkNanos(parkNanos);
+            }
+        }
+
+        private void reset() {
+            tries = 0;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.ifm.projectmgmt.event;
+
+/**
+ * Consumer of committed task changes, registered with TaskEventBus.
+ * Each consumer runs on its own thread and receives every event in publication order.
+ * A slow consumer only delays the others once it falls a whole ring buffer behind.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public interface TaskEventConsumer {
+
+    /**
+     * Name of the consumer, used for its thread and metrics.
+     *
+     * @return consumer name
+     */
+    String consumerName();
+
+    /**
+     * Handle one committed task change.
+     * Exceptions are logged and counted, and the consumer moves on to the next event.
+     *
+     * @param event the task change
+     */
+    void onTaskChanged(TaskChangedEvent event);
+}
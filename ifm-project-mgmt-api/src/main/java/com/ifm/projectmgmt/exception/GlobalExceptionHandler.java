@@ -2,10 +2,12 @@ package com.ifm.projectmgmt.exception;
 
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.ifm.projectmgmt.dto.response.ErrorResponse;
+import com.ifm.projectmgmt.util.Constants;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -101,6 +103,57 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    /**
+     * Handle conditional writes whose If-Match header is stale (412).
+     * The current entity tag is returned so the client can refetch only if it needs the new body.
+     *
+     * @param ex      the exception
+     * @param request the HTTP request
+     * @return error response with 412 status
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+            PreconditionFailedException ex,
+            HttpServletRequest request) {
+
+        log.warn("Precondition failed: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.of(
+                HttpStatus.PRECONDITION_FAILED.value(),
+                HttpStatus.PRECONDITION_FAILED.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(ex.getCurrentETag()).body(error);
+    }
+
+    /**
+     * Handle optimistic locking failures detected when the transaction commits (409).
+     * Failures inside the service layer are translated to ConcurrentModificationException; this covers
+     * version checks that only fail when the changes are flushed at commit.
+     *
+     * @param ex      the exception
+     * @param request the HTTP request
+     * @return error response with 409 status
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request) {
+
+        log.error("Optimistic locking failure: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.of(
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                Constants.ERROR_CONCURRENT_MODIFICATION,
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     /**
      * Handle validation errors from @Valid annotation (400).
      *
@@ -0,0 +1,23 @@
+package com.ifm.projectmgmt.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a conditional write's If-Match header does not match the resource's current entity tag.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Getter
+public class PreconditionFailedException extends RuntimeException {
+
+    /**
+     * The current entity tag of the resource, returned so the client can tell what it missed.
+     */
+    private final String currentETag;
+
+    public PreconditionFailedException(String message, String currentETag) {
+        super(message);
+        this.currentETag = currentETag;
+    }
+}
@@ -0,0 +1,116 @@
+package com.ifm.projectmgmt.repository;
+
+import com.ifm.projectmgmt.entity.NotificationOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for the notification outbox.
+ * The outbox is operational state, so its queries run in read-write transactions on the primary: a lagging replica
+ * would hand the dispatcher entries that were already delivered and deleted.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Repository
+@Transactional
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * Find outbox entries due for delivery, oldest first.
+     *
+     * @param now         the current time
+     * @param maxAttempts entries with this many failed attempts are no longer retried
+     * @param pageable    the batch size
+     * @return due entries
+     */
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.nextAttemptAt <= :now AND o.attempts < :maxAttempts " +
+            "ORDER BY o.id")
+    List<NotificationOutbox> findDue(@Param("now") LocalDateTime now,
+                                     @Param("maxAttempts") int maxAttempts,
+                                     Pageable pageable);
+
+    /**
+     * Find recipients with due entries whose oldest entry was created before the cutoff.
+     * Used to flush each recipient once per coalescing window.
+     *
+     * @param now         the current time
+     * @param maxAttempts entries with this many failed attempts are no longer retried
+     * @param cutoff      recipients whose oldest due entry is newer than this are still collecting
+     * @param pageable    the batch size
+     * @return recipients ready to be flushed, longest waiting first
+     */
+    @Query("SELECT o.recipient FROM NotificationOutbox o WHERE o.nextAttemptAt <= :now " +
+            "AND o.attempts < :maxAttempts GROUP BY o.recipient HAVING MIN(o.createdAt) <= :cutoff " +
+            "ORDER BY MIN(o.id)")
+    List<String> findDueRecipients(@Param("now") LocalDateTime now,
+                                   @Param("maxAttempts") int maxAttempts,
+                                   @Param("cutoff") LocalDateTime cutoff,
+                                   Pageable pageable);
+
+    /**
+     * Find the due entries of several recipients, oldest first.
+     *
+     * @param recipients  the recipients
+     * @param now         the current time
+     * @param maxAttempts entries with this many failed attempts are no longer retried
+     * @return due entries
+     */
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.recipient IN :recipients AND o.nextAttemptAt <= :now " +
+            "AND o.attempts < :maxAttempts ORDER BY o.id")
+    List<NotificationOutbox> findDueByRecipients(@Param("recipients") Collection<String> recipients,
+                                                 @Param("now") LocalDateTime now,
+                                                 @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Record a failed delivery attempt and schedule the next one.
+     *
+     * @param ids           the failed entry IDs
+     * @param nextAttemptAt the time of the next attempt
+     * @param error         the failure message
+     * @return number of entries updated
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.attempts = o.attempts + 1, o.nextAttemptAt = :nextAttemptAt, " +
+            "o.lastError = :error WHERE o.id IN :ids")
+    int markFailed(@Param("ids") Collection<Long> ids,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    /**
+     * Count entries still awaiting delivery.
+     *
+     * @param maxAttempts entries with this many failed attempts are no longer retried
+     * @return number of pending entries
+     */
+    long countByAttemptsLessThan(int maxAttempts);
+
+    /**
+     * Get the creation time of the oldest entry still awaiting delivery.
+     *
+     * @param maxAttempts entries with this many failed attempts are no longer retried
+     * @return oldest creation time, empty if nothing is pending
+     */
+    @Query("SELECT MIN(o.createdAt) FROM NotificationOutbox o WHERE o.attempts < :maxAttempts")
+    Optional<LocalDateTime> findOldestPendingCreatedAt(@Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Get the total payload size of entries still awaiting delivery.
+     *
+     * @param maxAttempts entries with this many failed attempts are no longer retried
+     * @return total payload length in characters
+     */
+    @Query("SELECT COALESCE(SUM(LENGTH(o.payload)), 0) FROM NotificationOutbox o WHERE o.attempts < :maxAttempts")
+    long sumPendingPayloadLength(@Param("maxAttempts") int maxAttempts);
+}
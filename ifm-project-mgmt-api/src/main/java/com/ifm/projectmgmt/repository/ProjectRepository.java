@@ -2,6 +2,9 @@ package com.ifm.projectmgmt.repository;
 
 import com.ifm.projectmgmt.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -31,4 +34,26 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      * @return true if exists, false otherwise
      */
     boolean existsByName(String name);
+
+    /**
+     * Atomically adjust the maintained task count of a project.
+     *
+     * @param projectId the project ID
+     * @param delta     the number of tasks added (positive) or removed (negative)
+     * @return number of updated rows
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Project p SET p.taskCount = p.taskCount + :delta WHERE p.id = :projectId")
+    int adjustTaskCount(@Param("projectId") Long projectId, @Param("delta") long delta);
+
+    /**
+     * Re-derive the maintained task counts from the task table.
+     * Only projects whose count has drifted are updated.
+     *
+     * @return number of repaired projects
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Project p SET p.taskCount = (SELECT COUNT(t) FROM Task t WHERE t.project = p) " +
+            "WHERE p.taskCount <> (SELECT COUNT(t) FROM Task t WHERE t.project = p)")
+    int repairTaskCounts();
 }
@@ -12,6 +12,8 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Task entity.
@@ -21,7 +23,8 @@ import java.util.List;
  * @version 1.0.0
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom {
 
     /**
      * Find all tasks for a specific project.
@@ -95,6 +98,56 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
      */
     long countByProjectId(Long projectId);
 
+    /**
+     * Find the IDs of all tasks belonging to a project.
+     *
+     * @param projectId the project ID
+     * @return list of task IDs
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Find the version and project name of a task, the state its entity tag is derived from.
+     * Reads two columns by primary key instead of the full task response.
+     *
+     * @param id the task ID
+     * @return optional containing the version view if the task exists
+     */
+    @Query("SELECT t.version AS version, p.name AS projectName FROM Task t JOIN t.project p WHERE t.id = :id")
+    Optional<TaskVersionView> findVersionById(@Param("id") Long id);
+
+    /**
+     * Projection of a task version and project name.
+     */
+    interface TaskVersionView {
+
+        Long getVersion();
+
+        String getProjectName();
+    }
+
+    /**
+     * Stream the ID, name and project ID of every task.
+     * Used to rebuild in-memory name indexes; must be consumed inside a transaction.
+     *
+     * @return stream of task names
+     */
+    @Query("SELECT t.id AS id, t.name AS name, t.project.id AS projectId FROM Task t")
+    Stream<TaskNameView> streamAllNames();
+
+    /**
+     * Projection of a task ID, name and project ID.
+     */
+    interface TaskNameView {
+
+        Long getId();
+
+        String getName();
+
+        Long getProjectId();
+    }
+
     /**
      * Find all tasks with due date before a specific date.
      *
@@ -0,0 +1,107 @@
+package com.ifm.projectmgmt.repository;
+
+import com.ifm.projectmgmt.dto.request.TaskStatusChange;
+import com.ifm.projectmgmt.dto.response.TaskResponse;
+import com.ifm.projectmgmt.entity.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Custom query fragment for the Task repository.
+ * Provides read-only task queries that project straight into {@link TaskResponse} DTOs,
+ * selecting only the response columns and the project ID and name instead of hydrating
+ * managed Task and Project entities.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Find a task response by task ID.
+     *
+     * @param id the task ID
+     * @return optional containing the task response if found
+     */
+    Optional<TaskResponse> findResponseById(Long id);
+
+    /**
+     * Find a page of task responses matching a specification.
+     *
+     * @param spec     the filter specification
+     * @param pageable pagination and sorting information
+     * @return page of task responses
+     */
+    Page<TaskResponse> findResponses(Specification<Task> spec, Pageable pageable);
+
+    /**
+     * Find the first task responses matching a specification without issuing a count query.
+     *
+     * @param spec  the filter specification
+     * @param sort  the sort order
+     * @param limit the maximum number of tasks to return
+     * @return list of task responses
+     */
+    List<TaskResponse> findResponses(Specification<Task> spec, Sort sort, int limit);
+
+    /**
+     * Find a slice of task responses matching a specification without issuing a count query.
+     * One extra row is fetched to tell whether a next slice exists.
+     *
+     * @param spec     the filter specification
+     * @param pageable pagination and sorting information
+     * @return slice of task responses
+     */
+    Slice<TaskResponse> findResponseSlice(Specification<Task> spec, Pageable pageable);
+
+    /**
+     * Stream all task responses matching a specification through a forward-only cursor.
+     * Rows are fetched from the database in batches of {@code task-export.fetch-size} as the stream is consumed,
+     * and never enter the persistence context. Sorted by ID, the rows are read in primary key order and memory
+     * use does not depend on the number of rows; any other sort makes the database sort the whole result first.
+     * Must be consumed and closed inside a transaction.
+     *
+     * @param spec the filter specification
+     * @param sort the sort order
+     * @return stream of task responses
+     */
+    Stream<TaskResponse> streamResponses(Specification<Task> spec, Sort sort);
+
+    /**
+     * Insert new tasks as JDBC batches.
+     * The persistence context is flushed and cleared after every batch to keep it small,
+     * so entities loaded earlier in the transaction become detached.
+     *
+     * @param tasks the new tasks; their IDs are assigned on return
+     */
+    void insertAll(List<Task> tasks);
+
+    /**
+     * Insert new tasks as JDBC batches without passing them through the persistence context.
+     * IDs come from the entity's own sequence generator, so they never collide with IDs Hibernate assigns.
+     * Entity listeners do not run: the version starts at 0 and both timestamps are set to the given time.
+     *
+     * @param tasks     the new tasks; their IDs, version and timestamps are assigned on return
+     * @param createdAt the creation timestamp to store
+     */
+    void insertAllUnmanaged(List<Task> tasks, LocalDateTime createdAt);
+
+    /**
+     * Update task statuses as JDBC batches, guarded by the task version.
+     * Each row is updated only if its version still matches, and its version is incremented.
+     * A mismatch updates nothing for that row and does not affect the others.
+     *
+     * @param changes   the versioned status changes
+     * @param updatedAt the modification timestamp to store
+     * @return number of updated rows per change, in the given order (1 if updated, 0 otherwise)
+     */
+    int[] updateStatuses(List<TaskStatusChange> changes, LocalDateTime updatedAt);
+}
@@ -0,0 +1,305 @@
+package com.ifm.projectmgmt.repository;
+
+import com.ifm.projectmgmt.dto.request.TaskStatusChange;
+import com.ifm.projectmgmt.dto.response.TaskResponse;
+import com.ifm.projectmgmt.entity.Project;
+import com.ifm.projectmgmt.entity.Task;
+import com.ifm.projectmgmt.specification.TaskSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Criteria API implementation of the custom Task repository fragment.
+ * Queries select a constructor expression, so results are plain DTOs that never enter
+ * the persistence context and carry no dirty-checking snapshots.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE task SET status = ?, version = version + 1, updated_at = ? WHERE id = ? AND version = ?";
+
+    private static final String INSERT_TASK_SQL =
+            "INSERT INTO task (id, name, priority, due_date, assignee, status, project_id, version, created_at, "
+                    + "updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SET_LAZY_QUERY_EXECUTION_SQL = "SET LAZY_QUERY_EXECUTION ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Value("${task-export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    public Optional<TaskResponse> findResponseById(Long id) {
+        Specification<Task> byId = (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("id"), id);
+
+        return createResponseQuery(byId, Sort.unsorted(), JoinType.INNER)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public Page<TaskResponse> findResponses(Specification<Task> spec, Pageable pageable) {
+        List<TaskResponse> content = findPage(spec, pageable.getSort(), (int) pageable.getOffset(),
+                pageable.getPageSize());
+
+        // The count query is skipped when the first or last page reveals the total
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<TaskResponse> findResponses(Specification<Task> spec, Sort sort, int limit) {
+        return findPage(spec, sort, 0, limit);
+    }
+
+    @Override
+    public Slice<TaskResponse> findResponseSlice(Specification<Task> spec, Pageable pageable) {
+        List<TaskResponse> tasks = new ArrayList<>(findPage(spec, pageable.getSort(), (int) pageable.getOffset(),
+                pageable.getPageSize() + 1));
+
+        boolean hasNext = tasks.size() > pageable.getPageSize();
+        if (hasNext) {
+            tasks.removeLast();
+        }
+
+        return new SliceImpl<>(tasks, pageable, hasNext);
+    }
+
+    @Override
+    public Stream<TaskResponse> streamResponses(Specification<Task> spec, Sort sort) {
+        // H2 materializes whole result sets before returning the first row unless lazy execution is on.
+        // It is a session setting, so it is switched on for this query only and off again when the stream closes,
+        // or right away if the query cannot be built or opened.
+        jdbcTemplate.execute(SET_LAZY_QUERY_EXECUTION_SQL + "TRUE");
+        try {
+            // A left join keeps the task table first in the plan, so an ID sort is read off the primary key without
+            // sorting; every task has a project, so the result is the same as with the inner join
+            return createResponseQuery(spec, sort, JoinType.LEFT)
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                    .getResultStream()
+                    .onClose(() -> jdbcTemplate.execute(SET_LAZY_QUERY_EXECUTION_SQL + "FALSE"));
+        } catch (RuntimeException e) {
+            jdbcTemplate.execute(SET_LAZY_QUERY_EXECUTION_SQL + "FALSE");
+            throw e;
+        }
+    }
+
+    @Override
+    public void insertAll(List<Task> tasks) {
+        for (int i = 0; i < tasks.size(); i++) {
+            entityManager.persist(tasks.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    public void insertAllUnmanaged(List<Task> tasks, LocalDateTime createdAt) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator idGenerator = (BeforeExecutionGenerator) session.getFactory()
+                                                                                .getMappingMetamodel()
+                                                                                .getEntityDescriptor(Task.class)
+                                                                                .getGenerator();
+        for (Task task : tasks) {
+            task.setId((Long) idGenerator.generate(session, task, null, EventType.INSERT));
+            task.setVersion(0L);
+            task.setCreatedAt(createdAt);
+            task.setUpdatedAt(createdAt);
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_TASK_SQL, tasks, batchSize, (ps, task) -> {
+            ps.setLong(1, task.getId());
+            ps.setString(2, task.getName());
+            ps.setInt(3, task.getPriority());
+            ps.setObject(4, task.getDueDate());
+            ps.setString(5, task.getAssignee());
+            ps.setString(6, task.getStatus().name());
+            ps.setLong(7, task.getProject().getId());
+            ps.setLong(8, task.getVersion());
+            ps.setTimestamp(9, timestamp);
+            ps.setTimestamp(10, timestamp);
+        });
+    }
+
+    @Override
+    public int[] updateStatuses(List<TaskStatusChange> changes, LocalDateTime updatedAt) {
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+
+        int[][] batchCounts = jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, changes, batchSize, (ps, change) -> {
+            ps.setString(1, change.getStatus().name());
+            ps.setTimestamp(2, timestamp);
+            ps.setLong(3, change.getId());
+            ps.setLong(4, change.getVersion());
+        });
+
+        return Arrays.stream(batchCounts)
+                     .flatMapToInt(Arrays::stream)
+                     .toArray();
+    }
+
+    /**
+     * Find one page of task responses in two steps: the IDs of the page first, then the rows of those IDs.
+     * The ID query needs only the filter and sort columns, so with a matching composite index it is answered from
+     * the index alone, in index order, and skipped offset rows are never read from the table.
+     * A task deleted between the two queries is left out of the page.
+     *
+     * @param spec   the filter specification
+     * @param sort   the sort order
+     * @param offset the number of matching tasks to skip
+     * @param limit  the maximum number of tasks to return
+     * @return task responses in sort order
+     */
+    private List<TaskResponse> findPage(Specification<Task> spec, Sort sort, int offset, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(root.get("id"));
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(toOrders(sort, root, criteriaBuilder));
+
+        List<Long> ids = entityManager.createQuery(query)
+                                      .setFirstResult(offset)
+                                      .setMaxResults(limit)
+                                      .getResultList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TaskResponse> tasksById = createResponseQuery(TaskSpecification.hasIdIn(ids), Sort.unsorted(),
+                JoinType.INNER)
+                .getResultList()
+                .stream()
+                .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+        return ids.stream()
+                  .map(tasksById::get)
+                  .filter(Objects::nonNull)
+                  .toList();
+    }
+
+    /**
+     * Create a query selecting task responses that match a specification.
+     * Only the project ID and name are joined, so the project description is never read.
+     *
+     * @param spec     the filter specification
+     * @param sort     the sort order
+     * @param joinType the type of the project join
+     * @return typed query of task responses
+     */
+    private TypedQuery<TaskResponse> createResponseQuery(Specification<Task> spec, Sort sort, JoinType joinType) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponse> query = criteriaBuilder.createQuery(TaskResponse.class);
+        Root<Task> root = query.from(Task.class);
+        Join<Task, Project> project = root.join("project", joinType);
+
+        // Argument order must match the TaskResponse all-args constructor
+        query.select(criteriaBuilder.construct(TaskResponse.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("priority"),
+                root.get("dueDate"),
+                root.get("assignee"),
+                root.get("status"),
+                project.get("id"),
+                project.get("name"),
+                root.get("version"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(toOrders(sort, root, criteriaBuilder));
+
+        return entityManager.createQuery(query);
+    }
+
+    /**
+     * Convert a sort into criteria orders. Nested properties are resolved as paths, not joins,
+     * so sorting by {@code project.id} reads the task's foreign key column and keeps the task index usable.
+     *
+     * @param sort            the sort order
+     * @param root            the task root
+     * @param criteriaBuilder the criteria builder
+     * @return criteria orders
+     */
+    private static List<Order> toOrders(Sort sort, Root<Task> root, CriteriaBuilder criteriaBuilder) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<?> path = root;
+            for (String property : order.getProperty().split("\\.")) {
+                path = path.get(property);
+            }
+            orders.add(order.isAscending() ? criteriaBuilder.asc(path) : criteriaBuilder.desc(path));
+        }
+        return orders;
+    }
+
+    private long count(Specification<Task> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(criteriaBuilder.count(root));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
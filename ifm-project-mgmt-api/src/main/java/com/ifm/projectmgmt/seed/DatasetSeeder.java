@@ -0,0 +1,191 @@
+package com.ifm.projectmgmt.seed;
+
+import com.ifm.projectmgmt.seed.SyntheticTaskGenerator.SyntheticTask;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Seeds a large synthetic dataset at startup when the {@code seed} profile is active.
+ * Tasks are written to a CSV file in chunks and loaded with H2 {@code CSVREAD} in one
+ * {@code INSERT ... SELECT} per chunk, which bypasses Hibernate entirely. Secondary task indexes are dropped for
+ * the load and rebuilt once at the end, which is much faster than maintaining them row by row.
+ * Project task counts, the project ID identity and the task ID sequence are moved past the seeded rows afterwards.
+ *
+ * <p>Runs before the application is ready, so the in-memory name indexes are built from the seeded data.
+ * Seeding is skipped when the database already holds at least the requested number of tasks, e.g. on a restart
+ * against a file database.</p>
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class DatasetSeeder implements ApplicationRunner {
+
+    private static final String INSERT_PROJECT_SQL =
+            "INSERT INTO project (id, name, description, task_count, created_at, updated_at) VALUES (?, ?, ?, 0, ?, ?)";
+    private static final String UPDATE_TASK_COUNT_SQL = "UPDATE project SET task_count = ? WHERE id = ?";
+    private static final String INSERT_TASKS_SQL =
+            "INSERT INTO task (id, name, priority, due_date, assignee, status, project_id, version, created_at, "
+                    + "updated_at) SELECT * FROM CSVREAD('%s', NULL, 'charset=UTF-8')";
+    private static final String CSV_HEADER =
+            "ID,NAME,PRIORITY,DUE_DATE,ASSIGNEE,STATUS,PROJECT_ID,VERSION,CREATED_AT,UPDATED_AT";
+    private static final String SECONDARY_INDEXES_SQL =
+            "SELECT i.INDEX_NAME, c.COLUMN_NAME, c.ORDERING_SPECIFICATION "
+                    + "FROM INFORMATION_SCHEMA.INDEXES i "
+                    + "JOIN INFORMATION_SCHEMA.INDEX_COLUMNS c "
+                    + "ON c.INDEX_SCHEMA = i.INDEX_SCHEMA AND c.INDEX_NAME = i.INDEX_NAME "
+                    + "WHERE i.TABLE_SCHEMA = SCHEMA() AND i.TABLE_NAME = 'TASK' AND i.INDEX_TYPE_NAME = 'INDEX' "
+                    + "AND i.INDEX_NAME NOT IN (SELECT INDEX_NAME FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS "
+                    + "WHERE INDEX_NAME IS NOT NULL) "
+                    + "ORDER BY i.INDEX_NAME, c.ORDINAL_POSITION";
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * Must match the increment of task_seq (Hibernate pooled optimizer allocation size).
+     */
+    private static final int TASK_SEQUENCE_INCREMENT = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${seed.tasks:1000000}")
+    private long tasks;
+
+    @Value("${seed.projects:1000}")
+    private int projects;
+
+    @Value("${seed.assignees:2000}")
+    private int assignees;
+
+    @Value("${seed.history-days:730}")
+    private int historyDays;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${seed.chunk-size:1000000}")
+    private int chunkSize;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task", Long.class);
+        if (existing >= tasks) {
+            log.info("Skipping dataset seeding, database already holds {} tasks", existing);
+            return;
+        }
+
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        SyntheticTaskGenerator generator =
+                new SyntheticTaskGenerator(randomSeed, tasks, projects, assignees, historyDays, now);
+
+        long firstProjectId = nextId("project");
+        insertProjects(firstProjectId, now.minusDays(historyDays));
+
+        long firstTaskId = nextId("task");
+        long[] taskCounts = new long[projects];
+        Map<String, String> indexes = secondaryTaskIndexes();
+        indexes.keySet().forEach(name -> jdbcTemplate.execute("DROP INDEX " + name));
+        Path file = Files.createTempFile("ifm-seed-", ".csv");
+        try {
+            for (long offset = 0; offset < tasks; offset += chunkSize) {
+                long count = Math.min(chunkSize, tasks - offset);
+                writeChunk(file, generator, firstTaskId, firstProjectId, offset, count, taskCounts);
+                // CSVREAD arguments are evaluated when the statement is prepared, so the file name cannot be bound
+                jdbcTemplate.update(INSERT_TASKS_SQL.formatted(file.toAbsolutePath().toString().replace("'", "''")));
+                log.info("Seeded {} of {} tasks", offset + count, tasks);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            long indexStart = System.nanoTime();
+            indexes.forEach((name, columns) -> jdbcTemplate.execute(
+                    "CREATE INDEX " + name + " ON task(" + columns + ")"));
+            log.info("Rebuilt {} task indexes in {} ms", indexes.size(), (System.nanoTime() - indexStart) / 1_000_000);
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_TASK_COUNT_SQL, IntStream.range(0, projects)
+                                                                 .mapToObj(i -> new Object[]{taskCounts[i],
+                                                                         firstProjectId + i})
+                                                                 .toList());
+        jdbcTemplate.execute("ALTER TABLE project ALTER COLUMN id RESTART WITH " + (firstProjectId + projects));
+        jdbcTemplate.execute("ALTER SEQUENCE task_seq RESTART WITH "
+                                     + (firstTaskId + tasks - 1 + TASK_SEQUENCE_INCREMENT));
+
+        log.info("Seeded {} projects and {} tasks in {} ms",
+                 projects, tasks, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void insertProjects(long firstProjectId, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_PROJECT_SQL, IntStream.range(0, projects)
+                                                              .mapToObj(i -> new Object[]{
+                                                                      firstProjectId + i,
+                                                                      "Synthetic Project " + (firstProjectId + i),
+                                                                      "Generated by the seed profile",
+                                                                      timestamp,
+                                                                      timestamp})
+                                                              .toList());
+    }
+
+    private void writeChunk(Path file, SyntheticTaskGenerator generator, long firstTaskId, long firstProjectId,
+                            long offset, long count, long[] taskCounts) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+            for (long index = offset; index < offset + count; index++) {
+                SyntheticTask task = generator.next(index);
+                taskCounts[task.projectIndex()]++;
+                String createdAt = TIMESTAMP_FORMAT.format(task.createdAt());
+                writer.append(Long.toString(firstTaskId + index)).append(',')
+                      .append(task.name()).append(',')
+                      .append(Integer.toString(task.priority())).append(',')
+                      .append(task.dueDate().toString()).append(',')
+                      .append(task.assignee()).append(',')
+                      .append(task.status().name()).append(',')
+                      .append(Long.toString(firstProjectId + task.projectIndex())).append(",0,")
+                      .append(createdAt).append(',')
+                      .append(createdAt);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Find the task indexes not backing a constraint, with their column lists.
+     *
+     * @return index name to column list, e.g. {@code PROJECT_ID, DUE_DATE, ID}
+     */
+    private Map<String, String> secondaryTaskIndexes() {
+        Map<String, String> indexes = new LinkedHashMap<>();
+        jdbcTemplate.query(SECONDARY_INDEXES_SQL, (RowCallbackHandler) row -> indexes.merge(
+                row.getString(1),
+                row.getString(2) + " " + row.getString(3),
+                (columns, column) -> columns + ", " + column));
+        return indexes;
+    }
+
+    private long nextId(String table) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+    }
+}
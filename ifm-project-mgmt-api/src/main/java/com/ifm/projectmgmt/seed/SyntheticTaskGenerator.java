@@ -0,0 +1,185 @@
+package com.ifm.projectmgmt.seed;
+
+import com.ifm.projectmgmt.entity.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Generates synthetic tasks with realistically skewed values for large-scale seeding.
+ *
+ * <ul>
+ *   <li>Project sizes follow a Zipf distribution: a few projects hold most tasks, with a long tail of small ones.</li>
+ *   <li>Assignees follow a Zipf distribution too, so some people carry far more tasks than others.</li>
+ *   <li>Creation times spread over the history window in ID order; due dates fall a few weeks after creation,
+ *       so older tasks are overdue and recent ones are upcoming.</li>
+ *   <li>Status depends on the due date: overdue tasks are mostly completed, upcoming ones mostly pending.</li>
+ *   <li>Priorities cluster around the middle of the 1-5 range.</li>
+ * </ul>
+ *
+ * <p>The same random seed always produces the same data.</p>
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public class SyntheticTaskGenerator {
+
+    private static final double PROJECT_SKEW = 1.1;
+    private static final double ASSIGNEE_SKEW = 1.0;
+    private static final double NAME_SKEW = 0.8;
+    private static final double MEAN_DUE_DAYS = 21;
+    private static final int MAX_DUE_DAYS = 365;
+    private static final int CREATED_JITTER_MINUTES = 60;
+    private static final int[] PRIORITY_WEIGHTS = {5, 15, 45, 25, 10};
+
+    private static final String[] VERBS = {"Design", "Implement", "Review", "Test", "Fix", "Refactor", "Document",
+            "Deploy", "Migrate", "Optimize", "Investigate", "Plan", "Update", "Remove", "Automate", "Monitor"};
+    private static final String[] SUBJECTS = {"login flow", "payment gateway", "search index", "user profile",
+            "notification service", "reporting dashboard", "order history", "checkout page", "API rate limiting",
+            "database schema", "CI pipeline", "mobile layout", "audit log", "export to CSV", "access control",
+            "onboarding wizard", "email templates", "cache invalidation", "billing invoices", "product catalog",
+            "shopping cart", "session handling", "error pages", "health checks", "backup job", "data retention",
+            "feature flags", "localization", "accessibility", "release notes"};
+    private static final String[] FIRST_NAMES = {"alice", "bob", "charlie", "diana", "evan", "fiona", "george",
+            "hannah", "ian", "julia", "kevin", "laura", "mike", "nina", "oscar", "paula", "quinn", "rachel", "sam",
+            "tina", "uma", "victor", "wendy", "xavier", "yara", "zack"};
+    private static final String[] LAST_NAMES = {"smith", "jones", "brown", "white", "davis", "miller", "taylor",
+            "wilson", "moore", "anderson", "thomas", "jackson", "martin", "lee", "garcia", "clark", "lewis",
+            "walker", "hall", "young"};
+
+    private final SplittableRandom random;
+    private final long totalTasks;
+    private final LocalDateTime historyStart;
+    private final long historyMinutes;
+    private final LocalDate today;
+    private final double[] projectCumulative;
+    private final double[] assigneeCumulative;
+    private final double[] subjectCumulative;
+    private final int[] priorityCumulative;
+
+    /**
+     * Create a generator.
+     *
+     * @param randomSeed  the random seed
+     * @param totalTasks  the number of tasks that will be generated, used to spread creation times
+     * @param projects    the number of projects tasks are distributed over
+     * @param assignees   the number of distinct assignees
+     * @param historyDays how far back the oldest task was created
+     * @param now         the current time
+     * @throws IllegalArgumentException if projects, assignees or history days are not positive
+     */
+    public SyntheticTaskGenerator(long randomSeed, long totalTasks, int projects, int assignees, int historyDays,
+                                  LocalDateTime now) {
+        if (projects < 1 || assignees < 1 || historyDays < 1) {
+            throw new IllegalArgumentException("Seeding needs at least one project, one assignee and one day of "
+                                                       + "history");
+        }
+
+        this.random = new SplittableRandom(randomSeed);
+        this.totalTasks = totalTasks;
+        this.historyStart = now.minusDays(historyDays);
+        this.historyMinutes = ChronoUnit.MINUTES.between(historyStart, now);
+        this.today = now.toLocalDate();
+        this.projectCumulative = zipfCumulative(projects, PROJECT_SKEW);
+        this.assigneeCumulative = zipfCumulative(assignees, ASSIGNEE_SKEW);
+        this.subjectCumulative = zipfCumulative(SUBJECTS.length, NAME_SKEW);
+        this.priorityCumulative = new int[PRIORITY_WEIGHTS.length];
+        Arrays.setAll(priorityCumulative, i -> Arrays.stream(PRIORITY_WEIGHTS, 0, i + 1).sum());
+    }
+
+    /**
+     * Generate the task at the given position of the sequence.
+     *
+     * @param index the position, from 0 to totalTasks - 1; later positions are created later
+     * @return synthetic task
+     */
+    public SyntheticTask next(long index) {
+        long createdMinute = (historyMinutes - CREATED_JITTER_MINUTES) * index / Math.max(1, totalTasks)
+                + random.nextLong(CREATED_JITTER_MINUTES);
+        LocalDateTime createdAt = historyStart.plusMinutes(createdMinute).withNano(0);
+        long dueDays = Math.min(MAX_DUE_DAYS, 1 + (long) (-MEAN_DUE_DAYS * Math.log(1 - random.nextDouble())));
+        LocalDate dueDate = createdAt.toLocalDate().plusDays(dueDays);
+
+        return new SyntheticTask(
+                nextName(),
+                nextPriority(),
+                dueDate,
+                assigneeEmail(sample(assigneeCumulative)),
+                nextStatus(dueDate),
+                sample(projectCumulative),
+                createdAt
+        );
+    }
+
+    /**
+     * Email address of the assignee with the given rank.
+     *
+     * @param rank the assignee rank, 0 being the busiest
+     * @return email address
+     */
+    static String assigneeEmail(int rank) {
+        int names = FIRST_NAMES.length * LAST_NAMES.length;
+        String suffix = rank < names ? "" : Integer.toString(rank / names);
+        return FIRST_NAMES[rank % FIRST_NAMES.length] + "." + LAST_NAMES[rank / FIRST_NAMES.length % LAST_NAMES.length]
+                + suffix + "@company.com";
+    }
+
+    private String nextName() {
+        String name = VERBS[random.nextInt(VERBS.length)] + " " + SUBJECTS[sample(subjectCumulative)];
+        return random.nextInt(4) == 0 ? name + " - phase " + (1 + random.nextInt(5)) : name;
+    }
+
+    private int nextPriority() {
+        int value = random.nextInt(priorityCumulative[priorityCumulative.length - 1]);
+        for (int i = 0; i < priorityCumulative.length; i++) {
+            if (value < priorityCumulative[i]) {
+                return i + 1;
+            }
+        }
+        return priorityCumulative.length;
+    }
+
+    private TaskStatus nextStatus(LocalDate dueDate) {
+        int value = random.nextInt(100);
+        if (dueDate.isBefore(today.minusDays(14))) {
+            return value < 92 ? TaskStatus.COMPLETED : value < 97 ? TaskStatus.IN_PROGRESS : TaskStatus.PENDING;
+        }
+        if (dueDate.isBefore(today.plusDays(7))) {
+            return value < 30 ? TaskStatus.COMPLETED : value < 75 ? TaskStatus.IN_PROGRESS : TaskStatus.PENDING;
+        }
+        return value < 3 ? TaskStatus.COMPLETED : value < 25 ? TaskStatus.IN_PROGRESS : TaskStatus.PENDING;
+    }
+
+    private int sample(double[] cumulative) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble() * cumulative[cumulative.length - 1]);
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    private static double[] zipfCumulative(int size, double skew) {
+        double[] cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, skew);
+            cumulative[rank] = sum;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Values of one generated task.
+     *
+     * @param name         the task name
+     * @param priority     the priority (1-5)
+     * @param dueDate      the due date
+     * @param assignee     the assignee email
+     * @param status       the status
+     * @param projectIndex the project, 0 being the largest
+     * @param createdAt    the creation time
+     */
+    public record SyntheticTask(String name, int priority, LocalDate dueDate, String assignee, TaskStatus status,
+                                int projectIndex, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.ifm.projectmgmt.service;
+
+import com.ifm.projectmgmt.dto.notification.TaskNotification;
+import com.ifm.projectmgmt.entity.NotificationOutbox;
+import com.ifm.projectmgmt.entity.NotificationType;
+import com.ifm.projectmgmt.entity.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Merges the pending outbox entries of one recipient into a single notification.
+ * Events are merged per task: change descriptions are concatenated, successive status changes collapse into one
+ * transition from the first previous status to the latest status, and the latest task snapshot wins.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationCoalescer {
+
+    private static final String CREATED = "created";
+
+    private final NotificationOutboxService outboxService;
+
+    /**
+     * Merge outbox entries of the same recipient into one notification.
+     * A single entry is passed through unchanged; entries that only create tasks of one project become one
+     * tasks created notification; anything else becomes a digest.
+     *
+     * @param entries the outbox entries, oldest first
+     * @return the merged notification
+     */
+    public CoalescedNotification coalesce(List<NotificationOutbox> entries) {
+        if (entries.size() == 1) {
+            NotificationOutbox entry = entries.getFirst();
+            return new CoalescedNotification(entry.getType(), outboxService.readPayload(entry), 1);
+        }
+
+        Map<Long, MergedTask> tasksById = new LinkedHashMap<>();
+        boolean onlyCreations = true;
+        int events = 0;
+        for (NotificationOutbox entry : entries) {
+            onlyCreations &= isCreation(entry.getType());
+            for (TaskNotification task : outboxService.readPayload(entry)) {
+                tasksById.computeIfAbsent(task.getTaskId(), id -> new MergedTask()).add(entry.getType(), task);
+                events++;
+            }
+        }
+
+        List<TaskNotification> tasks = tasksById.values().stream()
+                                                .map(MergedTask::toNotification)
+                                                .toList();
+
+        long projects = tasks.stream().map(TaskNotification::getProjectName).distinct().count();
+        if (onlyCreations && tasks.size() == 1) {
+            return new CoalescedNotification(NotificationType.TASK_CREATED, tasks, events);
+        }
+        if (onlyCreations && projects == 1) {
+            return new CoalescedNotification(NotificationType.TASKS_CREATED, tasks, events);
+        }
+        return new CoalescedNotification(NotificationType.TASK_DIGEST, tasks, events);
+    }
+
+    private static boolean isCreation(NotificationType type) {
+        return type == NotificationType.TASK_CREATED || type == NotificationType.TASKS_CREATED;
+    }
+
+    /**
+     * A notification merged from one or more outbox entries.
+     *
+     * @param type   the notification type to send
+     * @param tasks  the merged task snapshots
+     * @param events the number of raw task events merged into it
+     */
+    public record CoalescedNotification(NotificationType type, List<TaskNotification> tasks, int events) {
+    }
+
+    /**
+     * Accumulates the events of one task.
+     */
+    private static final class MergedTask {
+
+        private final Set<String> changes = new LinkedHashSet<>();
+        private TaskNotification latest;
+        private TaskStatus firstPreviousStatus;
+        private boolean statusChanged;
+
+        void add(NotificationType type, TaskNotification task) {
+            switch (type) {
+                case TASK_CREATED, TASKS_CREATED -> changes.add(CREATED);
+                case TASK_UPDATED, TASK_DIGEST -> changes.add(task.getChanges());
+                case TASK_STATUS_CHANGED, TASK_STATUSES_CHANGED -> {
+                    if (!statusChanged) {
+                        firstPreviousStatus = task.getPreviousStatus();
+                        statusChanged = true;
+                    }
+                }
+            }
+            latest = task;
+        }
+
+        TaskNotification toNotification() {
+            List<String> descriptions = new ArrayList<>(changes);
+            if (statusChanged && firstPreviousStatus != latest.getStatus()) {
+                descriptions.add("status changed from " + firstPreviousStatus + " to " + latest.getStatus());
+            }
+
+            return TaskNotification.builder()
+                                   .taskId(latest.getTaskId())
+                                   .taskName(latest.getTaskName())
+                                   .priority(latest.getPriority())
+                                   .dueDate(latest.getDueDate())
+                                   .status(latest.getStatus())
+                                   .previousStatus(statusChanged ? firstPreviousStatus : null)
+                                   .projectName(latest.getProjectName())
+                                   .changes(descriptions.isEmpty() ? "no net change" : String.join("; ", descriptions))
+                                   .build();
+        }
+    }
+}
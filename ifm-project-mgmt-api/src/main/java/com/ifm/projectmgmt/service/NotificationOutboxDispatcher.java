@@ -0,0 +1,324 @@
+package com.ifm.projectmgmt.service;
+
+import com.ifm.projectmgmt.entity.NotificationOutbox;
+import com.ifm.projectmgmt.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Scheduled dispatcher that drains the notification outbox.
+ * Reads due entries in batches, hands them to NotificationService, and deletes each entry only after its
+ * notification was sent. Delivery is at-least-once: an entry sent just before a crash is sent again on restart.
+ * Failed entries are retried with exponential backoff until the attempt limit is reached.
+ *
+ * <p>Entries can be coalesced per recipient (see {@link CoalescingMode}): in window mode a recipient is flushed
+ * once their oldest pending entry is older than the coalescing window, in digest mode all recipients are flushed
+ * on the digest schedule. All pending entries of a flushed recipient are merged into one notification
+ * by NotificationCoalescer.</p>
+ *
+ * <p>The outbox table is also the overflow of the in-memory executor queue: at most one batch is handed to the
+ * executor at a time, and everything else waits in the table, in order, until the batch has been sent.</p>
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    /**
+     * Maximum length of a stored delivery error message.
+     */
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    /**
+     * How notifications are grouped before delivery.
+     */
+    public enum CoalescingMode {
+
+        /**
+         * Every outbox entry is sent on its own as soon as it is due.
+         */
+        OFF,
+
+        /**
+         * Entries of a recipient are collected for the coalescing window, then merged into one notification.
+         */
+        WINDOW,
+
+        /**
+         * Entries are only sent on the digest schedule, merged into one notification per recipient.
+         */
+        DIGEST
+    }
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationCoalescer coalescer;
+    private final NotificationService notificationService;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration deliveryTimeout;
+    private final CoalescingMode coalescingMode;
+    private final Duration coalescingWindow;
+
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Counter sentCounter;
+    private final Counter collapsedCounter;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong pendingBytes = new AtomicLong();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicReference<LocalDateTime> oldestPending = new AtomicReference<>();
+
+    public NotificationOutboxDispatcher(NotificationOutboxRepository outboxRepository,
+                                        NotificationCoalescer coalescer,
+                                        NotificationService notificationService,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${notification.outbox.batch-size:100}") int batchSize,
+                                        @Value("${notification.outbox.max-attempts:10}") int maxAttempts,
+                                        @Value("${notification.outbox.retry-backoff:5s}") Duration retryBackoff,
+                                        @Value("${notification.outbox.delivery-timeout:30s}") Duration deliveryTimeout,
+                                        @Value("${notification.coalescing.mode:window}") CoalescingMode coalescingMode,
+                                        @Value("${notification.coalescing.window:30s}") Duration coalescingWindow) {
+        this.outboxRepository = outboxRepository;
+        this.coalescer = coalescer;
+        this.notificationService = notificationService;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.deliveryTimeout = deliveryTimeout;
+        this.coalescingMode = coalescingMode;
+        this.coalescingWindow = coalescingWindow;
+
+        this.deliveredCounter = Counter.builder("notification.outbox.delivered")
+                                       .description("Outbox entries delivered")
+                                       .register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.outbox.failed")
+                                    .description("Failed notification delivery attempts")
+                                    .register(meterRegistry);
+        this.sentCounter = Counter.builder("notification.sent")
+                                  .description("Notifications sent after coalescing")
+                                  .register(meterRegistry);
+        this.collapsedCounter = Counter.builder("notification.coalesced.events")
+                                       .description("Raw task events merged into another notification")
+                                       .register(meterRegistry);
+        Gauge.builder("notification.outbox.pending", pending, AtomicLong::get)
+             .description("Notifications waiting in the outbox")
+             .register(meterRegistry);
+        Gauge.builder("notification.outbox.pending.bytes", pendingBytes, AtomicLong::get)
+             .description("Approximate payload size of notifications waiting in the outbox")
+             .baseUnit("bytes")
+             .register(meterRegistry);
+        Gauge.builder("notification.queue.depth", inFlight, AtomicLong::get)
+             .description("Notifications handed to the executor and not yet sent")
+             .register(meterRegistry);
+        Gauge.builder("notification.outbox.lag", this, NotificationOutboxDispatcher::lagSeconds)
+             .description("Age of the oldest notification waiting in the outbox")
+             .baseUnit("seconds")
+             .register(meterRegistry);
+
+        log.info("Notification outbox dispatcher initialized with coalescing mode: {}, window: {}",
+                 coalescingMode, coalescingWindow);
+    }
+
+    /**
+     * Drain all due outbox entries, one batch at a time.
+     * Does nothing in digest mode, where entries are only sent by {@link #dispatchDigest()}.
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval:PT1S}")
+    public void dispatch() {
+        switch (coalescingMode) {
+            case OFF -> drain(() -> dispatchEntries(LocalDateTime.now()));
+            case WINDOW -> drain(() -> {
+                LocalDateTime now = LocalDateTime.now();
+                return dispatchRecipients(now, now.minus(coalescingWindow));
+            });
+            case DIGEST -> {
+                // Sent on the digest schedule only
+            }
+        }
+    }
+
+    /**
+     * Send one digest per recipient with everything pending, on the digest schedule (hourly by default).
+     */
+    @Scheduled(cron = "${notification.coalescing.digest-cron:0 0 * * * *}")
+    public void dispatchDigest() {
+        if (coalescingMode == CoalescingMode.DIGEST) {
+            drain(() -> {
+                LocalDateTime now = LocalDateTime.now();
+                return dispatchRecipients(now, now);
+            });
+        }
+    }
+
+    private void drain(BatchDispatch batch) {
+        int dispatched;
+        do {
+            dispatched = batch.dispatch();
+        } while (dispatched == batchSize);
+
+        pending.set(outboxRepository.countByAttemptsLessThan(maxAttempts));
+        pendingBytes.set(outboxRepository.sumPendingPayloadLength(maxAttempts));
+        oldestPending.set(outboxRepository.findOldestPendingCreatedAt(maxAttempts).orElse(null));
+    }
+
+    /**
+     * Deliver one batch of due entries, each on its own.
+     *
+     * @param now the current time
+     * @return number of entries attempted
+     */
+    private int dispatchEntries(LocalDateTime now) {
+        List<NotificationOutbox> batch = outboxRepository.findDue(now, maxAttempts, PageRequest.of(0, batchSize));
+        deliver(batch.stream().map(List::of).toList());
+        return batch.size();
+    }
+
+    /**
+     * Deliver one merged notification for each of a batch of recipients ready to be flushed.
+     *
+     * @param now    the current time
+     * @param cutoff recipients whose oldest due entry is newer than this are skipped
+     * @return number of recipients attempted
+     */
+    private int dispatchRecipients(LocalDateTime now, LocalDateTime cutoff) {
+        List<String> recipients = outboxRepository.findDueRecipients(now, maxAttempts, cutoff,
+                                                                     PageRequest.of(0, batchSize));
+        if (recipients.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<NotificationOutbox>> entriesByRecipient = outboxRepository
+                .findDueByRecipients(recipients, now, maxAttempts).stream()
+                .collect(Collectors.groupingBy(NotificationOutbox::getRecipient, LinkedHashMap::new,
+                        Collectors.toList()));
+        deliver(List.copyOf(entriesByRecipient.values()));
+        return recipients.size();
+    }
+
+    /**
+     * Send one notification per group of entries and settle the entries with the outcome.
+     *
+     * @param groups entries of the same recipient to merge into one notification
+     */
+    private void deliver(List<List<NotificationOutbox>> groups) {
+        if (groups.isEmpty()) {
+            return;
+        }
+
+        Map<List<NotificationOutbox>, Delivery> deliveries = new LinkedHashMap<>();
+        for (List<NotificationOutbox> group : groups) {
+            try {
+                NotificationCoalescer.CoalescedNotification notification = coalescer.coalesce(group);
+                deliveries.put(group, new Delivery(send(group.getFirst().getRecipient(), notification),
+                                                   notification.events()));
+            } catch (RuntimeException e) {
+                deliveries.put(group, new Delivery(CompletableFuture.failedFuture(e), 0));
+            }
+        }
+
+        List<Long> delivered = new ArrayList<>();
+        long deadline = System.nanoTime() + deliveryTimeout.toNanos();
+        deliveries.forEach((group, delivery) -> {
+            try {
+                delivery.future().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                group.forEach(entry -> delivered.add(entry.getId()));
+                sentCounter.increment();
+                collapsedCounter.increment(delivery.events() - 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                recordFailure(group, e);
+            } catch (ExecutionException e) {
+                recordFailure(group, e.getCause());
+            } catch (TimeoutException e) {
+                recordFailure(group, e);
+            }
+        });
+
+        if (!delivered.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(delivered);
+            deliveredCounter.increment(delivered.size());
+        }
+
+        log.debug("Notification outbox batch dispatched - notifications: {}, entries delivered: {}",
+                  deliveries.size(), delivered.size());
+    }
+
+    /**
+     * Hand one notification to the executor, tracking it in the queue depth until it completes.
+     */
+    private CompletableFuture<Void> send(String recipient, NotificationCoalescer.CoalescedNotification notification) {
+        inFlight.incrementAndGet();
+        try {
+            return notificationService.deliver(notification.type(), recipient, notification.tasks())
+                                      .whenComplete((result, e) -> inFlight.decrementAndGet());
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void recordFailure(List<NotificationOutbox> group, Throwable cause) {
+        failedCounter.increment();
+
+        int attempts = group.stream().mapToInt(NotificationOutbox::getAttempts).max().orElse(0) + 1;
+        String error = String.valueOf(cause);
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        NotificationOutbox first = group.getFirst();
+        if (attempts >= maxAttempts) {
+            log.error("Notification outbox entries {} to {} failed {} times, giving up",
+                      group.stream().map(NotificationOutbox::getId).toList(), first.getRecipient(), attempts, cause);
+        } else {
+            log.warn("Notification outbox entry {} failed (attempt {}): {}", first.getId(), attempts, error);
+        }
+
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 10));
+        outboxRepository.markFailed(group.stream().map(NotificationOutbox::getId).toList(),
+                                    LocalDateTime.now().plus(backoff), error);
+    }
+
+    private double lagSeconds() {
+        LocalDateTime oldest = oldestPending.get();
+        return oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+
+    /**
+     * One pass over a batch of due entries.
+     */
+    @FunctionalInterface
+    private interface BatchDispatch {
+
+        /**
+         * @return number of entries or recipients attempted
+         */
+        int dispatch();
+    }
+
+    private record Delivery(CompletableFuture<Void> future, int events) {
+    }
+}
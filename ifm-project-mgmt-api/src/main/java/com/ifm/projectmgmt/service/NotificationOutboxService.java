@@ -0,0 +1,159 @@
+package com.ifm.projectmgmt.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ifm.projectmgmt.dto.notification.TaskNotification;
+import com.ifm.projectmgmt.dto.response.TaskResponse;
+import com.ifm.projectmgmt.entity.NotificationOutbox;
+import com.ifm.projectmgmt.entity.NotificationType;
+import com.ifm.projectmgmt.entity.Task;
+import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Service for recording notifications in the transactional outbox.
+ * Every method must run inside the write transaction of the change it describes, so a notification
+ * is stored if and only if the change commits. Delivery is left to NotificationOutboxDispatcher.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class NotificationOutboxService {
+
+    private static final TypeReference<List<TaskNotification>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Record a task created notification for the assignee.
+     *
+     * @param task the newly created task
+     */
+    public void taskCreated(Task task) {
+        enqueue(NotificationType.TASK_CREATED, task.getAssignee(), List.of(snapshot(task).build()));
+    }
+
+    /**
+     * Record one tasks created notification per assignee.
+     *
+     * @param tasks the newly created tasks
+     */
+    public void tasksCreated(List<Task> tasks) {
+        Map<String, List<TaskNotification>> tasksByAssignee = tasks.stream()
+                .collect(Collectors.groupingBy(Task::getAssignee, LinkedHashMap::new,
+                        Collectors.mapping(task -> snapshot(task).build(), Collectors.toList())));
+
+        outboxRepository.saveAll(tasksByAssignee.entrySet().stream()
+                                                .map(entry -> newEntry(NotificationType.TASKS_CREATED,
+                                                        entry.getKey(), entry.getValue()))
+                                                .toList());
+    }
+
+    /**
+     * Record a task updated notification for the assignee.
+     *
+     * @param task    the updated task
+     * @param changes description of what changed
+     */
+    public void taskUpdated(Task task, String changes) {
+        enqueue(NotificationType.TASK_UPDATED, task.getAssignee(),
+                List.of(snapshot(task).changes(changes).build()));
+    }
+
+    /**
+     * Record a task status changed notification for the assignee.
+     *
+     * @param task           the task with updated status
+     * @param previousStatus the previous status
+     */
+    public void taskStatusChanged(Task task, TaskStatus previousStatus) {
+        enqueue(NotificationType.TASK_STATUS_CHANGED, task.getAssignee(),
+                List.of(snapshot(task).previousStatus(previousStatus).build()));
+    }
+
+    /**
+     * Record one status changed notification per assignee for a batch of status changes.
+     *
+     * @param tasks            the tasks with updated status
+     * @param previousStatuses the previous status per task ID
+     */
+    public void taskStatusesChanged(List<TaskResponse> tasks, Map<Long, TaskStatus> previousStatuses) {
+        Map<String, List<TaskNotification>> tasksByAssignee = tasks.stream()
+                .collect(Collectors.groupingBy(TaskResponse::getAssignee, LinkedHashMap::new,
+                        Collectors.mapping(task -> TaskNotification.builder()
+                                                                   .taskId(task.getId())
+                                                                   .taskName(task.getName())
+                                                                   .priority(task.getPriority())
+                                                                   .dueDate(task.getDueDate())
+                                                                   .status(task.getStatus())
+                                                                   .previousStatus(previousStatuses.get(task.getId()))
+                                                                   .projectName(task.getProjectName())
+                                                                   .build(),
+                                Collectors.toList())));
+
+        outboxRepository.saveAll(tasksByAssignee.entrySet().stream()
+                                                .map(entry -> newEntry(NotificationType.TASK_STATUSES_CHANGED,
+                                                        entry.getKey(), entry.getValue()))
+                                                .toList());
+    }
+
+    /**
+     * Read the task snapshots of an outbox entry.
+     *
+     * @param entry the outbox entry
+     * @return task snapshots
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TaskNotification> readPayload(NotificationOutbox entry) {
+        try {
+            return objectMapper.readValue(entry.getPayload(), PAYLOAD_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable notification outbox payload for entry " + entry.getId(), e);
+        }
+    }
+
+    private void enqueue(NotificationType type, String recipient, List<TaskNotification> tasks) {
+        outboxRepository.save(newEntry(type, recipient, tasks));
+    }
+
+    private NotificationOutbox newEntry(NotificationType type, String recipient, List<TaskNotification> tasks) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            return NotificationOutbox.builder()
+                                     .type(type)
+                                     .recipient(recipient)
+                                     .payload(objectMapper.writeValueAsString(tasks))
+                                     .createdAt(now)
+                                     .nextAttemptAt(now)
+                                     .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize notification payload", e);
+        }
+    }
+
+    private TaskNotification.TaskNotificationBuilder snapshot(Task task) {
+        return TaskNotification.builder()
+                               .taskId(task.getId())
+                               .taskName(task.getName())
+                               .priority(task.getPriority())
+                               .dueDate(task.getDueDate())
+                               .status(task.getStatus())
+                               .projectName(task.getProject().getName());
+    }
+}
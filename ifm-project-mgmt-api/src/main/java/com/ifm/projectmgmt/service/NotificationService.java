@@ -1,15 +1,19 @@
 package com.ifm.projectmgmt.service;
 
-import com.ifm.projectmgmt.entity.Task;
+import com.ifm.projectmgmt.dto.notification.TaskNotification;
+import com.ifm.projectmgmt.entity.NotificationType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * Service for sending asynchronous email notifications.
- * Uses thread pool configured in AsyncConfig for non-blocking operations.
+ * Notifications are read from the transactional outbox by NotificationOutboxDispatcher and delivered
+ * on the thread pool configured in AsyncConfig, so sending never runs inside a write transaction.
  * Uses Java text blocks for cleaner multi-line log formatting.
  * Note: This is a mock implementation that logs notifications instead of sending actual emails.
  *
@@ -21,14 +25,40 @@ import java.util.concurrent.CompletableFuture;
 public class NotificationService {
 
     /**
-     * Send email notification when a new task is created.
+     * Maximum number of task names listed in an aggregated notification.
+     */
+    private static final int MAX_LISTED_TASKS = 20;
+
+    /**
+     * Deliver one outbox notification.
      * Executes asynchronously in a separate thread from the task executor pool.
      *
-     * @param task the newly created task
-     * @return CompletableFuture that completes when notification is sent
+     * @param type      the notification type
+     * @param recipient the recipient (task assignee)
+     * @param tasks     the task snapshots the notification is about
+     * @return CompletableFuture that completes when the notification is sent, or fails if sending failed
      */
     @Async("taskExecutor")
-    public CompletableFuture<Void> sendTaskCreatedNotification(Task task) {
+    public CompletableFuture<Void> deliver(NotificationType type, String recipient, List<TaskNotification> tasks) {
+        switch (type) {
+            case TASK_CREATED -> sendTaskCreatedNotification(recipient, tasks.getFirst());
+            case TASKS_CREATED -> sendTasksCreatedNotification(recipient, tasks);
+            case TASK_UPDATED -> sendTaskUpdatedNotification(recipient, tasks.getFirst());
+            case TASK_STATUS_CHANGED -> sendTaskStatusChangedNotification(recipient, tasks.getFirst());
+            case TASK_STATUSES_CHANGED -> sendTaskStatusChangedNotifications(recipient, tasks);
+            case TASK_DIGEST -> sendTaskDigestNotification(recipient, tasks);
+        }
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Send email notification when a new task is created.
+     *
+     * @param recipient the task assignee
+     * @param task      the newly created task
+     */
+    public void sendTaskCreatedNotification(String recipient, TaskNotification task) {
         String threadName = Thread.currentThread().getName();
 
         log.info("""
@@ -40,39 +70,78 @@ public class NotificationService {
                          Subject: New Task Assigned - {}
                          ----------------------------------------
                          You have been assigned a new task:
-                         
+
                            Task Name    : {}
                            Priority     : {} (1=Low, 5=High)
                            Due Date     : {}
                            Status       : {}
                            Project      : {}
-                         
+
                          Please log in to the system to view more details.
                          ========================================
                          """,
                  threadName,
-                 task.getAssignee(),
-                 task.getName(),
-                 task.getName(),
+                 recipient,
+                 task.getTaskName(),
+                 task.getTaskName(),
                  task.getPriority(),
                  task.getDueDate(),
                  task.getStatus(),
-                 task.getProject().getName()
+                 task.getProjectName()
         );
+    }
 
-        return CompletableFuture.completedFuture(null);
+    /**
+     * Send a single email notification for several tasks created for the same assignee.
+     * Used by batch creation so an assignee receives one notification instead of one per task.
+     *
+     * @param recipient the assignee of the new tasks
+     * @param tasks     the new tasks
+     */
+    public void sendTasksCreatedNotification(String recipient, List<TaskNotification> tasks) {
+        String threadName = Thread.currentThread().getName();
+        String projectName = tasks.getFirst().getProjectName();
+
+        String listedTasks = tasks.stream()
+                                  .limit(MAX_LISTED_TASKS)
+                                  .map(task -> "  - " + task.getTaskName())
+                                  .collect(Collectors.joining(System.lineSeparator()));
+        if (tasks.size() > MAX_LISTED_TASKS) {
+            listedTasks += System.lineSeparator() + "  ... and " + (tasks.size() - MAX_LISTED_TASKS) + " more";
+        }
+
+        log.info("""
+                         ========================================
+                         EMAIL NOTIFICATION - TASKS CREATED
+                         ========================================
+                         Thread: {}
+                         To: {}
+                         Subject: {} New Tasks Assigned - {}
+                         ----------------------------------------
+                         You have been assigned {} new tasks in project {}:
+
+                         {}
+
+                         Please log in to the system to view more details.
+                         ========================================
+                         """,
+                 threadName,
+                 recipient,
+                 tasks.size(),
+                 projectName,
+                 tasks.size(),
+                 projectName,
+                 listedTasks
+        );
     }
 
     /**
      * Send email notification when a task is updated.
-     * Executes asynchronously in a separate thread from the task executor pool.
      *
-     * @param task    the updated task
-     * @param changes description of what changed
-     * @return CompletableFuture that completes when notification is sent
+     * @param recipient the task assignee
+     * @param task      the updated task, including the description of what changed
      */
-    @Async("taskExecutor")
-    public CompletableFuture<Void> sendTaskUpdatedNotification(Task task, String changes) {
+    public void sendTaskUpdatedNotification(String recipient, TaskNotification task) {
         String threadName = Thread.currentThread().getName();
 
         log.info("""
@@ -84,42 +153,117 @@ public class NotificationService {
                          Subject: Task Updated - {}
                          ----------------------------------------
                          Your task has been updated:
-                         
+
                            Task Name    : {}
                            Changes      : {}
                            Current Status: {}
                            Priority     : {}
                            Due Date     : {}
                            Project      : {}
-                         
+
                          Please log in to the system to view more details.
                          ========================================
                          """,
                  threadName,
-                 task.getAssignee(),
-                 task.getName(),
-                 task.getName(),
-                 changes,
+                 recipient,
+                 task.getTaskName(),
+                 task.getTaskName(),
+                 task.getChanges(),
                  task.getStatus(),
                  task.getPriority(),
                  task.getDueDate(),
-                 task.getProject().getName()
+                 task.getProjectName()
         );
+    }
 
-        return CompletableFuture.completedFuture(null);
+    /**
+     * Send a single status change notification listing several tasks of the same assignee.
+     *
+     * @param recipient the task assignee
+     * @param tasks     the tasks with updated status
+     */
+    public void sendTaskStatusChangedNotifications(String recipient, List<TaskNotification> tasks) {
+        String threadName = Thread.currentThread().getName();
+
+        String listedChanges = tasks.stream()
+                                    .limit(MAX_LISTED_TASKS)
+                                    .map(task -> "  - " + task.getTaskName() + " (" + task.getProjectName()
+                                            + "): " + task.getPreviousStatus() + " -> " + task.getStatus())
+                                    .collect(Collectors.joining(System.lineSeparator()));
+        if (tasks.size() > MAX_LISTED_TASKS) {
+            listedChanges += System.lineSeparator() + "  ... and " + (tasks.size() - MAX_LISTED_TASKS) + " more";
+        }
+
+        log.info("""
+                         ========================================
+                         EMAIL NOTIFICATION - STATUSES CHANGED
+                         ========================================
+                         Thread: {}
+                         To: {}
+                         Subject: Status Changed for {} Tasks
+                         ----------------------------------------
+                         The status of your tasks has been changed:
+
+                         {}
+
+                         Please log in to the system to view more details.
+                         ========================================
+                         """,
+                 threadName,
+                 recipient,
+                 tasks.size(),
+                 listedChanges
+        );
+    }
+
+    /**
+     * Send a digest of all changes to several tasks of the same assignee.
+     * Produced by NotificationCoalescer when several notifications were merged.
+     *
+     * @param recipient the task assignee
+     * @param tasks     the changed tasks, each with a merged description of its changes
+     */
+    public void sendTaskDigestNotification(String recipient, List<TaskNotification> tasks) {
+        String threadName = Thread.currentThread().getName();
+
+        String listedChanges = tasks.stream()
+                                    .limit(MAX_LISTED_TASKS)
+                                    .map(task -> "  - " + task.getTaskName() + " (" + task.getProjectName()
+                                            + "): " + task.getChanges())
+                                    .collect(Collectors.joining(System.lineSeparator()));
+        if (tasks.size() > MAX_LISTED_TASKS) {
+            listedChanges += System.lineSeparator() + "  ... and " + (tasks.size() - MAX_LISTED_TASKS) + " more";
+        }
+
+        log.info("""
+                         ========================================
+                         EMAIL NOTIFICATION - TASK DIGEST
+                         ========================================
+                         Thread: {}
+                         To: {}
+                         Subject: Updates to {} Tasks
+                         ----------------------------------------
+                         The following tasks have changed:
+
+                         {}
+
+                         Please log in to the system to view more details.
+                         ========================================
+                         """,
+                 threadName,
+                 recipient,
+                 tasks.size(),
+                 listedChanges
+        );
     }
 
     /**
      * Send email notification when a task status is changed.
-     * Executes asynchronously in a separate thread from the task executor pool.
      *
-     * @param task      the task with updated status
-     * @param oldStatus the previous status
-     * @param newStatus the new status
-     * @return CompletableFuture that completes when notification is sent
+     * @param recipient the task assignee
+     * @param task      the task with updated status, including its previous status
      */
-    @Async("taskExecutor")
-    public CompletableFuture<Void> sendTaskStatusChangedNotification(Task task, String oldStatus, String newStatus) {
+    public void sendTaskStatusChangedNotification(String recipient, TaskNotification task) {
         String threadName = Thread.currentThread().getName();
 
         log.info("""
@@ -131,28 +275,26 @@ public class NotificationService {
                          Subject: Task Status Changed - {}
                          ----------------------------------------
                          The status of your task has been changed:
-                         
+
                            Task Name    : {}
                            Old Status   : {}
                            New Status   : {}
                            Priority     : {}
                            Due Date     : {}
                            Project      : {}
-                         
+
                          Please log in to the system to view more details.
                          ========================================
                          """,
                  threadName,
-                 task.getAssignee(),
-                 task.getName(),
-                 task.getName(),
-                 oldStatus,
-                 newStatus,
+                 recipient,
+                 task.getTaskName(),
+                 task.getTaskName(),
+                 task.getPreviousStatus(),
+                 task.getStatus(),
                  task.getPriority(),
                  task.getDueDate(),
-                 task.getProject().getName()
+                 task.getProjectName()
         );
-
-        return CompletableFuture.completedFuture(null);
     }
 }
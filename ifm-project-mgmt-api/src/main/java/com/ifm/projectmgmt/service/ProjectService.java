@@ -4,11 +4,16 @@ import com.ifm.projectmgmt.dto.request.CreateProjectRequest;
 import com.ifm.projectmgmt.dto.request.UpdateProjectRequest;
 import com.ifm.projectmgmt.dto.response.ProjectResponse;
 import com.ifm.projectmgmt.entity.Project;
+import com.ifm.projectmgmt.event.TaskChangedEvent;
 import com.ifm.projectmgmt.exception.ResourceNotFoundException;
 import com.ifm.projectmgmt.repository.ProjectRepository;
 import com.ifm.projectmgmt.repository.TaskRepository;
+import com.ifm.projectmgmt.util.Constants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +33,10 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
+    private final CacheManager cacheManager;
+    private final TaskWriteGeneration taskWriteGeneration;
+    private final TaskNameIndex taskNameIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all projects.
@@ -41,7 +50,7 @@ public class ProjectService {
         List<Project> projects = projectRepository.findAll();
 
         return projects.stream()
-                       .map(this::mapToResponse)
+                       .map(ProjectResponse::from)
                        .toList();
     }
 
@@ -59,7 +68,7 @@ public class ProjectService {
         Project project = projectRepository.findById(id)
                                            .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
 
-        return mapToResponse(project);
+        return ProjectResponse.from(project);
     }
 
     /**
@@ -80,7 +89,7 @@ public class ProjectService {
 
         log.info("Project created successfully with id: {}", savedProject.getId());
 
-        return mapToResponse(savedProject);
+        return ProjectResponse.from(savedProject);
     }
 
     /**
@@ -99,8 +108,11 @@ public class ProjectService {
         Project project = projectRepository.findById(id)
                                            .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
 
-        if (request.getName() != null && !request.getName().isBlank()) {
+        if (request.getName() != null && !request.getName().isBlank()
+                && !request.getName().equals(project.getName())) {
             project.setName(request.getName());
+            // Cached task responses embed the project name
+            evictCachedTasks(id);
         }
 
         if (request.getDescription() != null) {
@@ -111,7 +123,7 @@ public class ProjectService {
 
         log.info("Project updated successfully with id: {}", id);
 
-        return mapToResponse(updatedProject);
+        return ProjectResponse.from(updatedProject);
     }
 
     /**
@@ -127,27 +139,53 @@ public class ProjectService {
         Project project = projectRepository.findById(id)
                                            .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
 
+        // Tasks are removed by cascade, so evict them from the cache and the name index explicitly
+        List<Long> taskIds = evictCachedTasks(id);
+        taskNameIndex.onDeleted(taskIds);
+        project.getTasks().forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.deleted(task)));
+
         projectRepository.delete(project);
 
         log.info("Project deleted successfully with id: {}", id);
     }
 
     /**
-     * Map Project entity to ProjectResponse DTO.
+     * Re-derive the maintained task count of every project from the task table.
+     * Repairs drift caused by writes that bypass the service layer, such as manual SQL.
      *
-     * @param project the project entity
-     * @return project response
+     * @return number of repaired projects
      */
-    private ProjectResponse mapToResponse(Project project) {
-        long taskCount = taskRepository.countByProjectId(project.getId());
-
-        return ProjectResponse.builder()
-                              .id(project.getId())
-                              .name(project.getName())
-                              .description(project.getDescription())
-                              .taskCount(taskCount)
-                              .createdAt(project.getCreatedAt())
-                              .updatedAt(project.getUpdatedAt())
-                              .build();
+    @Transactional
+    public int repairTaskCounts() {
+        int repaired = projectRepository.repairTaskCounts();
+
+        if (repaired > 0) {
+            log.warn("Repaired task count of {} projects", repaired);
+        } else {
+            log.debug("Task counts of all projects are consistent");
+        }
+
+        return repaired;
+    }
+
+    /**
+     * Evict the cached tasks of a project and invalidate cached task searches.
+     * The cache is transaction-aware, so evictions take effect once the transaction commits.
+     *
+     * @param projectId the project ID
+     * @return IDs of the project's tasks
+     */
+    private List<Long> evictCachedTasks(Long projectId) {
+        taskWriteGeneration.advanceAfterCommit();
+
+        List<Long> taskIds = taskRepository.findIdsByProjectId(projectId);
+
+        Cache taskCache = cacheManager.getCache(Constants.CACHE_TASK_BY_ID);
+        if (taskCache != null) {
+            taskIds.forEach(taskCache::evict);
+            log.debug("Evicted {} cached tasks for project id: {}", taskIds.size(), projectId);
+        }
+
+        return taskIds;
     }
 }
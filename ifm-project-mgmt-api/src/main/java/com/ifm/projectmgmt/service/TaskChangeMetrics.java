@@ -0,0 +1,51 @@
+package com.ifm.projectmgmt.service;
+
+import com.ifm.projectmgmt.event.TaskChangedEvent;
+import com.ifm.projectmgmt.event.TaskEventConsumer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Counts committed task changes by type, and status transitions by target status.
+ * Runs as a TaskEventBus consumer, so counting never adds work to a write transaction.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskChangeMetrics implements TaskEventConsumer {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public String consumerName() {
+        return "change-metrics";
+    }
+
+    /**
+     * Count one committed task change.
+     *
+     * @param event the task change
+     */
+    @Override
+    public void onTaskChanged(TaskChangedEvent event) {
+        Counter.builder("task.changes")
+               .description("Committed task changes")
+               .tag("type", event.type().name().toLowerCase(Locale.ROOT))
+               .register(meterRegistry)
+               .increment();
+
+        if (event.after() != null && (event.before() == null || event.before().status() != event.after().status())) {
+            Counter.builder("task.status.transitions")
+                   .description("Committed task status changes, by new status")
+                   .tag("status", event.after().status().name())
+                   .register(meterRegistry)
+                   .increment();
+        }
+    }
+}
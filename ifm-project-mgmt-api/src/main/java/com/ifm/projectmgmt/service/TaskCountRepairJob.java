@@ -0,0 +1,30 @@
+package com.ifm.projectmgmt.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job that re-derives the maintained project task counts.
+ * The counts are kept current by the task write paths; this job only repairs drift.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskCountRepairJob {
+
+    private final ProjectService projectService;
+
+    /**
+     * Repair task counts on the configured schedule (nightly by default).
+     */
+    @Scheduled(cron = "${project.task-count-repair.cron:0 0 3 * * *}")
+    public void repairTaskCounts() {
+        log.debug("Running task count repair job");
+        projectService.repairTaskCounts();
+    }
+}
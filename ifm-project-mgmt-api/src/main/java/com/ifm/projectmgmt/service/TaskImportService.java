@@ -0,0 +1,284 @@
+package com.ifm.projectmgmt.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.ifm.projectmgmt.dto.request.CreateTaskRequest;
+import com.ifm.projectmgmt.dto.response.TaskImportError;
+import com.ifm.projectmgmt.dto.response.TaskImportResponse;
+import com.ifm.projectmgmt.entity.Project;
+import com.ifm.projectmgmt.entity.Task;
+import com.ifm.projectmgmt.event.TaskChangedEvent;
+import com.ifm.projectmgmt.exception.InvalidInputException;
+import com.ifm.projectmgmt.exception.ResourceNotFoundException;
+import com.ifm.projectmgmt.repository.ProjectRepository;
+import com.ifm.projectmgmt.repository.TaskRepository;
+import com.ifm.projectmgmt.util.Constants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service importing tasks from CSV or NDJSON files.
+ * The file is parsed as a stream, one row at a time, so its size does not affect memory use.
+ * Every row is validated against the CreateTaskRequest constraints; invalid rows are reported and skipped.
+ * Valid rows are inserted in chunks of JDBC batches outside the persistence context, each chunk in its own
+ * transaction, so an import is not atomic: chunks committed before a fatal parse error stay imported.
+ *
+ * <p>Imported tasks update the project task count, the name indexes and the task event bus like any create,
+ * but no notifications are sent: a migration would otherwise flood every assignee.</p>
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class TaskImportService {
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskWriteGeneration writeGeneration;
+    private final TaskNameIndex taskNameIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+    private final Counter importedCounter;
+    private final Counter rejectedCounter;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public TaskImportService(ProjectRepository projectRepository,
+                             TaskRepository taskRepository,
+                             TaskWriteGeneration writeGeneration,
+                             TaskNameIndex taskNameIndex,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${task-import.chunk-size:1000}") int chunkSize,
+                             @Value("${task-import.max-reported-errors:100}") int maxReportedErrors) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.writeGeneration = writeGeneration;
+        this.taskNameIndex = taskNameIndex;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+
+        this.ndjsonReader = objectMapper.readerFor(CreateTaskRequest.class);
+        CsvMapper csvMapper = CsvMapper.builder()
+                                       .findAndAddModules()
+                                       .enable(CsvParser.Feature.TRIM_SPACES)
+                                       .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                                       .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                                       .build();
+        this.csvReader = csvMapper.readerFor(CreateTaskRequest.class)
+                                  .with(CsvSchema.emptySchema().withHeader());
+
+        this.importedCounter = Counter.builder("task.import.rows")
+                                      .description("Rows read by task imports")
+                                      .tag("outcome", "imported")
+                                      .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("task.import.rows")
+                                      .description("Rows read by task imports")
+                                      .tag("outcome", "rejected")
+                                      .register(meterRegistry);
+    }
+
+    /**
+     * Import the tasks of a CSV or NDJSON file into a project.
+     * CSV files need a header row naming the columns {@code name, priority, dueDate, assignee}; other columns
+     * are ignored. NDJSON files hold one CreateTaskRequest JSON object per line.
+     *
+     * @param projectId   the project ID
+     * @param contentType the content type of the file, {@code text/csv} or {@code application/x-ndjson}
+     * @param content     the file content, read once as a stream
+     * @return counts, throughput and the errors of rejected rows
+     * @throws ResourceNotFoundException if project not found
+     * @throws InvalidInputException     if the content type is not supported
+     * @throws IOException               if the content cannot be read
+     */
+    public TaskImportResponse importTasks(Long projectId, String contentType, InputStream content)
+            throws IOException {
+        String format = resolveFormat(contentType);
+        // Resolved in a read-write transaction: the project must be on the primary the chunks are written to
+        Project project = transactionTemplate.execute(status -> projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException(Constants.ERROR_PROJECT_NOT_FOUND + projectId)));
+
+        log.info("Importing {} tasks for project id: {}", format, projectId);
+
+        long start = System.nanoTime();
+        ImportRun run = new ImportRun();
+        List<Task> chunk = new ArrayList<>(chunkSize);
+
+        ObjectReader reader = Constants.FORMAT_CSV.equals(format) ? csvReader : ndjsonReader;
+        try (MappingIterator<CreateTaskRequest> rows = reader.readValues(content)) {
+            while (readRow(rows, project, chunk, run)) {
+                if (chunk.size() >= chunkSize) {
+                    insertChunk(projectId, chunk, run);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(projectId, chunk, run);
+        }
+
+        long durationNanos = System.nanoTime() - start;
+        log.info("Imported {} of {} tasks for project id: {} in {} ms{}", run.imported, run.rowsRead, projectId,
+                 durationNanos / 1_000_000, run.aborted ? " (aborted)" : "");
+
+        return TaskImportResponse.builder()
+                                 .projectId(projectId)
+                                 .format(format)
+                                 .rowsRead(run.rowsRead)
+                                 .importedCount(run.imported)
+                                 .rejectedCount(run.rejected)
+                                 .aborted(run.aborted)
+                                 .durationMillis(durationNanos / 1_000_000)
+                                 .rowsPerSecond(run.rowsRead * 1e9 / Math.max(1, durationNanos))
+                                 .errors(run.errors)
+                                 .errorsTruncated(run.rejected > run.errors.size())
+                                 .build();
+    }
+
+    /**
+     * Read and validate the next row, adding it to the chunk if it is valid.
+     *
+     * @return false once the file is exhausted or cannot be read any further
+     */
+    private boolean readRow(MappingIterator<CreateTaskRequest> rows, Project project, List<Task> chunk,
+                            ImportRun run) {
+        long line = rows.getCurrentLocation().getLineNr();
+        boolean counted = false;
+        try {
+            if (!rows.hasNextValue()) {
+                return false;
+            }
+            // Positioned just after the first token of the row, which is on the line the row starts
+            line = rows.getCurrentLocation().getLineNr();
+            run.rowsRead++;
+            counted = true;
+
+            CreateTaskRequest request = rows.nextValue();
+            String violations = validator.validate(request).stream()
+                                         .map(ConstraintViolation::getMessage)
+                                         .sorted()
+                                         .collect(Collectors.joining("; "));
+            if (violations.isEmpty()) {
+                chunk.add(TaskService.newTask(project, request));
+            } else {
+                run.reject(line, violations);
+            }
+            return true;
+        } catch (JsonMappingException e) {
+            // The iterator skips the rest of the row, so reading can continue
+            run.reject(line, describe(e));
+            return true;
+        } catch (IOException e) {
+            if (!counted) {
+                run.rowsRead++;
+            }
+            run.reject(line, "Unreadable content, import stopped: " + originalMessage(e));
+            run.aborted = true;
+            return false;
+        }
+    }
+
+    /**
+     * Insert one chunk of tasks in its own transaction.
+     */
+    private void insertChunk(Long projectId, List<Task> tasks, ImportRun run) {
+        transactionTemplate.executeWithoutResult(status -> {
+            taskRepository.insertAllUnmanaged(tasks, LocalDateTime.now());
+            projectRepository.adjustTaskCount(projectId, tasks.size());
+
+            writeGeneration.advanceAfterCommit();
+            taskNameIndex.onCreated(tasks.stream().collect(Collectors.toMap(Task::getId, Task::getName)));
+            tasks.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.created(task)));
+        });
+
+        run.imported += tasks.size();
+        importedCounter.increment(tasks.size());
+        log.debug("Imported chunk of {} tasks for project id: {}", tasks.size(), projectId);
+    }
+
+    private String resolveFormat(String contentType) {
+        if (contentType != null) {
+            try {
+                MediaType mediaType = MediaType.parseMediaType(contentType);
+                if (mediaType.isCompatibleWith(MediaType.parseMediaType(Constants.MEDIA_TYPE_CSV))) {
+                    return Constants.FORMAT_CSV;
+                }
+                if (mediaType.isCompatibleWith(MediaType.parseMediaType(Constants.MEDIA_TYPE_NDJSON))) {
+                    return Constants.FORMAT_NDJSON;
+                }
+            } catch (IllegalArgumentException e) {
+                log.debug("Invalid import content type: {}", contentType);
+            }
+        }
+        throw new InvalidInputException(Constants.ERROR_UNSUPPORTED_IMPORT_FORMAT);
+    }
+
+    private String describe(JsonMappingException e) {
+        String field = e.getPath().isEmpty() ? null : e.getPath().getLast().getFieldName();
+        if (e instanceof InvalidFormatException invalidFormat && field != null) {
+            return String.format("Invalid value '%s' for field '%s'", invalidFormat.getValue(), field);
+        }
+        return originalMessage(e);
+    }
+
+    private String originalMessage(IOException e) {
+        return e instanceof JsonProcessingException jsonException ? jsonException.getOriginalMessage() : e.getMessage();
+    }
+
+    /**
+     * Counters and errors of one import.
+     */
+    private final class ImportRun {
+
+        private long rowsRead;
+        private long imported;
+        private long rejected;
+        private boolean aborted;
+        private final List<TaskImportError> errors = new ArrayList<>();
+
+        private void reject(long line, String message) {
+            rejected++;
+            rejectedCounter.increment();
+            if (errors.size() < maxReportedErrors) {
+                errors.add(TaskImportError.builder()
+                                          .line(line)
+                                          .message(message)
+                                          .build());
+            }
+        }
+    }
+}
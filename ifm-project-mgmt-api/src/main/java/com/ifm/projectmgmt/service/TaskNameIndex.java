@@ -0,0 +1,440 @@
+package com.ifm.projectmgmt.service;
+
+import com.ifm.projectmgmt.repository.TaskRepository;
+import com.ifm.projectmgmt.specification.TaskSpecification;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * In-process trigram inverted index over task names.
+ * Maps every lower-cased three-character substring of a task name to the sorted IDs of the tasks containing it,
+ * so a name search can resolve a small candidate ID set instead of scanning every row with {@code LIKE '%term%'}.
+ *
+ * <p>The index is kept a superset of the committed data: names are added as soon as a write happens and removed
+ * only after the transaction commits (or, for a rolled-back insert, after the rollback). Searches still apply the
+ * original {@code LIKE} predicate to the candidates, so results are identical to a full scan.</p>
+ *
+ * <p>The index is rebuilt from the database once the application is ready; until then it reports itself unusable
+ * and searches fall back to the plain {@code LIKE} scan. A rebuild reads the snapshot into fresh maps without
+ * blocking writers, replays the changes made meanwhile and the names of still-open transactions, then swaps the
+ * maps in, so a task written while the snapshot is read is never dropped.</p>
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class TaskNameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    /**
+     * Rough per-entry cost of a hash map entry with a boxed key (entry, key object, table slot).
+     */
+    private static final int MAP_ENTRY_WEIGHT = 64;
+
+    private final TaskRepository taskRepository;
+    private final int maxCandidates;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexData data = new IndexData();
+    private volatile boolean ready;
+
+    /**
+     * Names added by transactions that have not completed yet, by task ID.
+     */
+    private final Map<Long, List<String>> pendingNames = new HashMap<>();
+
+    /**
+     * Changes applied while a rebuild reads its snapshot, replayed onto the rebuilt maps. Null when not rebuilding.
+     */
+    private List<Consumer<IndexData>> rebuildChanges;
+
+    public TaskNameIndex(TaskRepository taskRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${search.name-index.max-candidates:1000}") int maxCandidates) {
+        this.taskRepository = taskRepository;
+        this.maxCandidates = maxCandidates;
+
+        Gauge.builder("task.name.index.tasks", this, TaskNameIndex::size)
+             .description("Number of tasks in the trigram name index")
+             .register(meterRegistry);
+        Gauge.builder("task.name.index.trigrams", this, TaskNameIndex::trigramCount)
+             .description("Number of distinct trigrams in the name index")
+             .register(meterRegistry);
+        Gauge.builder("task.name.index.memory", this, TaskNameIndex::estimatedMemoryBytes)
+             .description("Estimated heap footprint of the name index")
+             .baseUnit("bytes")
+             .register(meterRegistry);
+    }
+
+    /**
+     * Rebuild the index from all task names in the database.
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+
+        // Names of open transactions may commit after the snapshot is taken, so they are replayed as well
+        withWriteLock(() -> {
+            rebuildChanges = new ArrayList<>();
+            pendingNames.forEach((id, names) -> names.forEach(name -> rebuildChanges.add(
+                    rebuilt -> rebuilt.addName(id, name))));
+        });
+
+        IndexData rebuilt = new IndexData();
+        try (Stream<TaskRepository.TaskNameView> names = taskRepository.streamAllNames()) {
+            names.forEach(view -> rebuilt.addName(view.getId(), view.getName()));
+        } catch (RuntimeException e) {
+            withWriteLock(() -> rebuildChanges = null);
+            throw e;
+        }
+
+        withWriteLock(() -> {
+            rebuildChanges.forEach(change -> change.accept(rebuilt));
+            rebuildChanges = null;
+            data = rebuilt;
+            ready = true;
+        });
+
+        log.info("Task name index rebuilt with {} tasks and {} trigrams in {} ms",
+                 size(), trigramCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Resolve the IDs of tasks whose name may contain the given term.
+     * The result is a superset of the matching tasks and must still be filtered with the {@code LIKE} predicate.
+     * Returns empty when the index cannot answer: before the first rebuild, for terms shorter than a trigram,
+     * for terms containing {@code LIKE} wildcards or escapes, or when the candidate set is too large
+     * to be worth an {@code IN} list.
+     *
+     * @param term the search term
+     * @return candidate task IDs, or empty if the caller should fall back to a full scan
+     */
+    public Optional<Set<Long>> findCandidates(String term) {
+        if (!ready || term == null) {
+            return Optional.empty();
+        }
+
+        String normalized = normalize(term);
+        if (normalized.length() < GRAM_LENGTH || normalized.indexOf('%') >= 0
+                || normalized.indexOf('_') >= 0 || normalized.indexOf('\\') >= 0) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<TaskPostings> lists = new ArrayList<>();
+            for (long gram : trigrams(normalized)) {
+                TaskPostings list = data.postings.get(gram);
+                if (list == null) {
+                    return Optional.of(Set.of());
+                }
+                lists.add(list);
+            }
+            lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+            TaskPostings smallest = lists.getFirst();
+            if (smallest.size > maxCandidates) {
+                return Optional.empty();
+            }
+
+            Set<Long> candidates = new HashSet<>();
+            for (int i = 0; i < smallest.size; i++) {
+                long id = smallest.ids[i];
+                boolean inAll = true;
+                for (int j = 1; j < lists.size() && inAll; j++) {
+                    inAll = lists.get(j).contains(id);
+                }
+                if (inAll) {
+                    candidates.add(id);
+                }
+            }
+            return Optional.of(candidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Index newly created tasks. The entries are removed again if the transaction rolls back.
+     *
+     * @param names the task names by task ID
+     */
+    public void onCreated(Map<Long, String> names) {
+        Map<Long, String> created = Map.copyOf(names);
+        withWriteLock(() -> created.forEach(this::addPendingName));
+        afterCompletion(committed -> withWriteLock(() -> created.forEach((id, name) -> {
+            completePendingName(id, name);
+            if (!committed) {
+                apply(index -> index.removeName(id, name));
+            }
+        })));
+    }
+
+    /**
+     * Re-index a renamed task. Both names are indexed until the transaction completes,
+     * then the name that did not survive is removed.
+     *
+     * @param id      the task ID
+     * @param oldName the previous name
+     * @param newName the new name
+     */
+    public void onRenamed(Long id, String oldName, String newName) {
+        withWriteLock(() -> addPendingName(id, newName));
+        afterCompletion(committed -> withWriteLock(() -> {
+            completePendingName(id, newName);
+            String removed = committed ? oldName : newName;
+            apply(index -> index.removeName(id, removed));
+        }));
+    }
+
+    /**
+     * Remove deleted tasks from the index once the transaction commits.
+     *
+     * @param ids the deleted task IDs
+     */
+    public void onDeleted(Collection<Long> ids) {
+        List<Long> deletedIds = List.copyOf(ids);
+        afterCompletion(committed -> {
+            if (committed) {
+                withWriteLock(() -> deletedIds.forEach(id -> apply(index -> index.removeTask(id))));
+            }
+        });
+    }
+
+    /**
+     * Get the number of indexed tasks.
+     *
+     * @return number of tasks
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return data.namesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of distinct trigrams.
+     *
+     * @return number of trigrams
+     */
+    public int trigramCount() {
+        lock.readLock().lock();
+        try {
+            return data.postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimate the heap footprint of the index in bytes.
+     *
+     * @return approximate size in bytes
+     */
+    public long estimatedMemoryBytes() {
+        lock.readLock().lock();
+        try {
+            return data.estimatedMemoryBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addPendingName(Long id, String name) {
+        pendingNames.computeIfAbsent(id, key -> new ArrayList<>(1)).add(name);
+        apply(index -> index.addName(id, name));
+    }
+
+    private void completePendingName(Long id, String name) {
+        List<String> names = pendingNames.get(id);
+        if (names != null && names.remove(name) && names.isEmpty()) {
+            pendingNames.remove(id);
+        }
+    }
+
+    /**
+     * Apply a change to the live maps and record it for an ongoing rebuild. Must hold the write lock.
+     */
+    private void apply(Consumer<IndexData> change) {
+        change.accept(data);
+        if (rebuildChanges != null) {
+            rebuildChanges.add(change);
+        }
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void afterCompletion(Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private static String normalize(String value) {
+        // Must match the LIKE predicate, or the candidates would not cover every match
+        return TaskSpecification.toLowerCase(value);
+    }
+
+    /**
+     * Encode the distinct trigrams of a normalized string, three UTF-16 chars packed into one long.
+     */
+    private static Set<Long> trigrams(String normalized) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+            grams.add(((long) normalized.charAt(i) << 32)
+                              | ((long) normalized.charAt(i + 1) << 16)
+                              | normalized.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * Trigram postings and indexed names by task ID. Replaced as a whole by a rebuild.
+     */
+    private static final class IndexData {
+
+        private final Map<Long, TaskPostings> postings = new HashMap<>();
+        private final Map<Long, List<String>> namesById = new HashMap<>();
+
+        void addName(Long id, String name) {
+            String normalized = normalize(name);
+            namesById.computeIfAbsent(id, key -> new ArrayList<>(1)).add(normalized);
+            for (long gram : trigrams(normalized)) {
+                postings.computeIfAbsent(gram, key -> new TaskPostings()).add(id);
+            }
+        }
+
+        void removeName(Long id, String name) {
+            List<String> names = namesById.get(id);
+            if (names == null) {
+                return;
+            }
+            String normalized = normalize(name);
+            if (!names.remove(normalized)) {
+                return;
+            }
+
+            // Keep trigrams still covered by another indexed name of the same task
+            Set<Long> retained = new HashSet<>();
+            names.forEach(remaining -> retained.addAll(trigrams(remaining)));
+            for (long gram : trigrams(normalized)) {
+                if (!retained.contains(gram)) {
+                    removePosting(gram, id);
+                }
+            }
+            if (names.isEmpty()) {
+                namesById.remove(id);
+            }
+        }
+
+        void removeTask(Long id) {
+            List<String> names = namesById.remove(id);
+            if (names == null) {
+                return;
+            }
+            Set<Long> grams = new HashSet<>();
+            names.forEach(name -> grams.addAll(trigrams(name)));
+            grams.forEach(gram -> removePosting(gram, id));
+        }
+
+        long estimatedMemoryBytes() {
+            long bytes = 0;
+            for (TaskPostings list : postings.values()) {
+                bytes += MAP_ENTRY_WEIGHT + 32 + 16 + (long) list.ids.length * Long.BYTES;
+            }
+            for (List<String> names : namesById.values()) {
+                bytes += MAP_ENTRY_WEIGHT + 40;
+                for (String name : names) {
+                    bytes += 40 + name.length();
+                }
+            }
+            return bytes;
+        }
+
+        private void removePosting(long gram, long id) {
+            TaskPostings list = postings.get(gram);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Sorted, growable array of task IDs. IDs are mostly appended in increasing order.
+     */
+    private static final class TaskPostings {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+    }
+}
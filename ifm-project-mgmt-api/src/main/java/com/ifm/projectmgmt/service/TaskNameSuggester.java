@@ -0,0 +1,394 @@
+package com.ifm.projectmgmt.service;
+
+import com.ifm.projectmgmt.dto.response.TaskSuggestion;
+import com.ifm.projectmgmt.event.TaskChangedEvent;
+import com.ifm.projectmgmt.event.TaskEventConsumer;
+import com.ifm.projectmgmt.repository.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index of distinct task names for auto-suggest.
+ * Keeps one sorted name map across all projects and one per project, so a prefix lookup never touches the
+ * database.
+ *
+ * <p>Suggestions are ranked by how many tasks share the name, then by the most recently created task.
+ * Every prefix of up to {@value #RANKED_PREFIX_LENGTH} characters keeps its names pre-sorted by rank, so the
+ * short prefixes that match the most names are answered by reading the first {@code limit} entries. Longer
+ * prefixes walk their ranked bucket and their name range side by side and stop as soon as either yields the
+ * answer. Unlike {@link TaskNameIndex}, writes are applied from committed changes delivered by TaskEventBus,
+ * so uncommitted names are never suggested.</p>
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class TaskNameSuggester implements TaskEventConsumer {
+
+    /**
+     * Longest prefix that keeps a pre-ranked bucket of names.
+     */
+    private static final int RANKED_PREFIX_LENGTH = 3;
+
+    /**
+     * Rough per-entry cost of a tree map or tree set node (node object plus its references).
+     */
+    private static final int TREE_NODE_WEIGHT = 48;
+
+    private static final Comparator<NameEntry> RANKING = Comparator
+            .comparingInt((NameEntry entry) -> entry.size).reversed()
+            .thenComparing(Comparator.comparingLong(NameEntry::lastId).reversed())
+            .thenComparing(entry -> entry.key);
+
+    private final TaskRepository taskRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NameScope allNames = new NameScope();
+    private final Map<Long, NameScope> namesByProject = new HashMap<>();
+
+    public TaskNameSuggester(TaskRepository taskRepository, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+
+        Gauge.builder("task.name.suggester.names", this, TaskNameSuggester::distinctNameCount)
+             .description("Number of distinct task names in the suggestion index")
+             .register(meterRegistry);
+        Gauge.builder("task.name.suggester.memory", this, TaskNameSuggester::estimatedMemoryBytes)
+             .description("Estimated heap footprint of the suggestion index")
+             .baseUnit("bytes")
+             .register(meterRegistry);
+    }
+
+    /**
+     * Rebuild the index from all task names in the database.
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+
+        lock.writeLock().lock();
+        try (Stream<TaskRepository.TaskNameView> names = taskRepository.streamAllNames()) {
+            allNames.clear();
+            namesByProject.clear();
+            names.forEach(view -> add(view.getId(), view.getProjectId(), view.getName()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Task name suggester rebuilt with {} distinct names (~{} KB) in {} ms",
+                 distinctNameCount(), estimatedMemoryBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Suggest distinct task names starting with the given prefix, case-insensitively.
+     *
+     * @param prefix    the typed prefix
+     * @param projectId the project to suggest from (optional, all projects if null)
+     * @param limit     the maximum number of suggestions
+     * @return suggestions, best ranked first
+     */
+    public List<TaskSuggestion> suggest(String prefix, Long projectId, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            NameScope scope = projectId == null ? allNames : namesByProject.get(projectId);
+            if (scope == null) {
+                return List.of();
+            }
+
+            List<NameEntry> ranked = key.length() <= RANKED_PREFIX_LENGTH
+                    ? scope.topRanked(key, limit)
+                    : scope.topMatching(key, limit);
+            return ranked.stream()
+                         .map(entry -> TaskSuggestion.builder()
+                                                     .name(entry.name)
+                                                     .taskId(entry.lastId())
+                                                     .taskCount(entry.size)
+                                                     .build())
+                         .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String consumerName() {
+        return "name-suggester";
+    }
+
+    /**
+     * Apply a committed task create, rename or delete.
+     *
+     * @param event the task change
+     */
+    @Override
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.before() != null && event.after() != null
+                && event.before().name().equals(event.after().name())) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (event.before() != null) {
+                remove(event.taskId(), event.projectId(), event.before().name());
+            }
+            if (event.after() != null) {
+                add(event.taskId(), event.projectId(), event.after().name());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of distinct task names across all projects.
+     *
+     * @return number of distinct names
+     */
+    public int distinctNameCount() {
+        lock.readLock().lock();
+        try {
+            return allNames.names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimate the heap footprint of the index in bytes.
+     *
+     * @return approximate size in bytes
+     */
+    public long estimatedMemoryBytes() {
+        lock.readLock().lock();
+        try {
+            // Project scopes share the key and name strings of the global scope
+            long bytes = allNames.estimatedMemoryBytes(true);
+            for (NameScope scope : namesByProject.values()) {
+                bytes += TREE_NODE_WEIGHT + scope.estimatedMemoryBytes(false);
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(long id, Long projectId, String name) {
+        String key = normalize(name);
+        allNames.add(key, name, id);
+        namesByProject.computeIfAbsent(projectId, k -> new NameScope()).add(key, name, id);
+    }
+
+    private void remove(long id, Long projectId, String name) {
+        String key = normalize(name);
+        allNames.remove(key, id);
+        NameScope projectNames = namesByProject.get(projectId);
+        if (projectNames != null) {
+            projectNames.remove(key, id);
+            if (projectNames.names.isEmpty()) {
+                namesByProject.remove(projectId);
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Distinct names of one scope, by normalized name and ranked per short prefix.
+     * An entry's rank changes when tasks are added or removed, so it is taken out of its ranked buckets
+     * before the change and put back after.
+     */
+    private static final class NameScope {
+
+        private final NavigableMap<String, NameEntry> names = new TreeMap<>();
+        private final Map<String, NavigableSet<NameEntry>> ranked = new HashMap<>();
+
+        void add(String key, String name, long id) {
+            NameEntry entry = names.get(key);
+            if (entry == null) {
+                entry = new NameEntry(key);
+                names.put(key, entry);
+            } else {
+                unrank(entry);
+            }
+            entry.add(id, name);
+            rank(entry);
+        }
+
+        void remove(String key, long id) {
+            NameEntry entry = names.get(key);
+            if (entry == null || !entry.contains(id)) {
+                return;
+            }
+            unrank(entry);
+            entry.remove(id);
+            if (entry.size == 0) {
+                names.remove(key);
+            } else {
+                rank(entry);
+            }
+        }
+
+        void clear() {
+            names.clear();
+            ranked.clear();
+        }
+
+        /**
+         * Best entries for a prefix short enough to have a ranked bucket, read off that bucket.
+         */
+        List<NameEntry> topRanked(String key, int limit) {
+            NavigableSet<NameEntry> bucket = ranked.get(key);
+            if (bucket == null) {
+                return List.of();
+            }
+            List<NameEntry> top = new ArrayList<>(Math.min(limit, bucket.size()));
+            Iterator<NameEntry> entries = bucket.iterator();
+            while (top.size() < limit && entries.hasNext()) {
+                top.add(entries.next());
+            }
+            return top;
+        }
+
+        /**
+         * Best entries for a longer prefix. The ranked bucket of its first characters is a superset of the
+         * matching name range, so walking both one step at a time ends either with {@code limit} matches
+         * found in rank order or with the whole, typically short, range collected for sorting.
+         */
+        List<NameEntry> topMatching(String key, int limit) {
+            NavigableSet<NameEntry> bucket = ranked.get(key.substring(0, RANKED_PREFIX_LENGTH));
+            if (bucket == null) {
+                return List.of();
+            }
+            Iterator<NameEntry> byRank = bucket.iterator();
+            Iterator<NameEntry> byName = names.subMap(key, true, key + Character.MAX_VALUE, false)
+                                              .values().iterator();
+            List<NameEntry> matches = new ArrayList<>();
+            List<NameEntry> range = new ArrayList<>();
+            while (byName.hasNext() && byRank.hasNext()) {
+                range.add(byName.next());
+                NameEntry candidate = byRank.next();
+                if (candidate.key.startsWith(key)) {
+                    matches.add(candidate);
+                    if (matches.size() == limit) {
+                        return matches;
+                    }
+                }
+            }
+            range.sort(RANKING);
+            return range.subList(0, Math.min(limit, range.size()));
+        }
+
+        long estimatedMemoryBytes(boolean withStrings) {
+            long bytes = 0;
+            for (NameEntry entry : names.values()) {
+                bytes += TREE_NODE_WEIGHT + entry.estimatedMemoryBytes(withStrings);
+            }
+            for (NavigableSet<NameEntry> bucket : ranked.values()) {
+                bytes += TREE_NODE_WEIGHT + 40 + (long) bucket.size() * TREE_NODE_WEIGHT;
+            }
+            return bytes;
+        }
+
+        private void rank(NameEntry entry) {
+            for (int length = 1; length <= Math.min(RANKED_PREFIX_LENGTH, entry.key.length()); length++) {
+                ranked.computeIfAbsent(entry.key.substring(0, length), k -> new TreeSet<>(RANKING)).add(entry);
+            }
+        }
+
+        private void unrank(NameEntry entry) {
+            for (int length = 1; length <= Math.min(RANKED_PREFIX_LENGTH, entry.key.length()); length++) {
+                String prefix = entry.key.substring(0, length);
+                NavigableSet<NameEntry> bucket = ranked.get(prefix);
+                if (bucket != null && bucket.remove(entry) && bucket.isEmpty()) {
+                    ranked.remove(prefix);
+                }
+            }
+        }
+    }
+
+    /**
+     * A distinct name with the sorted IDs of the tasks carrying it, held in a growable primitive array.
+     */
+    private static final class NameEntry {
+
+        private final String key;
+        private String name;
+        private long[] ids = new long[1];
+        private int size;
+
+        NameEntry(String key) {
+            this.key = key;
+        }
+
+        long lastId() {
+            return ids[size - 1];
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        void add(long id, String spelling) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                int insertAt = -index - 1;
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                }
+                System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+                ids[insertAt] = id;
+                size++;
+            }
+            if (id == lastId()) {
+                // Display the spelling of the most recent task
+                name = spelling;
+            }
+        }
+
+        void remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+            }
+        }
+
+        long estimatedMemoryBytes(boolean withStrings) {
+            long bytes = 32 + 16 + (long) ids.length * Long.BYTES;
+            if (withStrings) {
+                bytes += 40 + key.length() + (name.equals(key) ? 0 : 40 + name.length());
+            }
+            return bytes;
+        }
+    }
+}
@@ -2,34 +2,65 @@ package com.ifm.projectmgmt.service;
 
 import com.ifm.projectmgmt.dto.request.CreateTaskRequest;
 import com.ifm.projectmgmt.dto.request.TaskFilterRequest;
+import com.ifm.projectmgmt.dto.request.TaskStatusChange;
 import com.ifm.projectmgmt.dto.request.UpdateTaskRequest;
 import com.ifm.projectmgmt.dto.request.UpdateTaskStatusRequest;
 import com.ifm.projectmgmt.dto.response.PagedResponse;
+import com.ifm.projectmgmt.dto.response.TaskBatchResponse;
 import com.ifm.projectmgmt.dto.response.TaskResponse;
+import com.ifm.projectmgmt.dto.response.TaskStatusBatchResponse;
+import com.ifm.projectmgmt.dto.response.TaskStatusResult;
+import com.ifm.projectmgmt.dto.response.TaskSuggestion;
 import com.ifm.projectmgmt.entity.Project;
 import com.ifm.projectmgmt.entity.Task;
 import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.event.TaskChangedEvent;
 import com.ifm.projectmgmt.exception.ConcurrentModificationException;
 import com.ifm.projectmgmt.exception.InvalidInputException;
+import com.ifm.projectmgmt.exception.PreconditionFailedException;
 import com.ifm.projectmgmt.exception.ResourceNotFoundException;
 import com.ifm.projectmgmt.repository.ProjectRepository;
 import com.ifm.projectmgmt.repository.TaskRepository;
 import com.ifm.projectmgmt.specification.TaskSpecification;
 import com.ifm.projectmgmt.util.Constants;
+import com.ifm.projectmgmt.util.TaskCursor;
+import com.ifm.projectmgmt.util.TaskETags;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for managing tasks.
@@ -46,7 +77,12 @@ public class TaskService {
 
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutbox;
+    private final TaskWriteGeneration writeGeneration;
+    private final CacheManager cacheManager;
+    private final TaskNameIndex taskNameIndex;
+    private final TaskNameSuggester taskNameSuggester;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new task for a project.
@@ -67,61 +103,119 @@ public class TaskService {
                                                    Constants.ERROR_PROJECT_NOT_FOUND + projectId));
 
         // Create the task
-        Task task = new Task();
-        task.setName(request.getName());
-        task.setPriority(request.getPriority());
-        task.setDueDate(request.getDueDate());
-        task.setAssignee(request.getAssignee());
-        task.setStatus(TaskStatus.PENDING);
-        task.setProject(project);
+        Task task = newTask(project, request);
 
         // Save the task
         Task savedTask = taskRepository.save(task);
+        projectRepository.adjustTaskCount(projectId, 1);
 
         log.info("Task created successfully with id: {}", savedTask.getId());
 
-        // Send async notification
-        notificationService.sendTaskCreatedNotification(savedTask);
+        writeGeneration.advanceAfterCommit();
+        taskNameIndex.onCreated(Map.of(savedTask.getId(), savedTask.getName()));
+        eventPublisher.publishEvent(TaskChangedEvent.created(savedTask));
+
+        // Record the notification in the outbox, delivered after commit
+        notificationOutbox.taskCreated(savedTask);
+
+        return TaskResponse.from(savedTask);
+    }
+
+    /**
+     * Create several tasks for a project in one transaction.
+     * Tasks are inserted as JDBC batches, and each assignee receives a single notification
+     * listing all of their new tasks instead of one notification per task.
+     *
+     * @param projectId the project ID
+     * @param requests  the create task requests
+     * @return IDs of the created tasks, in request order
+     * @throws ResourceNotFoundException if project not found
+     */
+    @Transactional
+    public TaskBatchResponse createTasks(Long projectId, List<CreateTaskRequest> requests) {
+        log.info("Creating {} tasks for project id: {}", requests.size(), projectId);
+
+        Project project = projectRepository.findById(projectId)
+                                           .orElseThrow(() -> new ResourceNotFoundException(
+                                                   Constants.ERROR_PROJECT_NOT_FOUND + projectId));
+
+        List<Task> tasks = requests.stream()
+                                   .map(request -> newTask(project, request))
+                                   .toList();
+
+        taskRepository.insertAll(tasks);
+        projectRepository.adjustTaskCount(projectId, tasks.size());
+
+        log.info("{} tasks created successfully for project id: {}", tasks.size(), projectId);
+
+        writeGeneration.advanceAfterCommit();
+        taskNameIndex.onCreated(tasks.stream().collect(Collectors.toMap(Task::getId, Task::getName)));
+        tasks.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.created(task)));
+
+        // Record one notification per assignee in the outbox
+        notificationOutbox.tasksCreated(tasks);
+
+        List<Long> taskIds = tasks.stream()
+                                  .map(Task::getId)
+                                  .toList();
 
-        return mapToResponse(savedTask);
+        return TaskBatchResponse.builder()
+                                .projectId(projectId)
+                                .createdCount(taskIds.size())
+                                .taskIds(taskIds)
+                                .build();
     }
 
     /**
      * Get all tasks with optional filters and sorting.
      * Results are cached for 5 minutes when taskName filter is used.
+     * Cache keys combine the full filter request with the task write generation,
+     * so any committed task write makes earlier results unreachable.
      *
      * @param filterRequest the filter and pagination request
      * @return paged task responses
      */
     @Transactional(readOnly = true)
+    @Cacheable(value = Constants.CACHE_TASK_SEARCH,
+               keyGenerator = Constants.CACHE_TASK_SEARCH_KEY_GENERATOR,
+               condition = "#filterRequest.taskName != null && !#filterRequest.taskName.isBlank()")
     public PagedResponse<TaskResponse> getAllTasks(TaskFilterRequest filterRequest) {
 
         log.debug("Fetching all tasks with filters - status: {}, taskName: {}, startDate: {}, endDate: {}",
                   filterRequest.getStatus(), filterRequest.getTaskName(),
                   filterRequest.getStartDate(), filterRequest.getEndDate());
 
-        // Validate date range
-        if (filterRequest.getStartDate() != null && filterRequest.getEndDate() != null
-                && filterRequest.getStartDate().isAfter(filterRequest.getEndDate())) {
-            throw new InvalidInputException(Constants.ERROR_INVALID_DATE_RANGE);
-        }
-
-        // Create pageable with sorting
-        Pageable pageable = createPageable(filterRequest.getPage(), filterRequest.getSize(),
-                filterRequest.getSortBy(), filterRequest.getOrder());
+        Specification<Task> spec = filterSpecification(filterRequest);
 
-        // Build dynamic specification with filters
-        Specification<Task> spec = TaskSpecification.withFilters(
-                filterRequest.getStatus(), filterRequest.getTaskName(),
+        SimpleKey countKey = new SimpleKey(filterRequest.getStatus(), filterRequest.getTaskName(),
                 filterRequest.getStartDate(), filterRequest.getEndDate());
+        String fixedField = filterRequest.getStatus() != null ? Constants.FIELD_STATUS : null;
 
-        // Fetch tasks using specification
-        Page<Task> taskPage = taskRepository.findAll(spec, pageable);
-
-        // Map to response
-        Page<TaskResponse> responsePage = taskPage.map(this::mapToResponse);
+        return findTasks(spec, filterRequest, countKey, fixedField);
+    }
 
-        return PagedResponse.of(responsePage);
+    /**
+     * Pass every task matching the filters to an action in ID order, without paging.
+     * Tasks are read through a forward-only cursor as DTOs and handed over one at a time,
+     * so memory use does not grow with the number of matches as long as the action does not keep them.
+     *
+     * @param filterRequest the filter request; sorting and paging fields are ignored
+     * @param action        the action to run for each task
+     * @return number of tasks passed to the action
+     * @throws InvalidInputException if the date range is invalid
+     */
+    @Transactional(readOnly = true)
+    public long forEachTask(TaskFilterRequest filterRequest, Consumer<TaskResponse> action) {
+        Specification<Task> spec = filterSpecification(filterRequest);
+        long count = 0;
+        try (Stream<TaskResponse> tasks = taskRepository.streamResponses(spec, Sort.by(Constants.SORT_TIEBREAKER))) {
+            Iterator<TaskResponse> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
@@ -147,71 +241,134 @@ public class TaskService {
             int page,
             int size) {
 
+        TaskFilterRequest filterRequest = TaskFilterRequest.builder()
+                                                           .startDate(startDate)
+                                                           .endDate(endDate)
+                                                           .sortBy(sortBy)
+                                                           .order(order)
+                                                           .page(page)
+                                                           .size(size)
+                                                           .build();
+
+        return getTasksForProject(projectId, filterRequest);
+    }
+
+    /**
+     * Get tasks for a project with optional date filters, sorting and offset or cursor pagination.
+     *
+     * @param projectId     the project ID
+     * @param filterRequest the date filter and pagination request
+     * @return paged task responses
+     * @throws ResourceNotFoundException if project not found
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<TaskResponse> getTasksForProject(Long projectId, TaskFilterRequest filterRequest) {
         log.debug("Fetching tasks for project id: {} with filters", projectId);
 
         if (!projectRepository.existsById(projectId)) {
             throw new ResourceNotFoundException(Constants.ERROR_PROJECT_NOT_FOUND + projectId);
         }
 
+        LocalDate startDate = filterRequest.getStartDate();
+        LocalDate endDate = filterRequest.getEndDate();
         if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
             throw new InvalidInputException(Constants.ERROR_INVALID_DATE_RANGE);
         }
 
-        Pageable pageable = createPageable(page, size, sortBy, order);
-
         // Build dynamic specification with project and date filters
         Specification<Task> spec = Specification.where(TaskSpecification.belongsToProject(projectId))
                 .and(TaskSpecification.hasDueDateAfter(startDate))
                 .and(TaskSpecification.hasDueDateBefore(endDate));
 
-        Page<Task> taskPage = taskRepository.findAll(spec, pageable);
-
-        Page<TaskResponse> responsePage = taskPage.map(this::mapToResponse);
-
-        return PagedResponse.of(responsePage);
+        return findTasks(spec, filterRequest, new SimpleKey(projectId, startDate, endDate),
+                Constants.FIELD_PROJECT_ID);
     }
 
     /**
      * Get a task by ID.
      * Results are cached for 5 minutes to improve performance.
+     * Cached entries carry the task version and are keyed by ID alone, since a read cannot know the
+     * current version without a lookup; writes and project renames evict them by ID instead.
+     * Reads a DTO projection instead of hydrating the task and project entities.
      *
      * @param id the task ID
      * @return task response
      * @throws ResourceNotFoundException if task not found
      */
     @Transactional(readOnly = true)
+    @Cacheable(value = Constants.CACHE_TASK_BY_ID, key = "#id")
     public TaskResponse getTaskById(Long id) {
         log.debug("Fetching task with id: {} (cache miss)", id);
 
-        Task task = taskRepository.findById(id)
-                                  .orElseThrow(() -> new ResourceNotFoundException(
-                                          Constants.ERROR_TASK_NOT_FOUND + id));
+        return taskRepository.findResponseById(id)
+                             .orElseThrow(() -> new ResourceNotFoundException(
+                                     Constants.ERROR_TASK_NOT_FOUND + id));
+    }
 
-        return mapToResponse(task);
+    /**
+     * Get the entity tag of a task without building its response.
+     * Used to answer conditional reads with 304 Not Modified from a two-column lookup.
+     *
+     * @param id the task ID
+     * @return quoted entity tag
+     * @throws ResourceNotFoundException if task not found
+     */
+    @Transactional(readOnly = true)
+    public String getTaskETag(Long id) {
+        return taskRepository.findVersionById(id)
+                             .map(view -> TaskETags.of(view.getVersion(), view.getProjectName()))
+                             .orElseThrow(() -> new ResourceNotFoundException(
+                                     Constants.ERROR_TASK_NOT_FOUND + id));
+    }
+
+    /**
+     * Suggest distinct task names starting with a prefix.
+     * Answered from the in-memory name suggester without a transaction or database access.
+     *
+     * @param prefix    the typed prefix
+     * @param projectId the project to suggest from (optional)
+     * @param limit     the maximum number of suggestions
+     * @return suggestions ranked by task count, then recency
+     * @throws InvalidInputException if the limit is out of range
+     */
+    public List<TaskSuggestion> suggestTaskNames(String prefix, Long projectId, int limit) {
+        if (limit < 1 || limit > Constants.MAX_SUGGEST_LIMIT) {
+            throw new InvalidInputException(Constants.ERROR_INVALID_SUGGEST_LIMIT);
+        }
+
+        return taskNameSuggester.suggest(prefix, projectId, limit);
     }
 
     /**
      * Update a task.
      * Uses optimistic locking to ensure thread-safe updates.
+     * With an If-Match header the update only applies to the task version the client last read.
      * Invalidates both ID cache and search cache on update.
      *
      * @param id      the task ID
      * @param request the update task request
+     * @param ifMatch the If-Match header, or null for an unconditional update
      * @return updated task response
      * @throws ResourceNotFoundException       if task not found
+     * @throws PreconditionFailedException     if the If-Match header does not match the current ETag
      * @throws ConcurrentModificationException if task was modified concurrently
      */
     @Transactional
-    public TaskResponse updateTask(Long id, UpdateTaskRequest request) {
+    @CacheEvict(value = Constants.CACHE_TASK_BY_ID, key = "#id")
+    public TaskResponse updateTask(Long id, UpdateTaskRequest request, String ifMatch) {
         log.info("Updating task with id: {}", id);
 
         try {
+            Long expectedVersion = checkIfMatch(id, ifMatch);
             Task task = taskRepository.findById(id)
                                       .orElseThrow(() -> new ResourceNotFoundException(
                                               Constants.ERROR_TASK_NOT_FOUND + id));
+            checkVersion(task, expectedVersion);
 
             List<String> changes = new ArrayList<>();
 
+            TaskChangedEvent.TaskState before = TaskChangedEvent.TaskState.of(task);
+            String oldName = task.getName();
             if (request.getName() != null && !request.getName().equals(task.getName())) {
                 task.setName(request.getName());
                 changes.add("name changed to '" + request.getName() + "'");
@@ -239,15 +396,24 @@ public class TaskService {
             }
 
             Task updatedTask = taskRepository.save(task);
+            // Flush now so the version in the response, and its ETag, is the one being committed
+            taskRepository.flush();
 
             log.info("Task updated successfully with id: {}", id);
 
+            writeGeneration.advanceAfterCommit();
+            if (!oldName.equals(updatedTask.getName())) {
+                taskNameIndex.onRenamed(id, oldName, updatedTask.getName());
+            }
+
             if (!changes.isEmpty()) {
+                eventPublisher.publishEvent(TaskChangedEvent.updated(before, updatedTask));
+
                 String changesStr = String.join(", ", changes);
-                notificationService.sendTaskUpdatedNotification(updatedTask, changesStr);
+                notificationOutbox.taskUpdated(updatedTask, changesStr);
             }
 
-            return mapToResponse(updatedTask);
+            return TaskResponse.from(updatedTask);
 
         } catch (OptimisticLockingFailureException e) {
             log.warn("Optimistic locking failure for task id: {}", id);
@@ -258,37 +424,46 @@ public class TaskService {
     /**
      * Update task status only.
      * Uses optimistic locking to ensure thread-safe updates.
+     * With an If-Match header the update only applies to the task version the client last read.
      * Invalidates both ID cache and search cache on update.
      *
      * @param id      the task ID
      * @param request the update status request
+     * @param ifMatch the If-Match header, or null for an unconditional update
      * @return updated task response
      * @throws ResourceNotFoundException       if task not found
+     * @throws PreconditionFailedException     if the If-Match header does not match the current ETag
      * @throws ConcurrentModificationException if task was modified concurrently
      */
     @Transactional
-    public TaskResponse updateTaskStatus(Long id, UpdateTaskStatusRequest request) {
+    @CacheEvict(value = Constants.CACHE_TASK_BY_ID, key = "#id")
+    public TaskResponse updateTaskStatus(Long id, UpdateTaskStatusRequest request, String ifMatch) {
         log.info("Updating task status for id: {} to {}", id, request.getStatus());
 
         try {
+            Long expectedVersion = checkIfMatch(id, ifMatch);
             Task task = taskRepository.findById(id)
                                       .orElseThrow(() -> new ResourceNotFoundException(
                                               Constants.ERROR_TASK_NOT_FOUND + id));
+            checkVersion(task, expectedVersion);
 
+            TaskChangedEvent.TaskState before = TaskChangedEvent.TaskState.of(task);
             TaskStatus oldStatus = task.getStatus();
             task.setStatus(request.getStatus());
 
             Task updatedTask = taskRepository.save(task);
+            taskRepository.flush();
 
             log.info("Task status updated successfully for id: {}", id);
 
-            notificationService.sendTaskStatusChangedNotification(
-                    updatedTask,
-                    oldStatus.toString(),
-                    request.getStatus().toString()
-            );
+            writeGeneration.advanceAfterCommit();
+            if (oldStatus != updatedTask.getStatus()) {
+                eventPublisher.publishEvent(TaskChangedEvent.updated(before, updatedTask));
+            }
 
-            return mapToResponse(updatedTask);
+            notificationOutbox.taskStatusChanged(updatedTask, oldStatus);
+
+            return TaskResponse.from(updatedTask);
 
         } catch (OptimisticLockingFailureException e) {
             log.warn("Optimistic locking failure for task id: {}", id);
@@ -296,6 +471,106 @@ public class TaskService {
         }
     }
 
+    /**
+     * Update the status of several tasks at once, each guarded by its expected version.
+     * Changes run as batched versioned UPDATE statements; a stale version or unknown ID rejects
+     * only that change, so the others still commit. Current values are read once up front
+     * to report not-found tasks and to build a single batch of status-change notifications.
+     * Conflicting tasks are read again after the batch, so they report the version a retry needs.
+     *
+     * @param changes the versioned status changes
+     * @return per-change outcomes, in request order
+     * @throws InvalidInputException if the batch changes the same task more than once
+     */
+    @Transactional
+    public TaskStatusBatchResponse updateTaskStatuses(List<TaskStatusChange> changes) {
+        log.info("Updating status of {} tasks", changes.size());
+
+        Set<Long> ids = new LinkedHashSet<>();
+        for (TaskStatusChange change : changes) {
+            if (!ids.add(change.getId())) {
+                throw new InvalidInputException(Constants.ERROR_DUPLICATE_BATCH_TASK + change.getId());
+            }
+        }
+        Map<Long, TaskResponse> currentTasks = findResponsesById(ids);
+
+        int[] updateCounts = taskRepository.updateStatuses(changes, LocalDateTime.now());
+
+        List<Long> conflictIds = new ArrayList<>();
+        for (int i = 0; i < changes.size(); i++) {
+            if (updateCounts[i] == 0 && currentTasks.containsKey(changes.get(i).getId())) {
+                conflictIds.add(changes.get(i).getId());
+            }
+        }
+        Map<Long, TaskResponse> conflictingTasks = conflictIds.isEmpty() ? Map.of() : findResponsesById(conflictIds);
+
+        List<TaskStatusResult> results = new ArrayList<>(changes.size());
+        Map<Long, TaskResponse> changedTasks = new LinkedHashMap<>();
+        Map<Long, TaskStatus> previousStatuses = new HashMap<>();
+        Cache taskCache = cacheManager.getCache(Constants.CACHE_TASK_BY_ID);
+
+        for (int i = 0; i < changes.size(); i++) {
+            TaskStatusChange change = changes.get(i);
+            TaskResponse current = currentTasks.get(change.getId());
+
+            if (current == null) {
+                results.add(statusResult(change.getId(), TaskStatusResult.Outcome.NOT_FOUND, null));
+            } else if (updateCounts[i] == 0) {
+                TaskResponse conflicting = conflictingTasks.get(change.getId());
+                results.add(conflicting == null
+                        ? statusResult(change.getId(), TaskStatusResult.Outcome.NOT_FOUND, null)
+                        : statusResult(change.getId(), TaskStatusResult.Outcome.CONFLICT, conflicting.getVersion()));
+            } else {
+                long newVersion = change.getVersion() + 1;
+                results.add(statusResult(change.getId(), TaskStatusResult.Outcome.UPDATED, newVersion));
+
+                previousStatuses.put(change.getId(), current.getStatus());
+                eventPublisher.publishEvent(TaskChangedEvent.statusChanged(current, change.getStatus(), newVersion));
+                current.setStatus(change.getStatus());
+                current.setVersion(newVersion);
+                changedTasks.put(change.getId(), current);
+
+                if (taskCache != null) {
+                    taskCache.evict(change.getId());
+                }
+            }
+        }
+
+        long updated = results.stream()
+                              .filter(result -> result.getOutcome() == TaskStatusResult.Outcome.UPDATED)
+                              .count();
+        long conflicts = results.stream()
+                                .filter(result -> result.getOutcome() == TaskStatusResult.Outcome.CONFLICT)
+                                .count();
+
+        log.info("Task status batch finished - updated: {}, conflicts: {}, not found: {}",
+                 updated, conflicts, changes.size() - updated - conflicts);
+
+        if (!changedTasks.isEmpty()) {
+            writeGeneration.advanceAfterCommit();
+            notificationOutbox.taskStatusesChanged(new ArrayList<>(changedTasks.values()), previousStatuses);
+        }
+
+        return TaskStatusBatchResponse.builder()
+                                      .updatedCount((int) updated)
+                                      .conflictCount((int) conflicts)
+                                      .notFoundCount((int) (changes.size() - updated - conflicts))
+                                      .results(results)
+                                      .build();
+    }
+
+    /**
+     * Read the current values of several tasks in one query.
+     *
+     * @param ids the task IDs
+     * @return task responses by ID, without the IDs that do not exist
+     */
+    private Map<Long, TaskResponse> findResponsesById(Collection<Long> ids) {
+        return taskRepository.findResponses(TaskSpecification.hasIdIn(ids), Sort.unsorted(), ids.size())
+                             .stream()
+                             .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+    }
+
     /**
      * Delete a task.
      * Invalidates both ID cache and search cache on deletion.
@@ -304,6 +579,7 @@ public class TaskService {
      * @throws ResourceNotFoundException if task not found
      */
     @Transactional
+    @CacheEvict(value = Constants.CACHE_TASK_BY_ID, key = "#id")
     public void deleteTask(Long id) {
         log.info("Deleting task with id: {}", id);
 
@@ -312,8 +588,170 @@ public class TaskService {
                                           Constants.ERROR_TASK_NOT_FOUND + id));
 
         taskRepository.delete(task);
+        projectRepository.adjustTaskCount(task.getProject().getId(), -1);
 
         log.info("Task deleted successfully with id: {}", id);
+
+        writeGeneration.advanceAfterCommit();
+        taskNameIndex.onDeleted(List.of(id));
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(task));
+    }
+
+    /**
+     * Fetch a page of tasks matching a specification, using offset or cursor pagination.
+     * Pages are read as DTO projections, so no task or project entities are hydrated.
+     * Offset pages pay for a COUNT query only in exact total mode: the none mode returns a slice
+     * with just a next-page flag, and the cached mode reuses a count cached under the write generation.
+     *
+     * @param spec          the filter specification
+     * @param filterRequest the sort and pagination request
+     * @param countKey      key identifying the filters, used to cache the total count
+     * @param fixedField    field the filters fix to a single value, or null
+     * @return paged task responses
+     * @throws InvalidInputException if the total mode is unknown
+     */
+    private PagedResponse<TaskResponse> findTasks(Specification<Task> spec, TaskFilterRequest filterRequest,
+                                                  SimpleKey countKey, String fixedField) {
+        if (isCursorPagination(filterRequest)) {
+            return findTasksByCursor(spec, filterRequest, fixedField);
+        }
+
+        // Create pageable with sorting
+        Pageable pageable = createPageable(filterRequest.getPage(), filterRequest.getSize(),
+                filterRequest.getSortBy(), filterRequest.getOrder(), fixedField);
+
+        String totalMode = filterRequest.getTotal() == null ? Constants.TOTAL_EXACT : filterRequest.getTotal();
+
+        if (Constants.TOTAL_NONE.equalsIgnoreCase(totalMode)) {
+            return PagedResponse.ofSlice(taskRepository.findResponseSlice(spec, pageable));
+        }
+
+        Page<TaskResponse> responsePage;
+        if (Constants.TOTAL_CACHED.equalsIgnoreCase(totalMode)) {
+            Slice<TaskResponse> responseSlice = taskRepository.findResponseSlice(spec, pageable);
+            responsePage = new PageImpl<>(responseSlice.getContent(), pageable, countTasks(spec, countKey));
+        } else if (Constants.TOTAL_EXACT.equalsIgnoreCase(totalMode)) {
+            responsePage = taskRepository.findResponses(spec, pageable);
+        } else {
+            throw new InvalidInputException(Constants.ERROR_INVALID_TOTAL);
+        }
+
+        return PagedResponse.of(responsePage);
+    }
+
+    /**
+     * Count tasks matching a specification, caching the result under the current write generation.
+     * A cached count stays valid until the next committed task write, so paging through
+     * a result set runs the COUNT query once instead of once per page.
+     *
+     * @param spec     the filter specification
+     * @param countKey key identifying the filters
+     * @return number of matching tasks
+     */
+    private long countTasks(Specification<Task> spec, SimpleKey countKey) {
+        Cache countCache = cacheManager.getCache(Constants.CACHE_TASK_COUNT);
+        if (countCache == null) {
+            return taskRepository.count(spec);
+        }
+
+        SimpleKey key = new SimpleKey(writeGeneration.current(), countKey);
+        Long total = countCache.get(key, Long.class);
+        if (total == null) {
+            total = taskRepository.count(spec);
+            countCache.put(key, total);
+        }
+        return total;
+    }
+
+    /**
+     * Fetch a page of tasks using keyset (seek) pagination.
+     * Instead of skipping page * size rows, the query seeks past the boundary row encoded in the cursor,
+     * so every page costs the same as the first one. One extra row is fetched to detect further pages.
+     *
+     * @param spec          the filter specification
+     * @param filterRequest the sort and cursor request
+     * @param fixedField    field the filters fix to a single value, or null
+     * @return cursor paged task responses
+     * @throws InvalidInputException if the cursor is malformed or does not match the requested sort
+     */
+    private PagedResponse<TaskResponse> findTasksByCursor(Specification<Task> spec, TaskFilterRequest filterRequest,
+                                                          String fixedField) {
+        int size = Math.clamp(filterRequest.getSize(), 1, Constants.MAX_PAGE_SIZE);
+        String sortField = resolveSortField(filterRequest.getSortBy());
+        Sort.Direction direction = resolveSortDirection(filterRequest.getOrder());
+
+        TaskCursor cursor = null;
+        Specification<Task> pageSpec = spec;
+        Sort.Direction fetchDirection = direction;
+
+        if (filterRequest.getCursor() != null && !filterRequest.getCursor().isBlank()) {
+            cursor = TaskCursor.decode(filterRequest.getCursor());
+            if (!cursor.sortField().equals(sortField) || cursor.direction() != direction) {
+                throw new InvalidInputException(Constants.ERROR_CURSOR_SORT_MISMATCH);
+            }
+
+            // A backward cursor walks the sort order in reverse from the first row of the current page
+            if (cursor.backward()) {
+                fetchDirection = direction.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+            }
+            pageSpec = spec.and(TaskSpecification.seekAfter(
+                    sortField, fetchDirection, cursor.sortValue(), cursor.id()));
+        }
+
+        List<TaskResponse> tasks = new ArrayList<>(
+                taskRepository.findResponses(pageSpec, createSort(sortField, fetchDirection, fixedField), size + 1));
+
+        boolean hasMore = tasks.size() > size;
+        if (hasMore) {
+            tasks.removeLast();
+        }
+
+        boolean backward = cursor != null && cursor.backward();
+        if (backward) {
+            Collections.reverse(tasks);
+        }
+
+        boolean hasNext = backward || hasMore;
+        boolean hasPrevious = backward ? hasMore : cursor != null;
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!tasks.isEmpty()) {
+            if (hasNext) {
+                nextCursor = cursorFor(tasks.getLast(), sortField, direction, false).encode();
+            }
+            if (hasPrevious) {
+                prevCursor = cursorFor(tasks.getFirst(), sortField, direction, true).encode();
+            }
+        }
+
+        return PagedResponse.ofCursor(tasks, size, nextCursor, prevCursor);
+    }
+
+    /**
+     * Build the cursor pointing at a boundary row of a page.
+     *
+     * @param task      the boundary task
+     * @param sortField the sorted field
+     * @param direction the requested sort direction
+     * @param backward  true for a previous-page cursor
+     * @return task cursor
+     */
+    private TaskCursor cursorFor(TaskResponse task, String sortField, Sort.Direction direction, boolean backward) {
+        Comparable<?> sortValue = Constants.SORT_BY_PRIORITY.equals(sortField) ? task.getPriority() : task.getDueDate();
+        return new TaskCursor(sortField, direction, sortValue, task.getId(), backward);
+    }
+
+    /**
+     * Check whether a request asks for cursor pagination.
+     * Passing a cursor implies cursor mode even without the pagination flag.
+     *
+     * @param filterRequest the pagination request
+     * @return true for cursor pagination
+     */
+    private boolean isCursorPagination(TaskFilterRequest filterRequest) {
+        return Constants.PAGINATION_CURSOR.equalsIgnoreCase(filterRequest.getPagination())
+                || (filterRequest.getCursor() != null && !filterRequest.getCursor().isBlank());
     }
 
     /**
@@ -322,44 +760,144 @@ public class TaskService {
      * @param page   the page number
      * @param size   the page size
      * @param sortBy the field to sort by
-     * @param order  the sort order
+     * @param order      the sort order
+     * @param fixedField field the filters fix to a single value, or null
      * @return pageable object
      */
-    private Pageable createPageable(int page, int size, String sortBy, String order) {
+    private Pageable createPageable(int page, int size, String sortBy, String order, String fixedField) {
         int validPage = Math.max(page, Constants.DEFAULT_PAGE_NUMBER);
         int validSize = Math.clamp(size, 1, Constants.MAX_PAGE_SIZE);
 
-        String sortField = Constants.SORT_BY_DUE_DATE;
+        return PageRequest.of(validPage, validSize,
+                createSort(resolveSortField(sortBy), resolveSortDirection(order), fixedField));
+    }
+
+    /**
+     * Build the specification for the status, name and due date filters of a request.
+     * Name searches are narrowed to the trigram index candidates; the LIKE filter still decides the matches.
+     *
+     * @param filterRequest the filter request
+     * @return filter specification
+     * @throws InvalidInputException if the date range is invalid
+     */
+    private Specification<Task> filterSpecification(TaskFilterRequest filterRequest) {
+        // Validate date range
+        if (filterRequest.getStartDate() != null && filterRequest.getEndDate() != null
+                && filterRequest.getStartDate().isAfter(filterRequest.getEndDate())) {
+            throw new InvalidInputException(Constants.ERROR_INVALID_DATE_RANGE);
+        }
+
+        // Build dynamic specification with filters
+        Specification<Task> spec = TaskSpecification.withFilters(
+                filterRequest.getStatus(), filterRequest.getTaskName(),
+                filterRequest.getStartDate(), filterRequest.getEndDate());
+
+        if (filterRequest.getTaskName() != null && !filterRequest.getTaskName().isBlank()) {
+            Optional<Set<Long>> candidateIds = taskNameIndex.findCandidates(filterRequest.getTaskName());
+            if (candidateIds.isPresent()) {
+                spec = spec.and(TaskSpecification.hasIdIn(candidateIds.get()));
+            }
+        }
+        return spec;
+    }
+
+    /**
+     * Reject a conditional write whose If-Match header does not match the task's current ETag.
+     * Runs on the version lookup, so a stale write fails before the entity is loaded.
+     *
+     * @param id      the task ID
+     * @param ifMatch the If-Match header, or null for an unconditional write
+     * @return the version the header matched, or null if the write is unconditional
+     * @throws ResourceNotFoundException   if task not found
+     * @throws PreconditionFailedException if the header does not match
+     */
+    private Long checkIfMatch(Long id, String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+
+        TaskRepository.TaskVersionView current = taskRepository.findVersionById(id)
+                                                               .orElseThrow(() -> new ResourceNotFoundException(
+                                                                       Constants.ERROR_TASK_NOT_FOUND + id));
+        String currentETag = TaskETags.of(current.getVersion(), current.getProjectName());
+        if (!TaskETags.matchesIfMatch(ifMatch, currentETag)) {
+            log.warn("Stale If-Match {} for task id: {}, current ETag {}", ifMatch, id, currentETag);
+            throw new PreconditionFailedException(Constants.ERROR_PRECONDITION_FAILED + id, currentETag);
+        }
+        return current.getVersion();
+    }
+
+    /**
+     * Reject a conditional write if the task changed between the If-Match check and loading it.
+     *
+     * @param task            the loaded task
+     * @param expectedVersion the version the If-Match header matched, or null for an unconditional write
+     * @throws PreconditionFailedException if the loaded version differs
+     */
+    private void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException(Constants.ERROR_PRECONDITION_FAILED + task.getId(),
+                    TaskETags.of(task.getVersion(), task.getProject().getName()));
+        }
+    }
+
+    /**
+     * Create a total sort order on the given field.
+     * The task ID is appended as tiebreaker, so rows with equal sort values keep a stable order across pages.
+     * A field the filters fix to a single value is put first, ascending: the order stays the same, but the database
+     * can then read the page off the (fixed field, sort field, id) index instead of sorting every match.
+     *
+     * @param sortField  the field to sort by
+     * @param direction  the sort direction
+     * @param fixedField field the filters fix to a single value, or null
+     * @return sort order
+     */
+    private Sort createSort(String sortField, Sort.Direction direction, String fixedField) {
+        if (fixedField == null) {
+            return Sort.by(direction, sortField, Constants.SORT_TIEBREAKER);
+        }
+        return Sort.by(Sort.Order.asc(fixedField), new Sort.Order(direction, sortField),
+                       new Sort.Order(direction, Constants.SORT_TIEBREAKER));
+    }
+
+    private String resolveSortField(String sortBy) {
         if (Constants.SORT_BY_PRIORITY.equalsIgnoreCase(sortBy)) {
-            sortField = Constants.SORT_BY_PRIORITY;
+            return Constants.SORT_BY_PRIORITY;
         }
+        return Constants.SORT_BY_DUE_DATE;
+    }
 
-        Sort.Direction direction = Sort.Direction.ASC;
+    private Sort.Direction resolveSortDirection(String order) {
         if (Constants.SORT_ORDER_DESC.equalsIgnoreCase(order)) {
-            direction = Sort.Direction.DESC;
+            return Sort.Direction.DESC;
         }
+        return Sort.Direction.ASC;
+    }
 
-        return PageRequest.of(validPage, validSize, Sort.by(direction, sortField));
+    private TaskStatusResult statusResult(Long id, TaskStatusResult.Outcome outcome, Long version) {
+        return TaskStatusResult.builder()
+                               .id(id)
+                               .outcome(outcome)
+                               .version(version)
+                               .build();
     }
 
     /**
-     * Map Task entity to TaskResponse DTO.
+     * Build a new pending task from a create request.
+     * Package-private so TaskImportService builds imported tasks the same way.
      *
-     * @param task the task entity
-     * @return task response
+     * @param project the owning project
+     * @param request the create task request
+     * @return new unsaved task
      */
-    private TaskResponse mapToResponse(Task task) {
-        return TaskResponse.builder()
-                           .id(task.getId())
-                           .name(task.getName())
-                           .priority(task.getPriority())
-                           .dueDate(task.getDueDate())
-                           .assignee(task.getAssignee())
-                           .status(task.getStatus())
-                           .projectId(task.getProject().getId())
-                           .projectName(task.getProject().getName())
-                           .createdAt(task.getCreatedAt())
-                           .updatedAt(task.getUpdatedAt())
-                           .build();
+    static Task newTask(Project project, CreateTaskRequest request) {
+        Task task = new Task();
+        task.setName(request.getName());
+        task.setPriority(request.getPriority());
+        task.setDueDate(request.getDueDate());
+        task.setAssignee(request.getAssignee());
+        task.setStatus(TaskStatus.PENDING);
+        task.setProject(project);
+        return task;
     }
 }
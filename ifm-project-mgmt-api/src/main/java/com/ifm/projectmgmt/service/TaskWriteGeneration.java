@@ -0,0 +1,57 @@
+package com.ifm.projectmgmt.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global write-generation counter for task data.
+ * Search results are cached under the generation that was current when the query started,
+ * so advancing the generation makes every older entry unreachable without flushing the cache.
+ * Stale entries are then dropped by the cache's size bound and TTL.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class TaskWriteGeneration {
+
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Get the current write generation.
+     *
+     * @return current generation
+     */
+    public long current() {
+        return generation.get();
+    }
+
+    /**
+     * Advance the generation once the current transaction commits.
+     * Advancing only after commit guarantees that a query started under the new generation
+     * sees the committed data. Without an active transaction the generation advances immediately.
+     */
+    public void advanceAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            advance();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                advance();
+            }
+        });
+    }
+
+    private void advance() {
+        long next = generation.incrementAndGet();
+        log.debug("Task write generation advanced to {}", next);
+    }
+}
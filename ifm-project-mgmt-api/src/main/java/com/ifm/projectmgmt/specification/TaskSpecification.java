@@ -2,9 +2,16 @@ package com.ifm.projectmgmt.specification;
 
 import com.ifm.projectmgmt.entity.Task;
 import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.util.Constants;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Locale;
 
 /**
  * Specification utility for building dynamic Task queries.
@@ -47,11 +54,22 @@ public class TaskSpecification {
             }
             return criteriaBuilder.like(
                     criteriaBuilder.lower(root.get("name")),
-                    "%" + taskName.toLowerCase() + "%"
+                    "%" + toLowerCase(taskName) + "%"
             );
         };
     }
 
+    /**
+     * Lower-case a task name or name search term independently of the default locale.
+     * TaskNameIndex normalizes with the same method, so its candidates cover every name this filter matches.
+     *
+     * @param value the name or term
+     * @return the lower-cased value
+     */
+    public static String toLowerCase(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Filter tasks with due date on or after the start date.
      *
@@ -97,6 +115,21 @@ public class TaskSpecification {
         };
     }
 
+    /**
+     * Filter tasks by a set of IDs.
+     *
+     * @param ids the task IDs
+     * @return specification for ID filter
+     */
+    public static Specification<Task> hasIdIn(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> {
+            if (ids == null || ids.isEmpty()) {
+                return criteriaBuilder.disjunction();
+            }
+            return root.get("id").in(ids);
+        };
+    }
+
     /**
      * Filter tasks by assignee.
      *
@@ -133,4 +166,56 @@ public class TaskSpecification {
                 .and(hasDueDateAfter(startDate))
                 .and(hasDueDateBefore(endDate));
     }
+
+    /**
+     * Keyset (seek) filter that selects the rows strictly after a boundary row in sort order.
+     * Ties on the sort column are broken by task ID, so the ordering is total and no row is skipped or repeated.
+     * The redundant range condition on the sort column lets a (sortField, id) index bound the scan.
+     *
+     * @param sortField the sorted field (priority or dueDate)
+     * @param direction the direction to seek in
+     * @param sortValue the sort value of the boundary row
+     * @param id        the ID of the boundary row
+     * @return specification for the seek predicate
+     */
+    public static Specification<Task> seekAfter(
+            String sortField,
+            Sort.Direction direction,
+            Comparable<?> sortValue,
+            Long id
+    ) {
+        return (root, query, criteriaBuilder) -> {
+            Path<Long> idPath = root.get(Constants.SORT_TIEBREAKER);
+            boolean ascending = direction.isAscending();
+
+            if (Constants.SORT_BY_PRIORITY.equals(sortField)) {
+                return seekPredicate(criteriaBuilder, root.get(Constants.SORT_BY_PRIORITY),
+                        (Integer) sortValue, idPath, id, ascending);
+            }
+            return seekPredicate(criteriaBuilder, root.get(Constants.SORT_BY_DUE_DATE),
+                    (LocalDate) sortValue, idPath, id, ascending);
+        };
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate seekPredicate(
+            CriteriaBuilder criteriaBuilder,
+            Path<Y> sortPath,
+            Y sortValue,
+            Path<Long> idPath,
+            Long id,
+            boolean ascending
+    ) {
+        if (ascending) {
+            return criteriaBuilder.and(
+                    criteriaBuilder.greaterThanOrEqualTo(sortPath, sortValue),
+                    criteriaBuilder.or(
+                            criteriaBuilder.greaterThan(sortPath, sortValue),
+                            criteriaBuilder.greaterThan(idPath, id)));
+        }
+        return criteriaBuilder.and(
+                criteriaBuilder.lessThanOrEqualTo(sortPath, sortValue),
+                criteriaBuilder.or(
+                        criteriaBuilder.lessThan(sortPath, sortValue),
+                        criteriaBuilder.lessThan(idPath, id)));
+    }
 }
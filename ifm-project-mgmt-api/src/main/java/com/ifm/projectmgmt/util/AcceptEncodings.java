@@ -0,0 +1,68 @@
+package com.ifm.projectmgmt.util;
+
+import java.util.Locale;
+
+/**
+ * Content negotiation over the Accept-Encoding request header.
+ * Codings are matched case-insensitively and honour quality values, so {@code gzip;q=0} refuses gzip.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public final class AcceptEncodings {
+
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String WILDCARD = "*";
+
+    private AcceptEncodings() {
+    }
+
+    /**
+     * Determine whether the client accepts a gzip-encoded response.
+     * An explicit {@code gzip} (or {@code x-gzip}) entry decides; otherwise a {@code *} entry does.
+     *
+     * @param acceptEncoding the Accept-Encoding header value (optional)
+     * @return true if gzip is listed, directly or through the wildcard, with a quality above zero
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].strip().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (GZIP.equals(coding) || X_GZIP.equals(coding)) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (WILDCARD.equals(coding)) {
+                wildcardQuality = quality;
+            }
+        }
+
+        Double effective = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return effective != null && effective > 0;
+    }
+
+    /**
+     * Read the {@code q} parameter of a coding; a missing one means 1 and a malformed one 0.
+     */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].strip();
+            if (parameter.length() > 1 && Character.toLowerCase(parameter.charAt(0)) == 'q'
+                    && parameter.charAt(1) == '=') {
+                try {
+                    double quality = Double.parseDouble(parameter.substring(2).strip());
+                    return quality >= 0 && quality <= 1 ? quality : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -21,20 +21,59 @@ public final class Constants {
     public static final int DEFAULT_PAGE_NUMBER = 0;
     public static final int DEFAULT_PAGE_SIZE = 20;
     public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 10000;
+    public static final String PAGINATION_OFFSET = "offset";
+    public static final String PAGINATION_CURSOR = "cursor";
+    public static final String PAGINATION_PATTERN = "^(offset|cursor)$";
+    public static final String TOTAL_EXACT = "exact";
+    public static final String TOTAL_CACHED = "cached";
+    public static final String TOTAL_NONE = "none";
+    public static final String TOTAL_PATTERN = "^(exact|cached|none)$";
+
+    // Task Import and Export
+    public static final String MEDIA_TYPE_CSV = "text/csv";
+    public static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    // Request Headers
+    public static final String HEADER_CLIENT_ID = "X-Client-Id";
+
+    // Suggestions
+    public static final int DEFAULT_SUGGEST_LIMIT = 10;
+    public static final int MAX_SUGGEST_LIMIT = 50;
 
     // Sorting
     public static final String SORT_BY_PRIORITY = "priority";
     public static final String SORT_BY_DUE_DATE = "dueDate";
     public static final String SORT_ORDER_ASC = "asc";
     public static final String SORT_ORDER_DESC = "desc";
+    public static final String SORT_TIEBREAKER = "id";
+    // Fields fixed by an equality filter, put ahead of the sort field to match the composite indexes
+    public static final String FIELD_PROJECT_ID = "project.id";
+    public static final String FIELD_STATUS = "status";
 
     // Error Messages
     public static final String ERROR_PROJECT_NOT_FOUND = "Project not found with id: ";
     public static final String ERROR_TASK_NOT_FOUND = "Task not found with id: ";
     public static final String ERROR_INVALID_DATE_RANGE = "Start date must be before end date";
     public static final String ERROR_CONCURRENT_MODIFICATION = "Task was modified by another process. Please retry.";
+    public static final String ERROR_PRECONDITION_FAILED =
+            "Task was modified since it was read (If-Match does not match the current ETag). Task id: ";
+    public static final String ERROR_INVALID_CURSOR = "Invalid pagination cursor";
+    public static final String ERROR_INVALID_PAGINATION = "Pagination must be either 'offset' or 'cursor'";
+    public static final String ERROR_INVALID_TOTAL = "Total must be one of 'exact', 'cached' or 'none'";
+    public static final String ERROR_DUPLICATE_BATCH_TASK = "A batch must not change the same task twice: ";
+    public static final String ERROR_CURSOR_SORT_MISMATCH = "Pagination cursor does not match the requested sort";
+    public static final String ERROR_UNSUPPORTED_IMPORT_FORMAT =
+            "Import content type must be " + MEDIA_TYPE_CSV + " or " + MEDIA_TYPE_NDJSON;
+    public static final String ERROR_UNSUPPORTED_EXPORT_FORMAT =
+            "Export format must be either '" + FORMAT_CSV + "' or '" + FORMAT_NDJSON + "'";
+    public static final String ERROR_INVALID_SUGGEST_LIMIT = "Suggestion limit must be between 1 and " + MAX_SUGGEST_LIMIT;
 
     // Cache Names
     public static final String CACHE_TASK_BY_ID = "taskById";
     public static final String CACHE_TASK_SEARCH = "taskSearch";
+    public static final String CACHE_TASK_SEARCH_KEY_GENERATOR = "taskSearchKeyGenerator";
+    public static final String CACHE_TASK_COUNT = "taskCount";
 }
@@ -0,0 +1,79 @@
+package com.ifm.projectmgmt.util;
+
+import com.ifm.projectmgmt.exception.InvalidInputException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor for task lists.
+ * Encodes the sort column, sort direction, the sort value of the boundary row and its ID as tiebreaker,
+ * plus whether the cursor points forward (next page) or backward (previous page).
+ *
+ * @param sortField the sorted field (priority or dueDate)
+ * @param direction the requested sort direction
+ * @param sortValue the sort value of the boundary row
+ * @param id        the ID of the boundary row
+ * @param backward  true if the cursor fetches the page before the boundary row
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public record TaskCursor(String sortField, Sort.Direction direction, Comparable<?> sortValue, Long id,
+                         boolean backward) {
+
+    private static final String SEPARATOR = "|";
+    private static final String FORWARD = "F";
+    private static final String BACKWARD = "B";
+
+    /**
+     * Encode this cursor as an opaque URL-safe token.
+     *
+     * @return encoded cursor
+     */
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                sortField,
+                direction.name(),
+                sortValue.toString(),
+                id.toString(),
+                backward ? BACKWARD : FORWARD);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor token.
+     *
+     * @param token the encoded cursor
+     * @return decoded cursor
+     * @throws InvalidInputException if the token is malformed
+     */
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5) {
+                throw new InvalidInputException(Constants.ERROR_INVALID_CURSOR);
+            }
+
+            String sortField = parts[0];
+            Comparable<?> sortValue = switch (sortField) {
+                case Constants.SORT_BY_DUE_DATE -> LocalDate.parse(parts[2]);
+                case Constants.SORT_BY_PRIORITY -> Integer.valueOf(parts[2]);
+                default -> throw new InvalidInputException(Constants.ERROR_INVALID_CURSOR);
+            };
+
+            return new TaskCursor(sortField,
+                                  Sort.Direction.valueOf(parts[1]),
+                                  sortValue,
+                                  Long.valueOf(parts[3]),
+                                  BACKWARD.equals(parts[4]));
+
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidInputException(Constants.ERROR_INVALID_CURSOR, e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.ifm.projectmgmt.util;
+
+import com.ifm.projectmgmt.dto.response.PagedResponse;
+import com.ifm.projectmgmt.dto.response.TaskResponse;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Entity tags for task representations.
+ * A task's tag is strong and derived from its version plus a hash of its project name, the only response field
+ * that changes without a task version bump. A list page's tag is weak and hashes the ID, version and project name
+ * of every task on the page together with the page metadata, so it changes whenever the page body would.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public final class TaskETags {
+
+    private static final String WILDCARD = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private TaskETags() {
+    }
+
+    /**
+     * Build the entity tag of a task.
+     *
+     * @param version     the task version
+     * @param projectName the name of the task's project
+     * @return quoted strong entity tag
+     */
+    public static String of(Long version, String projectName) {
+        return "\"" + version + "-" + Integer.toHexString(Objects.hashCode(projectName)) + "\"";
+    }
+
+    /**
+     * Build the entity tag of a task response.
+     *
+     * @param task the task response
+     * @return quoted strong entity tag
+     */
+    public static String of(TaskResponse task) {
+        return of(task.getVersion(), task.getProjectName());
+    }
+
+    /**
+     * Build the entity tag of a page of task responses.
+     *
+     * @param page the page
+     * @return quoted weak entity tag
+     */
+    public static String ofPage(PagedResponse<TaskResponse> page) {
+        StringBuilder state = new StringBuilder();
+        for (TaskResponse task : page.getContent()) {
+            state.append(task.getId()).append(':').append(task.getVersion()).append(':')
+                 .append(task.getProjectName()).append('|');
+        }
+        state.append(page.getTotalElements()).append('|')
+             .append(page.getTotalPages()).append('|')
+             .append(page.getCurrentPage()).append('|')
+             .append(page.getPageSize()).append('|')
+             .append(page.isFirst()).append('|')
+             .append(page.isLast()).append('|')
+             .append(page.getNextCursor()).append('|')
+             .append(page.getPrevCursor());
+
+        return WEAK_PREFIX + "\"" + DigestUtils.md5DigestAsHex(state.toString().getBytes(StandardCharsets.UTF_8))
+                + "\"";
+    }
+
+    /**
+     * Evaluate an If-Match header against the current tag, using strong comparison.
+     *
+     * @param ifMatch the If-Match header value
+     * @param etag    the current entity tag
+     * @return true if the header lists the current tag or is a wildcard
+     */
+    public static boolean matchesIfMatch(String ifMatch, String etag) {
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (WILDCARD.equals(tag) || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Evaluate an If-None-Match header against the current tag, using weak comparison.
+     *
+     * @param ifNoneMatch the If-None-Match header value
+     * @param etag        the current entity tag
+     * @return true if the header lists the current tag or is a wildcard, i.e. the client's copy is current
+     */
+    public static boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        String opaqueTag = stripWeakPrefix(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (WILDCARD.equals(tag) || stripWeakPrefix(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeakPrefix(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
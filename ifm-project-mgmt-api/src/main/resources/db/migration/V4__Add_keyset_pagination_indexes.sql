@@ -0,0 +1,9 @@
+-- ============================================
+-- Keyset Pagination Indexes
+-- ============================================
+-- Cursor pages seek on (sort column, id) within an optional project,
+-- so each index matches one sort order of the task list endpoints.
+CREATE INDEX idx_task_project_due_date_id ON task(project_id, due_date, id);
+CREATE INDEX idx_task_project_priority_id ON task(project_id, priority, id);
+CREATE INDEX idx_task_due_date_id ON task(due_date, id);
+CREATE INDEX idx_task_priority_id ON task(priority, id);
@@ -0,0 +1,8 @@
+-- ============================================
+-- Maintained task count per project
+-- ============================================
+-- Replaces the per-project COUNT(*) when listing projects
+ALTER TABLE project ADD COLUMN task_count BIGINT DEFAULT 0 NOT NULL;
+
+UPDATE project p
+SET task_count = (SELECT COUNT(*) FROM task t WHERE t.project_id = p.id);
@@ -0,0 +1,7 @@
+-- ============================================
+-- Task ID Sequence
+-- ============================================
+-- Task IDs come from a sequence instead of IDENTITY so inserts can be JDBC batched.
+-- Hibernate reserves 50 IDs per call (pooled optimizer), so the increment must match allocationSize.
+-- The sequence starts one block above the highest existing ID.
+CREATE SEQUENCE task_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM task) INCREMENT BY 50;
@@ -0,0 +1,19 @@
+-- ============================================
+-- Transactional notification outbox
+-- ============================================
+-- Notifications are written in the same transaction as the task change
+-- and drained by a background dispatcher
+CREATE SEQUENCE notification_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE notification_outbox (
+    id BIGINT PRIMARY KEY,
+    type VARCHAR(30) NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    payload CLOB NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    attempts INTEGER NOT NULL,
+    last_error VARCHAR(1000)
+);
+
+CREATE INDEX idx_notification_outbox_next_attempt ON notification_outbox(next_attempt_at, id);
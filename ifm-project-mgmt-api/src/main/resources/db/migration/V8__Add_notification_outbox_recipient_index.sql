@@ -0,0 +1,5 @@
+-- ============================================
+-- Notification coalescing
+-- ============================================
+-- Supports collecting the pending notifications of one recipient
+CREATE INDEX idx_notification_outbox_recipient ON notification_outbox(recipient, next_attempt_at);
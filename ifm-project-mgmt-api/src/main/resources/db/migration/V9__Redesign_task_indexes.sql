@@ -0,0 +1,38 @@
+-- ============================================
+-- Task Index Redesign
+-- ============================================
+-- Task lists filter on at most one equality column (project or status) plus an optional due date range,
+-- and order by due date or priority with the ID as tiebreaker. Each composite index holds the equality
+-- column, the sort column and the ID, in that order, so a page of IDs is read straight off the index
+-- without touching or sorting the table rows. H2 cannot read an index backwards, so every descending
+-- sort needs its own index. Together with the keyset indexes of V4 they cover:
+--   project + due date, ascending  -> idx_task_project_due_date_id
+--   project + due date, descending -> idx_task_project_due_date_desc_id_desc
+--   project + priority, ascending  -> idx_task_project_priority_id
+--   project + priority, descending -> idx_task_project_priority_desc_id_desc
+--   status + due date, ascending   -> idx_task_status_due_date_id
+--   status + due date, descending  -> idx_task_status_due_date_desc_id_desc
+--   status + priority, ascending   -> idx_task_status_priority_id
+--   status + priority, descending  -> idx_task_status_priority_desc_id_desc
+--   due date, ascending            -> idx_task_due_date_id
+--   due date, descending           -> idx_task_due_date_desc_id_desc
+--   priority, ascending            -> idx_task_priority_id
+--   priority, descending           -> idx_task_priority_desc_id_desc
+--   assignee + due date            -> idx_task_assignee_due_date_id
+
+-- Superseded single-column indexes: project_id is indexed by the foreign key, due_date and priority
+-- lead the keyset indexes, and status lists are served by the status composites below
+DROP INDEX idx_project_id;
+DROP INDEX idx_due_date;
+DROP INDEX idx_priority;
+DROP INDEX idx_status;
+
+CREATE INDEX idx_task_project_due_date_desc_id_desc ON task(project_id, due_date DESC, id DESC);
+CREATE INDEX idx_task_project_priority_desc_id_desc ON task(project_id, priority DESC, id DESC);
+CREATE INDEX idx_task_status_due_date_id ON task(status, due_date, id);
+CREATE INDEX idx_task_status_due_date_desc_id_desc ON task(status, due_date DESC, id DESC);
+CREATE INDEX idx_task_status_priority_id ON task(status, priority, id);
+CREATE INDEX idx_task_status_priority_desc_id_desc ON task(status, priority DESC, id DESC);
+CREATE INDEX idx_task_due_date_desc_id_desc ON task(due_date DESC, id DESC);
+CREATE INDEX idx_task_priority_desc_id_desc ON task(priority DESC, id DESC);
+CREATE INDEX idx_task_assignee_due_date_id ON task(assignee, due_date, id);
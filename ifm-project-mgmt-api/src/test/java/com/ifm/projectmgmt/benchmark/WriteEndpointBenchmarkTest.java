@@ -0,0 +1,201 @@
+package com.ifm.projectmgmt.benchmark;
+
+import com.ifm.projectmgmt.Application;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput and latency benchmark of the task write endpoints in platform and virtual thread mode.
+ * Starts the application once per mode and drives it with concurrent HTTP clients that create tasks
+ * and change their status.
+ *
+ * <p>Excluded from the regular build. Run with {@code mvn test -Pbenchmark}, optionally tuned with
+ * {@code -Dbenchmark.clients}, {@code -Dbenchmark.warmup} and {@code -Dbenchmark.duration} (seconds).</p>
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@Tag("benchmark")
+@DisplayName("Write Endpoint Benchmark - Platform vs Virtual Threads")
+class WriteEndpointBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 400);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.duration", 15));
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final String[] STATUSES = {"IN_PROGRESS", "COMPLETED", "PENDING"};
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+                                                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                                                    .build();
+
+    @Test
+    @DisplayName("Should compare write throughput and p99 latency of both thread modes")
+    void compareThreadModes() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("""
+
+                          Write endpoint benchmark - %d clients, %d s measured
+                          mode       ops/s      p50 ms     p99 ms     errors
+                          %s
+                          %s
+
+                          """, CLIENTS, DURATION.toSeconds(), platform, virtual);
+
+        assertThat(platform.operations()).isPositive();
+        assertThat(virtual.operations()).isPositive();
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .properties("server.port=0",
+                            "spring.threads.virtual.enabled=" + virtualThreads,
+                            "spring.datasource.url=jdbc:h2:mem:benchmark-" + mode,
+                            "spring.jpa.show-sql=false",
+                            "notification.coalescing.mode=off",
+                            "logging.level.root=WARN")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port + "/api";
+            long projectId = extractId(post(baseUrl + "/projects",
+                                            "{\"name\":\"Benchmark " + mode + "\",\"description\":\"Benchmark\"}"));
+
+            // Warm up, then measure with fresh counters
+            drive(baseUrl, projectId, WARMUP);
+            return drive(baseUrl, projectId, DURATION).withMode(mode);
+        }
+    }
+
+    private Result drive(String baseUrl, long projectId, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        List<Future<long[]>> clients = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < CLIENTS; client++) {
+                int clientId = client;
+                clients.add(executor.submit(() -> runClient(baseUrl, projectId, clientId, deadline, errors)));
+            }
+        }
+
+        List<long[]> perClient = new ArrayList<>();
+        for (Future<long[]> client : clients) {
+            perClient.add(client.get());
+        }
+        long[] latencies = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(null, latencies.length, duration, latencies, errors.get());
+    }
+
+    /**
+     * Create a task, then move it through all statuses, until the deadline.
+     *
+     * @return latency of every completed request in nanoseconds
+     */
+    private long[] runClient(String baseUrl, long projectId, int clientId, long deadline, AtomicLong errors) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        int sequence = 0;
+
+        while (System.nanoTime() < deadline) {
+            try {
+                long start = System.nanoTime();
+                long taskId = extractId(post(baseUrl + "/projects/" + projectId + "/tasks", """
+                        {"name":"Benchmark task %d-%d","priority":3,"dueDate":"%s","assignee":"user%d@example.com"}
+                        """.formatted(clientId, sequence++, LocalDate.now().plusDays(7), clientId % 50)));
+                latencies = record(latencies, count++, System.nanoTime() - start);
+
+                for (String status : STATUSES) {
+                    start = System.nanoTime();
+                    patch(baseUrl + "/tasks/" + taskId + "/status", "{\"status\":\"" + status + "\"}");
+                    latencies = record(latencies, count++, System.nanoTime() - start);
+                }
+            } catch (Exception e) {
+                errors.incrementAndGet();
+            }
+        }
+
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static long[] record(long[] latencies, int index, long latency) {
+        long[] target = index < latencies.length ? latencies : Arrays.copyOf(latencies, latencies.length * 2);
+        target[index] = latency;
+        return target;
+    }
+
+    private String post(String url, String body) throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(url)).POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private String patch(String url, String body) throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(url))
+                               .method("PATCH", HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private String send(HttpRequest.Builder request) throws Exception {
+        HttpResponse<String> response = httpClient.send(request.header("Content-Type", "application/json").build(),
+                                                        HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    private static long extractId(String body) {
+        Matcher matcher = ID_PATTERN.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No id in response: " + body);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private record Result(String mode, long operations, Duration duration, long[] latencies, long errors) {
+
+        Result withMode(String mode) {
+            return new Result(mode, operations, duration, latencies, errors);
+        }
+
+        double percentileMillis(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return "%-10s %-10.0f %-10.2f %-10.2f %d".formatted(mode, operations / (double) duration.toSeconds(),
+                                                                percentileMillis(50), percentileMillis(99), errors);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.ifm.projectmgmt.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the notification executor thread modes.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@DisplayName("Async Config Tests")
+class AsyncConfigTest {
+
+    private final AsyncConfig asyncConfig = new AsyncConfig();
+    private Executor executor;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (executor instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (executor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should send notifications on platform threads by default")
+    void shouldUsePlatformThreadsByDefault() throws Exception {
+        executor = asyncConfig.taskExecutor(new MockEnvironment(), 10);
+
+        Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).get(5, TimeUnit.SECONDS);
+
+        assertThat(thread.isVirtual()).isFalse();
+        assertThat(thread.getName()).startsWith("notification-");
+    }
+
+    @Test
+    @DisplayName("Should send notifications on virtual threads within the concurrency limit")
+    void shouldUseVirtualThreadsWithinConcurrencyLimit() throws Exception {
+        executor = asyncConfig.taskExecutor(
+                new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"), 3);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<Boolean>> sends = new ArrayList<>();
+
+        // Submitting blocks at the limit, so submit from a separate thread
+        Thread submitter = Thread.ofVirtual().start(() -> {
+            for (int i = 0; i < 10; i++) {
+                sends.add(CompletableFuture.supplyAsync(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    return Thread.currentThread().isVirtual();
+                }, executor));
+            }
+        });
+
+        Thread.sleep(200);
+        assertThat(running.get()).isEqualTo(3);
+        release.countDown();
+        submitter.join(5000);
+
+        assertThat(sends).hasSize(10);
+        for (CompletableFuture<Boolean> send : sends) {
+            assertThat(send.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(maxRunning.get()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,240 @@
+package com.ifm.projectmgmt.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ifm.projectmgmt.dto.request.CreateProjectRequest;
+import com.ifm.projectmgmt.dto.request.CreateTaskBatchRequest;
+import com.ifm.projectmgmt.dto.request.CreateTaskRequest;
+import com.ifm.projectmgmt.dto.request.TaskFilterRequest;
+import com.ifm.projectmgmt.dto.request.TaskStatusChange;
+import com.ifm.projectmgmt.dto.request.UpdateProjectRequest;
+import com.ifm.projectmgmt.dto.request.UpdateTaskRequest;
+import com.ifm.projectmgmt.dto.request.UpdateTaskStatusBatchRequest;
+import com.ifm.projectmgmt.dto.request.UpdateTaskStatusRequest;
+import com.ifm.projectmgmt.dto.response.ProjectResponse;
+import com.ifm.projectmgmt.dto.response.TaskBatchResponse;
+import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.service.ProjectService;
+import com.ifm.projectmgmt.service.TaskExportService;
+import com.ifm.projectmgmt.service.TaskService;
+import com.ifm.projectmgmt.util.Constants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.ifm.projectmgmt.controller.SqlStatementAssertions.assertMaxStatements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statement budgets of every TaskController, ProjectController and UserController endpoint.
+ * Each project holds several tasks with different assignees, so a query issued per project, task or assignee
+ * exceeds its budget.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statementbudget",
+        "notification.outbox.poll-interval=PT1H"
+})
+@DisplayName("Endpoint SQL Statement Budget Tests")
+class EndpointSqlStatementTest {
+
+    private static final int PROJECTS = 5;
+    private static final int TASKS_PER_PROJECT = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Long projectId;
+    private List<Long> taskIds;
+
+    @BeforeEach
+    void setUp() {
+        taskIds = new ArrayList<>();
+        for (int p = 0; p < PROJECTS; p++) {
+            ProjectResponse project = projectService.createProject(CreateProjectRequest.builder()
+                                                                                       .name("Budget Project " + p)
+                                                                                       .build());
+            List<CreateTaskRequest> tasks = IntStream.range(0, TASKS_PER_PROJECT)
+                                                     .mapToObj(this::createTaskRequest)
+                                                     .toList();
+            TaskBatchResponse created = taskService.createTasks(project.getId(), tasks);
+            projectId = project.getId();
+            taskIds = created.getTaskIds();
+        }
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    @DisplayName("Should keep task endpoints within their statement budgets")
+    void shouldKeepTaskEndpointsWithinBudget() throws Exception {
+        Long taskId = taskIds.getFirst();
+
+        assertMaxStatements("GET /api/tasks", 3, () -> mockMvc.perform(get(Constants.TASKS_PATH)
+                        .param("sortBy", "priority").param("size", "20"))
+                .andExpect(status().isOk()));
+        assertMaxStatements("GET /api/tasks filtered", 3, () -> mockMvc.perform(get(Constants.TASKS_PATH)
+                        .param("status", "PENDING").param("taskName", "Budget")
+                        .param("startDate", LocalDate.now().toString()))
+                .andExpect(status().isOk()));
+        assertMaxStatements("GET /api/tasks cursor", 2, () -> mockMvc.perform(get(Constants.TASKS_PATH)
+                        .param("pagination", Constants.PAGINATION_CURSOR))
+                .andExpect(status().isOk()));
+        assertMaxStatements("GET /api/projects/{id}/tasks", 3, () -> mockMvc.perform(
+                        get(Constants.PROJECTS_PATH + "/{projectId}/tasks", projectId))
+                .andExpect(status().isOk()));
+        assertMaxStatements("GET /api/tasks/suggest", 0, () -> mockMvc.perform(get(Constants.TASKS_PATH + "/suggest")
+                        .param("q", "Budget"))
+                .andExpect(status().isOk()));
+        assertMaxStatements("GET /api/tasks/{id}", 1, () -> mockMvc.perform(get(Constants.TASKS_PATH + "/{id}", taskId))
+                .andExpect(status().isOk()));
+        assertMaxStatements("GET /api/tasks/export", 0, () -> {
+            MvcResult result = mockMvc.perform(get(Constants.TASKS_PATH + "/export"))
+                                      .andExpect(request().asyncStarted())
+                                      .andReturn();
+            mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+        });
+        // The export body is streamed on an async thread, outside the request, so it is measured directly
+        assertMaxStatements("GET /api/tasks/export body", 3, () -> taskExportService.exportTasks(
+                new TaskFilterRequest(), Constants.FORMAT_CSV, false, OutputStream.nullOutputStream()));
+
+        assertMaxStatements("POST /api/projects/{id}/tasks", 5, () -> mockMvc.perform(
+                        post(Constants.PROJECTS_PATH + "/{projectId}/tasks", projectId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(createTaskRequest(0))))
+                .andExpect(status().isCreated()));
+        assertMaxStatements("POST /api/projects/{id}/tasks:batch", 5, () -> mockMvc.perform(
+                        post(Constants.PROJECTS_PATH + "/{projectId}/tasks:batch", projectId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(CreateTaskBatchRequest.builder()
+                                        .tasks(IntStream.range(0, TASKS_PER_PROJECT)
+                                                        .mapToObj(this::createTaskRequest)
+                                                        .toList())
+                                        .build())))
+                .andExpect(status().isCreated()));
+        assertMaxStatements("POST /api/projects/{id}/tasks/import", 3, () -> mockMvc.perform(
+                        post(Constants.PROJECTS_PATH + "/{projectId}/tasks/import", projectId)
+                                .contentType(Constants.MEDIA_TYPE_CSV)
+                                .content(importCsv()))
+                .andExpect(status().isOk()));
+        assertMaxStatements("PUT /api/tasks/{id}", 3, () -> mockMvc.perform(put(Constants.TASKS_PATH + "/{id}", taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(UpdateTaskRequest.builder()
+                                                                                  .name("Renamed Budget Task")
+                                                                                  .priority(2)
+                                                                                  .build())))
+                .andExpect(status().isOk()));
+        assertMaxStatements("PATCH /api/tasks/{id}/status", 3, () -> mockMvc.perform(
+                        patch(Constants.TASKS_PATH + "/{id}/status", taskIds.get(1))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(UpdateTaskStatusRequest.builder()
+                                        .status(TaskStatus.IN_PROGRESS)
+                                        .build())))
+                .andExpect(status().isOk()));
+        assertMaxStatements("PATCH /api/tasks/status", 4, () -> mockMvc.perform(patch(Constants.TASKS_PATH + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(UpdateTaskStatusBatchRequest.builder()
+                                .updates(taskIds.subList(2, TASKS_PER_PROJECT).stream()
+                                                .map(id -> TaskStatusChange.builder()
+                                                                           .id(id)
+                                                                           .version(0L)
+                                                                           .status(TaskStatus.COMPLETED)
+                                                                           .build())
+                                                .toList())
+                                .build())))
+                .andExpect(status().isOk()));
+        assertMaxStatements("DELETE /api/tasks/{id}", 3, () -> mockMvc.perform(delete(Constants.TASKS_PATH + "/{id}", taskId))
+                .andExpect(status().isNoContent()));
+    }
+
+    @Test
+    @DisplayName("Should keep project endpoints within their statement budgets")
+    void shouldKeepProjectEndpointsWithinBudget() throws Exception {
+        assertMaxStatements("GET /api/projects", 1, () -> mockMvc.perform(get(Constants.PROJECTS_PATH))
+                .andExpect(status().isOk()));
+        assertMaxStatements("GET /api/projects/{id}", 1, () -> mockMvc.perform(
+                        get(Constants.PROJECTS_PATH + "/{id}", projectId))
+                .andExpect(status().isOk()));
+        assertMaxStatements("POST /api/projects", 1, () -> mockMvc.perform(post(Constants.PROJECTS_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateProjectRequest.builder()
+                                                                                     .name("New Budget Project")
+                                                                                     .build())))
+                .andExpect(status().isCreated()));
+        assertMaxStatements("PUT /api/projects/{id}", 3, () -> mockMvc.perform(put(Constants.PROJECTS_PATH + "/{id}", projectId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(UpdateProjectRequest.builder()
+                                                                                     .name("Renamed Budget Project")
+                                                                                     .build())))
+                .andExpect(status().isOk()));
+        assertMaxStatements("DELETE /api/projects/{id}", 5, () -> mockMvc.perform(
+                        delete(Constants.PROJECTS_PATH + "/{id}", projectId))
+                .andExpect(status().isNoContent()));
+    }
+
+    @Test
+    @DisplayName("Should keep user endpoints within their statement budgets")
+    void shouldKeepUserEndpointsWithinBudget() throws Exception {
+        assertMaxStatements("GET /api/users", 1, () -> mockMvc.perform(get("/api/users"))
+                .andExpect(status().isOk()));
+        assertMaxStatements("GET /api/users/search", 1, () -> mockMvc.perform(get("/api/users/search").param("q", "john"))
+                .andExpect(status().isOk()));
+    }
+
+
+    private CreateTaskRequest createTaskRequest(int index) {
+        return CreateTaskRequest.builder()
+                                .name("Budget Task " + index)
+                                .priority(index % 5 + 1)
+                                .dueDate(LocalDate.now().plusDays(index))
+                                .assignee("budget" + index + "@company.com")
+                                .build();
+    }
+
+    private String importCsv() {
+        StringBuilder csv = new StringBuilder("name,priority,dueDate,assignee\n");
+        for (int i = 0; i < TASKS_PER_PROJECT; i++) {
+            csv.append("Imported Budget Task ").append(i).append(',').append(i % 5 + 1).append(',')
+               .append(LocalDate.now().plusDays(i)).append(",budget").append(i).append("@company.com\n");
+        }
+        return csv.toString();
+    }
+}
@@ -0,0 +1,52 @@
+package com.ifm.projectmgmt.controller;
+
+import com.ifm.projectmgmt.datasource.SqlStatistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test assertions on the number of SQL statements a piece of work executes on the calling thread.
+ * A budget that holds for a handful of rows but not for many means a query runs per row (N+1).
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+final class SqlStatementAssertions {
+
+    /**
+     * Work executing SQL, such as a MockMvc request.
+     */
+    @FunctionalInterface
+    interface SqlWork {
+
+        void run() throws Exception;
+    }
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * Run the work and assert it executed at most the given number of JDBC statements and batches.
+     *
+     * @param description   what the work is, for the failure message
+     * @param maxStatements the statement budget
+     * @param work          the work to run
+     * @return the SQL statistics of the work
+     * @throws Exception if the work fails
+     */
+    static SqlStatistics assertMaxStatements(String description, long maxStatements, SqlWork work)
+            throws Exception {
+        SqlStatistics statistics = SqlStatistics.begin();
+        try {
+            work.run();
+        } finally {
+            statistics.close();
+        }
+
+        assertThat(statistics.getStatements())
+                .as("SQL statements of %s (%d entities loaded, %d collections fetched)", description,
+                    statistics.getEntitiesLoaded(), statistics.getCollectionsFetched())
+                .isLessThanOrEqualTo(maxStatements);
+        return statistics;
+    }
+}
@@ -0,0 +1,211 @@
+package com.ifm.projectmgmt.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ifm.projectmgmt.datasource.SqlStatistics;
+import com.ifm.projectmgmt.dto.request.CreateProjectRequest;
+import com.ifm.projectmgmt.dto.request.CreateTaskRequest;
+import com.ifm.projectmgmt.dto.request.UpdateProjectRequest;
+import com.ifm.projectmgmt.dto.request.UpdateTaskRequest;
+import com.ifm.projectmgmt.dto.request.UpdateTaskStatusRequest;
+import com.ifm.projectmgmt.dto.response.TaskResponse;
+import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.event.TaskChangedEvent;
+import com.ifm.projectmgmt.repository.TaskRepository;
+import com.ifm.projectmgmt.service.ProjectService;
+import com.ifm.projectmgmt.service.TaskService;
+import com.ifm.projectmgmt.util.Constants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static com.ifm.projectmgmt.controller.SqlStatementAssertions.assertMaxStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for ETag-driven conditional task requests: 304 Not Modified for unchanged reads
+ * and 412 Precondition Failed for writes based on a stale version.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:conditionalrequest",
+        "notification.outbox.poll-interval=PT1H"
+})
+@RecordApplicationEvents
+@DisplayName("Task Conditional Request Tests")
+class TaskConditionalRequestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private Long projectId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        projectId = projectService.createProject(CreateProjectRequest.builder()
+                                                                     .name("Conditional Project")
+                                                                     .build())
+                                  .getId();
+        TaskResponse task = taskService.createTask(projectId, CreateTaskRequest.builder()
+                                                                               .name("Conditional Task")
+                                                                               .priority(3)
+                                                                               .dueDate(LocalDate.now().plusDays(7))
+                                                                               .assignee("etag@example.com")
+                                                                               .build());
+        taskId = task.getId();
+    }
+
+    @Test
+    @DisplayName("Should answer a current If-None-Match with 304 from a single lookup")
+    void shouldAnswerCurrentIfNoneMatchWith304() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get(Constants.TASKS_PATH + "/{id}", taskId))
+                             .andExpect(status().isOk())
+                             .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        // When/Then
+        SqlStatistics statistics = assertMaxStatements("conditional GET /api/tasks/{id}", 1, () -> mockMvc.perform(
+                        get(Constants.TASKS_PATH + "/{id}", taskId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string("")));
+        assertThat(statistics.getEntitiesLoaded()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should change the ETag when the task or its project name changes")
+    void shouldChangeETagWhenTaskOrProjectChanges() throws Exception {
+        // Given
+        String original = mockMvc.perform(get(Constants.TASKS_PATH + "/{id}", taskId))
+                                 .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When
+        String updated = mockMvc.perform(put(Constants.TASKS_PATH + "/{id}", taskId)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(UpdateTaskRequest.builder()
+                                                                                                  .priority(1)
+                                                                                                  .build())))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.version").value(1))
+                                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        projectService.updateProject(projectId, UpdateProjectRequest.builder().name("Renamed Project").build());
+
+        // Then
+        assertThat(updated).isNotEqualTo(original);
+        mockMvc.perform(get(Constants.TASKS_PATH + "/{id}", taskId).header(HttpHeaders.IF_NONE_MATCH, updated))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.projectName").value("Renamed Project"));
+    }
+
+    @Test
+    @DisplayName("Should reject a stale If-Match with 412 without loading the task")
+    void shouldRejectStaleIfMatch() throws Exception {
+        // Given
+        String staleETag = mockMvc.perform(get(Constants.TASKS_PATH + "/{id}", taskId))
+                                  .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String currentETag = mockMvc.perform(patch(Constants.TASKS_PATH + "/{id}/status", taskId)
+                                            .header(HttpHeaders.IF_MATCH, staleETag)
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .content(statusRequest(TaskStatus.IN_PROGRESS)))
+                                    .andExpect(status().isOk())
+                                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When/Then
+        SqlStatistics statistics = assertMaxStatements("stale PATCH /api/tasks/{id}/status", 1, () -> mockMvc.perform(
+                        patch(Constants.TASKS_PATH + "/{id}/status", taskId)
+                                .header(HttpHeaders.IF_MATCH, staleETag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(statusRequest(TaskStatus.COMPLETED)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string(HttpHeaders.ETAG, currentETag)));
+        assertThat(statistics.getEntitiesLoaded()).isZero();
+
+        mockMvc.perform(get(Constants.TASKS_PATH + "/{id}", taskId))
+               .andExpect(jsonPath("$.status").value(TaskStatus.IN_PROGRESS.name()));
+    }
+
+    @Test
+    @DisplayName("Should answer an unchanged list page with 304 until a task on it changes")
+    void shouldAnswerUnchangedListPageWith304() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get(Constants.PROJECTS_PATH + "/{projectId}/tasks", projectId))
+                             .andExpect(status().isOk())
+                             .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/");
+
+        // When/Then
+        mockMvc.perform(get(Constants.PROJECTS_PATH + "/{projectId}/tasks", projectId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+               .andExpect(status().isNotModified())
+               .andExpect(content().string(""));
+
+        taskService.updateTaskStatus(taskId, UpdateTaskStatusRequest.builder().status(TaskStatus.COMPLETED).build(),
+                null);
+
+        mockMvc.perform(get(Constants.PROJECTS_PATH + "/{projectId}/tasks", projectId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.content[0].status").value(TaskStatus.COMPLETED.name()));
+    }
+
+    @Test
+    @DisplayName("Should publish update events with the version the response and database carry")
+    void shouldPublishUpdateEventsWithCommittedVersion() {
+        // When
+        TaskResponse updated = taskService.updateTask(taskId, UpdateTaskRequest.builder().priority(1).build(), null);
+        TaskResponse statusUpdated = taskService.updateTaskStatus(taskId, UpdateTaskStatusRequest.builder()
+                                                                                                 .status(TaskStatus.COMPLETED)
+                                                                                                 .build(), null);
+
+        // Then
+        assertThat(applicationEvents.stream(TaskChangedEvent.class)
+                                    .filter(event -> event.type() == TaskChangedEvent.ChangeType.UPDATED)
+                                    .map(TaskChangedEvent::version))
+                .containsExactly(updated.getVersion(), statusUpdated.getVersion());
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        assertThat(statusUpdated.getVersion()).isEqualTo(2L);
+        assertThat(taskRepository.findById(taskId).orElseThrow().getVersion()).isEqualTo(statusUpdated.getVersion());
+    }
+
+    private String statusRequest(TaskStatus status) throws Exception {
+        return objectMapper.writeValueAsString(UpdateTaskStatusRequest.builder().status(status).build());
+    }
+}
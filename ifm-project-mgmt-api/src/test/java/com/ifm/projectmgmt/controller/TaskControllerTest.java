@@ -1,21 +1,45 @@
 package com.ifm.projectmgmt.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ifm.projectmgmt.dto.request.CreateTaskBatchRequest;
 import com.ifm.projectmgmt.dto.request.CreateTaskRequest;
+import com.ifm.projectmgmt.dto.request.TaskFilterRequest;
+import com.ifm.projectmgmt.dto.request.TaskStatusChange;
+import com.ifm.projectmgmt.dto.request.UpdateTaskStatusBatchRequest;
 import com.ifm.projectmgmt.dto.request.UpdateTaskStatusRequest;
 import com.ifm.projectmgmt.dto.response.PagedResponse;
+import com.ifm.projectmgmt.dto.response.TaskBatchResponse;
+import com.ifm.projectmgmt.dto.response.TaskImportError;
+import com.ifm.projectmgmt.dto.response.TaskImportResponse;
 import com.ifm.projectmgmt.dto.response.TaskResponse;
+import com.ifm.projectmgmt.dto.response.TaskStatusBatchResponse;
+import com.ifm.projectmgmt.dto.response.TaskStatusResult;
+import com.ifm.projectmgmt.dto.response.TaskSuggestion;
+import com.ifm.projectmgmt.entity.Task;
 import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.exception.InvalidInputException;
+import com.ifm.projectmgmt.exception.PreconditionFailedException;
 import com.ifm.projectmgmt.exception.ResourceNotFoundException;
+import com.ifm.projectmgmt.service.TaskExportService;
+import com.ifm.projectmgmt.service.TaskImportService;
 import com.ifm.projectmgmt.service.TaskService;
+import com.ifm.projectmgmt.util.Constants;
+import com.ifm.projectmgmt.util.TaskETags;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -23,6 +47,8 @@ import java.util.List;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -46,6 +72,12 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskImportService taskImportService;
+
+    @MockBean
+    private TaskExportService taskExportService;
+
     @Test
     @DisplayName("Should create task and return 201 Created")
     void shouldCreateTaskAndReturn201() throws Exception {
@@ -84,6 +116,58 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.assignee").value("test@example.com"));
     }
 
+    @Test
+    @DisplayName("Should create tasks in batch and return 201")
+    void shouldCreateTasksInBatchAndReturn201() throws Exception {
+        // Given
+        CreateTaskBatchRequest request = CreateTaskBatchRequest.builder()
+                .tasks(List.of(CreateTaskRequest.builder()
+                        .name("Batch Task")
+                        .priority(2)
+                        .dueDate(LocalDate.now().plusDays(7))
+                        .assignee("test@example.com")
+                        .build()))
+                .build();
+
+        TaskBatchResponse response = TaskBatchResponse.builder()
+                .projectId(1L)
+                .createdCount(1)
+                .taskIds(List.of(50L))
+                .build();
+
+        when(taskService.createTasks(eq(1L), anyList())).thenReturn(response);
+
+        // When/Then
+        mockMvc.perform(post("/api/projects/1/tasks:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.createdCount").value(1))
+                .andExpect(jsonPath("$.taskIds[0]").value(50));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a batch task is invalid")
+    void shouldReturn400WhenBatchTaskIsInvalid() throws Exception {
+        // Given
+        CreateTaskBatchRequest request = CreateTaskBatchRequest.builder()
+                .tasks(List.of(CreateTaskRequest.builder()
+                        .name("Batch Task")
+                        .priority(9)
+                        .dueDate(LocalDate.now().plusDays(7))
+                        .assignee("test@example.com")
+                        .build()))
+                .build();
+
+        // When/Then
+        mockMvc.perform(post("/api/projects/1/tasks:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).createTasks(anyLong(), anyList());
+    }
+
     @Test
     @DisplayName("Should return 400 for invalid task creation request")
     void shouldReturn400ForInvalidRequest() throws Exception {
@@ -127,9 +211,7 @@ class TaskControllerTest {
                 .empty(false)
                 .build();
 
-        when(taskService.getTasksForProject(
-                anyLong(), any(), any(), anyString(), anyString(), anyInt(), anyInt()
-        )).thenReturn(pagedResponse);
+        when(taskService.getTasksForProject(anyLong(), any(TaskFilterRequest.class))).thenReturn(pagedResponse);
 
         // When/Then
         mockMvc.perform(get("/api/projects/1/tasks")
@@ -142,6 +224,28 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.content[0].name").value("Test Task"));
     }
 
+    @Test
+    @DisplayName("Should suggest task names")
+    void shouldSuggestTaskNames() throws Exception {
+        // Given
+        List<TaskSuggestion> suggestions = List.of(
+                TaskSuggestion.builder().name("Design Database Schema").taskId(7L).taskCount(2).build(),
+                TaskSuggestion.builder().name("Design Review").taskId(3L).taskCount(1).build());
+
+        when(taskService.suggestTaskNames("des", 1L, 5)).thenReturn(suggestions);
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/suggest")
+                        .param("q", "des")
+                        .param("projectId", "1")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].name").value("Design Database Schema"))
+                .andExpect(jsonPath("$[0].taskId").value(7))
+                .andExpect(jsonPath("$[0].taskCount").value(2));
+    }
+
     @Test
     @DisplayName("Should get task by ID")
     void shouldGetTaskById() throws Exception {
@@ -183,6 +287,96 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.message").value("Task not found with id: 999"));
     }
 
+    @Test
+    @DisplayName("Should return the task with its ETag")
+    void shouldReturnTaskWithETag() throws Exception {
+        // Given
+        TaskResponse response = TaskResponse.builder()
+                .id(1L)
+                .name("Test Task")
+                .projectName("Test Project")
+                .version(3L)
+                .build();
+
+        when(taskService.getTaskById(1L)).thenReturn(response);
+
+        // When/Then
+        mockMvc.perform(get("/api/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, TaskETags.of(3L, "Test Project")))
+                .andExpect(jsonPath("$.version").value(3));
+    }
+
+    @Test
+    @DisplayName("Should return 304 from the version lookup when If-None-Match is current")
+    void shouldReturn304WhenIfNoneMatchIsCurrent() throws Exception {
+        // Given
+        String etag = TaskETags.of(3L, "Test Project");
+        when(taskService.getTaskETag(1L)).thenReturn(etag);
+
+        // When/Then
+        mockMvc.perform(get("/api/tasks/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        verify(taskService, never()).getTaskById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should return 412 with the current ETag when If-Match is stale")
+    void shouldReturn412WhenIfMatchIsStale() throws Exception {
+        // Given
+        UpdateTaskStatusRequest request = UpdateTaskStatusRequest.builder()
+                .status(TaskStatus.COMPLETED)
+                .build();
+        String staleETag = TaskETags.of(2L, "Test Project");
+        String currentETag = TaskETags.of(3L, "Test Project");
+
+        when(taskService.updateTaskStatus(eq(1L), any(UpdateTaskStatusRequest.class), eq(staleETag)))
+                .thenThrow(new PreconditionFailedException(Constants.ERROR_PRECONDITION_FAILED + 1, currentETag));
+
+        // When/Then
+        mockMvc.perform(patch("/api/tasks/1/status")
+                        .header(HttpHeaders.IF_MATCH, staleETag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string(HttpHeaders.ETAG, currentETag))
+                .andExpect(jsonPath("$.status").value(412));
+    }
+
+    @Test
+    @DisplayName("Should update task statuses in batch")
+    void shouldUpdateTaskStatusesInBatch() throws Exception {
+        // Given
+        UpdateTaskStatusBatchRequest request = UpdateTaskStatusBatchRequest.builder()
+                .updates(List.of(
+                        TaskStatusChange.builder().id(1L).version(0L).status(TaskStatus.COMPLETED).build(),
+                        TaskStatusChange.builder().id(2L).version(3L).status(TaskStatus.COMPLETED).build()))
+                .build();
+
+        TaskStatusBatchResponse response = TaskStatusBatchResponse.builder()
+                .updatedCount(1)
+                .conflictCount(1)
+                .notFoundCount(0)
+                .results(List.of(
+                        TaskStatusResult.builder().id(1L).outcome(TaskStatusResult.Outcome.UPDATED).version(1L).build(),
+                        TaskStatusResult.builder().id(2L).outcome(TaskStatusResult.Outcome.CONFLICT).version(4L).build()))
+                .build();
+
+        when(taskService.updateTaskStatuses(anyList())).thenReturn(response);
+
+        // When/Then
+        mockMvc.perform(patch("/api/tasks/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount").value(1))
+                .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.results[1].outcome").value("CONFLICT"));
+    }
+
     @Test
     @DisplayName("Should update task status")
     void shouldUpdateTaskStatus() throws Exception {
@@ -204,7 +398,7 @@ class TaskControllerTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(taskService.updateTaskStatus(eq(1L), any(UpdateTaskStatusRequest.class))).thenReturn(response);
+        when(taskService.updateTaskStatus(eq(1L), any(UpdateTaskStatusRequest.class), isNull())).thenReturn(response);
 
         // When/Then
         mockMvc.perform(patch("/api/tasks/1/status")
@@ -214,6 +408,117 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.status").value("COMPLETED"));
     }
 
+    @Test
+    @DisplayName("Should return 409 when the version check fails at commit")
+    void shouldReturn409WhenVersionCheckFailsAtCommit() throws Exception {
+        // Given
+        UpdateTaskStatusRequest request = UpdateTaskStatusRequest.builder()
+                .status(TaskStatus.COMPLETED)
+                .build();
+
+        when(taskService.updateTaskStatus(eq(1L), any(UpdateTaskStatusRequest.class), isNull()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        // When/Then
+        mockMvc.perform(patch("/api/tasks/1/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(Constants.ERROR_CONCURRENT_MODIFICATION));
+    }
+
+    @Test
+    @DisplayName("Should stream an import file to the import service")
+    void shouldImportTasksFromFile() throws Exception {
+        // Given
+        TaskImportResponse response = TaskImportResponse.builder()
+                .projectId(1L)
+                .format("csv")
+                .rowsRead(2L)
+                .importedCount(1L)
+                .rejectedCount(1L)
+                .errors(List.of(TaskImportError.builder().line(3L).message("priority: must be at most 5").build()))
+                .build();
+
+        when(taskImportService.importTasks(eq(1L), ArgumentMatchers.startsWith(Constants.MEDIA_TYPE_CSV),
+                                                any(InputStream.class)))
+                .thenReturn(response);
+
+        // When/Then
+        mockMvc.perform(post("/api/projects/1/tasks/import")
+                        .contentType(Constants.MEDIA_TYPE_CSV)
+                        .content("name,priority,dueDate,assignee\nTask,3,,\nOther,9,,\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedCount").value(1))
+                .andExpect(jsonPath("$.rejectedCount").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3));
+    }
+
+    @Test
+    @DisplayName("Should stream the export with filters and gzip when accepted")
+    void shouldStreamTaskExport() throws Exception {
+        // Given
+        when(taskExportService.checkExport(any(TaskFilterRequest.class), eq("csv")))
+                .thenReturn(Constants.MEDIA_TYPE_CSV);
+        when(taskExportService.exportTasks(argThat(filter -> filter.getStatus() == TaskStatus.PENDING),
+                                           eq("csv"), eq(true), any(OutputStream.class)))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(3, OutputStream.class).write("id,name\n1,Task\n".getBytes());
+                    return 1L;
+                });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/tasks/export")
+                                                   .param("status", "PENDING")
+                                                   .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                                  .andExpect(request().asyncStarted())
+                                  .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+               .andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.CONTENT_TYPE, Matchers.startsWith(Constants.MEDIA_TYPE_CSV)))
+               .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+               .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.csv\""))
+               .andExpect(content().string("id,name\n1,Task\n"));
+    }
+
+    @Test
+    @DisplayName("Should not gzip the export when the client refuses gzip with q=0")
+    void shouldNotGzipExportWhenGzipIsRefused() throws Exception {
+        // Given
+        when(taskExportService.checkExport(any(TaskFilterRequest.class), eq("csv")))
+                .thenReturn(Constants.MEDIA_TYPE_CSV);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/tasks/export")
+                                                   .header(HttpHeaders.ACCEPT_ENCODING, "GZIP;q=0, *;q=0.5"))
+                                  .andExpect(request().asyncStarted())
+                                  .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+               .andExpect(status().isOk())
+               .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        verify(taskExportService).exportTasks(any(TaskFilterRequest.class), eq("csv"), eq(false),
+                                              any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an unsupported export format without starting the export")
+    void shouldReturn400ForUnsupportedExportFormat() throws Exception {
+        // Given
+        when(taskExportService.checkExport(any(TaskFilterRequest.class), eq("xml")))
+                .thenThrow(new InvalidInputException(Constants.ERROR_UNSUPPORTED_EXPORT_FORMAT));
+
+        // When/Then
+        mockMvc.perform(get("/api/tasks/export").param("format", "xml"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value(Constants.ERROR_UNSUPPORTED_EXPORT_FORMAT));
+
+        verify(taskExportService, never()).exportTasks(any(), any(), anyBoolean(), any());
+    }
+
     @Test
     @DisplayName("Should delete task and return 204 No Content")
     void shouldDeleteTaskAndReturn204() throws Exception {
@@ -258,6 +563,36 @@ class TaskControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("Should return 400 for an unknown pagination mode without querying tasks")
+    void shouldReturn400ForUnknownPaginationMode() throws Exception {
+        // When/Then
+        mockMvc.perform(get("/api/tasks").param("pagination", "foo"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value(Constants.ERROR_INVALID_PAGINATION));
+        mockMvc.perform(get("/api/projects/1/tasks").param("pagination", "foo").param("cursor", "abc"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value(Constants.ERROR_INVALID_PAGINATION));
+
+        verify(taskService, never()).getAllTasks(any());
+        verify(taskService, never()).getTasksForProject(anyLong(), any(TaskFilterRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an unknown total mode without querying tasks")
+    void shouldReturn400ForUnknownTotalMode() throws Exception {
+        // When/Then
+        mockMvc.perform(get("/api/tasks").param("total", "bogus"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value(Constants.ERROR_INVALID_TOTAL));
+        mockMvc.perform(get("/api/projects/1/tasks").param("total", "bogus"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value(Constants.ERROR_INVALID_TOTAL));
+
+        verify(taskService, never()).getAllTasks(any());
+        verify(taskService, never()).getTasksForProject(anyLong(), any(TaskFilterRequest.class));
+    }
+
     @Test
     @DisplayName("Should return 400 for invalid enum value in request parameter")
     void shouldReturn400ForInvalidEnumInRequestParameter() throws Exception {
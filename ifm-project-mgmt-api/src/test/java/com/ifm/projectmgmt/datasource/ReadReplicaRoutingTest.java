@@ -0,0 +1,255 @@
+package com.ifm.projectmgmt.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ifm.projectmgmt.dto.request.CreateProjectRequest;
+import com.ifm.projectmgmt.dto.request.CreateTaskRequest;
+import com.ifm.projectmgmt.dto.request.UpdateTaskStatusRequest;
+import com.ifm.projectmgmt.dto.response.TaskResponse;
+import com.ifm.projectmgmt.entity.NotificationOutbox;
+import com.ifm.projectmgmt.entity.NotificationType;
+import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.repository.NotificationOutboxRepository;
+import com.ifm.projectmgmt.service.ProjectService;
+import com.ifm.projectmgmt.service.TaskService;
+import com.ifm.projectmgmt.util.Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for read replica routing, on two separate H2 databases.
+ * The primary gets the schema and the sample data, the replica only the schema, so every read shows which database
+ * served it.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingprimary",
+        "read-replica.enabled=true",
+        "read-replica.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "read-replica.hikari.maximum-pool-size=3",
+        "read-replica.read-your-writes.window=1h",
+        "notification.outbox.poll-interval=PT1H"
+})
+@DisplayName("Read Replica Routing Tests")
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routingreplica;DB_CLOSE_DELAY=-1";
+
+    private static final int SAMPLE_PROJECTS = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @BeforeAll
+    static void createReplica() {
+        Flyway.configure()
+              .dataSource(REPLICA_URL, "sa", "")
+              .locations("classpath:db/migration")
+              .load()
+              .migrate();
+    }
+
+    @Test
+    @DisplayName("Should run read-only transactions on the replica and writes on the primary")
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        // When
+        projectService.createProject(CreateProjectRequest.builder()
+                                                         .name("Routed Project")
+                                                         .build());
+
+        // Then
+        assertThat(projectService.getAllProjects()).isEmpty();
+
+        readYourWritesTracker.pinToPrimary();
+        try {
+            assertThat(projectService.getAllProjects()).hasSize(SAMPLE_PROJECTS + 1);
+        } finally {
+            readYourWritesTracker.release();
+        }
+    }
+
+    @Test
+    @DisplayName("Should send reads of a client to the primary after its own write")
+    void shouldReadYourWritesPerClient() throws Exception {
+        // Given
+        mockMvc.perform(get(Constants.PROJECTS_PATH).header(Constants.HEADER_CLIENT_ID, "writer"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$", hasSize(0)));
+
+        // When
+        String body = objectMapper.writeValueAsString(CreateProjectRequest.builder()
+                                                                          .name("Client Project")
+                                                                          .build());
+        mockMvc.perform(post(Constants.PROJECTS_PATH).header(Constants.HEADER_CLIENT_ID, "writer")
+                                                     .contentType(MediaType.APPLICATION_JSON)
+                                                     .content(body))
+               .andExpect(status().isCreated());
+
+        // Then
+        mockMvc.perform(get(Constants.PROJECTS_PATH).header(Constants.HEADER_CLIENT_ID, "writer"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$[?(@.name == 'Client Project')]").exists());
+        mockMvc.perform(get(Constants.PROJECTS_PATH).header(Constants.HEADER_CLIENT_ID, "reader"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Should write an import to the primary after its read-only project lookup")
+    void shouldWriteImportToPrimaryAfterReadOnlyLookup() throws Exception {
+        // Given - the project is on both databases, so a lookup served by the replica succeeds
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.update("INSERT INTO project (id, name, task_count, created_at, updated_at) " +
+                       "VALUES (1, 'Replica Project', 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        String csv = "name,priority,dueDate,assignee\nRouted Import,2," + LocalDate.now().plusDays(1) +
+                     ",routed@company.com\n";
+
+        try {
+            // When
+            mockMvc.perform(post(Constants.PROJECTS_PATH + "/{projectId}/tasks/import", 1L)
+                                    .header(Constants.HEADER_CLIENT_ID, "importer")
+                                    .contentType(Constants.MEDIA_TYPE_CSV)
+                                    .content(csv))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$.importedCount").value(1));
+
+            // Then
+            String countImported = "SELECT COUNT(*) FROM task WHERE name = 'Routed Import'";
+            assertThat(new JdbcTemplate(primaryDataSource).queryForObject(countImported, Long.class)).isEqualTo(1);
+            assertThat(replica.queryForObject(countImported, Long.class)).isZero();
+        } finally {
+            replica.update("DELETE FROM project WHERE id = 1");
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep stale replica reads out of the task cache so a writer reads its own write")
+    void shouldNotCacheStaleReplicaReadsAfterWrite() throws Exception {
+        // Given - the task is on both databases, and the replica never receives the update
+        Long projectId = projectService.createProject(CreateProjectRequest.builder()
+                                                                          .name("Cached Project")
+                                                                          .build())
+                                       .getId();
+        TaskResponse task = taskService.createTask(projectId, CreateTaskRequest.builder()
+                                                                               .name("Cached Task")
+                                                                               .priority(3)
+                                                                               .dueDate(LocalDate.now().plusDays(7))
+                                                                               .assignee("cache@company.com")
+                                                                               .build());
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.update("INSERT INTO project (id, name, task_count, created_at, updated_at) " +
+                       "VALUES (?, 'Cached Project', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", projectId);
+        replica.update("INSERT INTO task (id, name, priority, due_date, assignee, status, project_id, version, " +
+                       "created_at, updated_at) VALUES (?, 'Cached Task', 3, ?, 'cache@company.com', 'PENDING', ?, 0, " +
+                       "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", task.getId(), task.getDueDate(), projectId);
+        String body = objectMapper.writeValueAsString(UpdateTaskStatusRequest.builder()
+                                                                             .status(TaskStatus.COMPLETED)
+                                                                             .build());
+
+        try {
+            // When - another client reads the task from the lagging replica right after the write
+            mockMvc.perform(patch(Constants.TASKS_PATH + "/{id}/status", task.getId())
+                                    .header(Constants.HEADER_CLIENT_ID, "cache-writer")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(body))
+                   .andExpect(status().isOk());
+            mockMvc.perform(get(Constants.TASKS_PATH + "/{id}", task.getId())
+                                    .header(Constants.HEADER_CLIENT_ID, "cache-reader"))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$.status").value(TaskStatus.PENDING.name()));
+
+            // Then
+            mockMvc.perform(get(Constants.TASKS_PATH + "/{id}", task.getId())
+                                    .header(Constants.HEADER_CLIENT_ID, "cache-writer"))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$.status").value(TaskStatus.COMPLETED.name()))
+                   .andExpect(jsonPath("$.version").value(1));
+        } finally {
+            replica.update("DELETE FROM project WHERE id = ?", projectId);
+        }
+    }
+
+    @Test
+    @DisplayName("Should read the notification outbox from the primary")
+    void shouldReadOutboxFromPrimary() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.save(NotificationOutbox.builder()
+                                                .type(NotificationType.TASK_CREATED)
+                                                .recipient("outbox@company.com")
+                                                .payload("[]")
+                                                .attempts(0)
+                                                .nextAttemptAt(now)
+                                                .createdAt(now)
+                                                .build());
+
+        // When/Then
+        assertThat(outboxRepository.findDue(now.plusSeconds(1), 5, PageRequest.of(0, 10)))
+                .extracting(NotificationOutbox::getRecipient)
+                .contains("outbox@company.com");
+        assertThat(outboxRepository.findDueRecipients(now.plusSeconds(1), 5, now.plusSeconds(1),
+                                                      PageRequest.of(0, 10)))
+                .contains("outbox@company.com");
+    }
+
+    @Test
+    @DisplayName("Should export metrics for both pools")
+    void shouldExportPoolMetrics() {
+        assertThat(meterRegistry.find("hikaricp.connections.max").tag("pool", "primary").gauge())
+                .isNotNull()
+                .satisfies(gauge -> assertThat(gauge.value()).isEqualTo(10));
+        assertThat(meterRegistry.find("hikaricp.connections.max").tag("pool", "replica").gauge())
+                .isNotNull()
+                .satisfies(gauge -> assertThat(gauge.value()).isEqualTo(3));
+    }
+}
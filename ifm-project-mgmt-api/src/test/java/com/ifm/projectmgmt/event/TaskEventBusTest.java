@@ -0,0 +1,164 @@
+package com.ifm.projectmgmt.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for TaskEventBus.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@DisplayName("TaskEventBus Unit Tests")
+class TaskEventBusTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TaskEventBus eventBus;
+
+    @AfterEach
+    void tearDown() {
+        if (eventBus != null) {
+            eventBus.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver every event in order to each consumer")
+    void shouldDeliverEveryEventInOrderToEachConsumer() throws Exception {
+        // Given
+        RecordingConsumer first = new RecordingConsumer("first", null);
+        RecordingConsumer second = new RecordingConsumer("second", null);
+        eventBus = new TaskEventBus(List.of(first, second), meterRegistry, 8);
+        eventBus.start();
+
+        // When - several producers, more events than slots
+        Thread[] producers = new Thread[4];
+        for (int p = 0; p < producers.length; p++) {
+            long offset = p * 1000L;
+            producers[p] = Thread.ofVirtual().start(
+                    () -> LongStream.range(0, 250).forEach(i -> eventBus.publish(event(offset + i))));
+        }
+        for (Thread producer : producers) {
+            producer.join(5000);
+        }
+        eventBus.stop();
+
+        // Then
+        assertThat(first.taskIds).hasSize(1000);
+        assertThat(second.taskIds).containsExactlyElementsOf(first.taskIds);
+        for (int p = 0; p < producers.length; p++) {
+            long offset = p * 1000L;
+            assertThat(first.taskIds.stream().filter(id -> id >= offset && id < offset + 1000))
+                    .isSorted()
+                    .hasSize(250);
+        }
+        assertThat(meterRegistry.get("task.events.published").counter().count()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("Should hold publishers back while the slowest consumer is a whole buffer behind")
+    void shouldApplyBackpressureFromSlowestConsumer() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingConsumer fast = new RecordingConsumer("fast", null);
+        RecordingConsumer slow = new RecordingConsumer("slow", release);
+        eventBus = new TaskEventBus(List.of(fast, slow), meterRegistry, 4);
+        eventBus.start();
+
+        // When - the slow consumer blocks on its first event, so the fifth publish has to wait
+        Thread producer = Thread.ofVirtual().start(
+                () -> LongStream.range(0, 10).forEach(i -> eventBus.publish(event(i))));
+        Thread.sleep(300);
+
+        // Then
+        assertThat(producer.isAlive()).isTrue();
+        assertThat(fast.taskIds).hasSize(4);
+        assertThat(eventBus.lag("slow")).isEqualTo(5);
+
+        // When
+        release.countDown();
+        producer.join(5000);
+        eventBus.stop();
+
+        // Then
+        assertThat(fast.taskIds).hasSize(10);
+        assertThat(slow.taskIds).hasSize(10);
+        assertThat(meterRegistry.get("task.events.backpressure").counter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should keep delivering after a consumer fails")
+    void shouldKeepDeliveringAfterConsumerFailure() throws Exception {
+        // Given
+        RecordingConsumer failing = new RecordingConsumer("failing", null) {
+            @Override
+            public void onTaskChanged(TaskChangedEvent event) {
+                super.onTaskChanged(event);
+                if (event.taskId() == 1L) {
+                    throw new IllegalStateException("boom");
+                }
+            }
+        };
+        eventBus = new TaskEventBus(List.of(failing), meterRegistry, 4);
+        eventBus.start();
+
+        // When
+        LongStream.range(0, 3).forEach(i -> eventBus.publish(event(i)));
+        eventBus.stop();
+
+        // Then
+        assertThat(failing.taskIds).containsExactly(0L, 1L, 2L);
+        assertThat(meterRegistry.get("task.events.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject ring buffer sizes that are not a power of two")
+    void shouldRejectInvalidRingBufferSize() {
+        assertThatThrownBy(() -> new TaskEventBus(List.of(), meterRegistry, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TaskChangedEvent event(long taskId) {
+        return new TaskChangedEvent(TaskChangedEvent.ChangeType.CREATED, taskId, 1L, 0L, null, null);
+    }
+
+    private static class RecordingConsumer implements TaskEventConsumer {
+
+        private final String name;
+        private final CountDownLatch release;
+        private final List<Long> taskIds = new CopyOnWriteArrayList<>();
+
+        RecordingConsumer(String name, CountDownLatch release) {
+            this.name = name;
+            this.release = release;
+        }
+
+        @Override
+        public String consumerName() {
+            return name;
+        }
+
+        @Override
+        public void onTaskChanged(TaskChangedEvent event) {
+            taskIds.add(event.taskId());
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.ifm.projectmgmt.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests of the Flyway migration chain with and without the sample data.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@DisplayName("Flyway Migration Tests")
+class FlywayMigrationTest {
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    @DisplayName("Should create the schema without sample projects and open it again without running any script")
+    void shouldMigrateSchemaOnlyAndReopenWithoutReplay() {
+        // Given
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:file:" + dataDir.resolve("projectdb") + ";DB_CLOSE_ON_EXIT=FALSE", "sa", "");
+        Flyway flyway = flyway(dataSource, "classpath:db/migration");
+
+        // When
+        MigrateResult created = flyway.migrate();
+        MigrateResult reopened = flyway.migrate();
+
+        // Then
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertThat(created.migrationsExecuted).isEqualTo(8);
+        assertThat(reopened.migrationsExecuted).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM project", Long.class)).isZero();
+        // The released V3 script creates the users table together with its demo users
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class)).isEqualTo(10);
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    @DisplayName("Should load the sample data between the schema migrations")
+    void shouldInterleaveSampleData() {
+        // Given
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migrationtest;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway flyway = flyway(dataSource, "classpath:db/migration", "classpath:db/sample");
+
+        // When
+        MigrateResult result = flyway.migrate();
+
+        // Then
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertThat(result.migrationsExecuted).isEqualTo(9);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM project", Long.class)).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class)).isEqualTo(10);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM project WHERE task_count <> (SELECT COUNT(*) FROM task WHERE project_id = project.id)",
+                Long.class)).isZero();
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    @DisplayName("Should open a database created with the sample data using only the schema migrations")
+    void shouldOpenSampleDatabaseWithSchemaMigrationsOnly() {
+        // Given
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:file:" + dataDir.resolve("sampledb") + ";DB_CLOSE_ON_EXIT=FALSE", "sa", "");
+        flyway(dataSource, "classpath:db/migration", "classpath:db/sample").migrate();
+
+        // When
+        Flyway prod = Flyway.configure()
+                            .dataSource(dataSource)
+                            .locations("classpath:db/migration")
+                            .ignoreMigrationPatterns("*:missing")
+                            .load();
+        MigrateResult reopened = prod.migrate();
+
+        // Then
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertThat(reopened.migrationsExecuted).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM project", Long.class)).isEqualTo(4);
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    private Flyway flyway(DriverManagerDataSource dataSource, String... locations) {
+        return Flyway.configure()
+                     .dataSource(dataSource)
+                     .locations(locations)
+                     .load();
+    }
+}
@@ -0,0 +1,280 @@
+package com.ifm.projectmgmt.repository;
+
+import com.ifm.projectmgmt.dto.request.TaskFilterRequest;
+import com.ifm.projectmgmt.dto.response.PagedResponse;
+import com.ifm.projectmgmt.dto.response.TaskResponse;
+import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.service.TaskService;
+import com.ifm.projectmgmt.specification.TaskSpecification;
+import com.ifm.projectmgmt.util.Constants;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query plan regression tests for the task list queries, run against the Flyway schema and a seeded dataset.
+ * Every filter, sort and pagination combination the services build is executed, the SQL Hibernate sends is
+ * captured with its values inlined, and {@code EXPLAIN} must show an index for every table it reads.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@SpringBootTest
+@ActiveProfiles("seed")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plantest",
+        "spring.flyway.locations=classpath:db/migration",
+        "seed.tasks=20000",
+        "seed.projects=50",
+        "seed.assignees=200",
+        "search.name-index.max-candidates=20000",
+        "notification.outbox.poll-interval=PT1H",
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.ifm.projectmgmt.repository.TaskQueryPlanTest$CapturingStatementInspector"
+})
+@DisplayName("Task Query Plan Tests")
+class TaskQueryPlanTest {
+
+    private static final LocalDate START_DATE = LocalDate.now().minusDays(90);
+    private static final LocalDate END_DATE = LocalDate.now().minusDays(30);
+    private static final List<String> SORT_FIELDS = List.of(Constants.SORT_BY_PRIORITY, Constants.SORT_BY_DUE_DATE);
+    private static final List<String> ORDERS = List.of(Constants.SORT_ORDER_ASC, Constants.SORT_ORDER_DESC);
+    private static final List<String> TOTAL_MODES =
+            List.of(Constants.TOTAL_EXACT, Constants.TOTAL_CACHED, Constants.TOTAL_NONE);
+
+    /**
+     * The ID query of a page: selects task IDs only, in sort order.
+     */
+    private static final Pattern PAGE_ID_QUERY =
+            Pattern.compile("^select (\\w+)\\.id from task \\1 .*order by .*", Pattern.DOTALL);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long largestProjectId;
+
+    private String busiestAssignee;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("ANALYZE");
+        largestProjectId = jdbcTemplate.queryForObject(
+                "SELECT project_id FROM task GROUP BY project_id ORDER BY COUNT(*) DESC LIMIT 1", Long.class);
+        busiestAssignee = jdbcTemplate.queryForObject(
+                "SELECT assignee FROM task GROUP BY assignee ORDER BY COUNT(*) DESC LIMIT 1", String.class);
+    }
+
+    @Test
+    @DisplayName("Should read every task list query through an index")
+    void shouldNeverScanTables() {
+        List<String> violations = new ArrayList<>();
+
+        for (TaskFilterRequest request : withEveryPagination(allTaskFilters())) {
+            check("all tasks " + describe(request), request, taskService::getAllTasks, violations);
+        }
+        for (TaskFilterRequest request : withEveryPagination(projectTaskFilters())) {
+            check("project tasks " + describe(request), request,
+                  filter -> taskService.getTasksForProject(largestProjectId, filter), violations);
+        }
+        for (String sql : capture(() -> taskRepository.findResponses(TaskSpecification.hasAssignee(busiestAssignee),
+                PageRequest.of(1, 5, Sort.by(Constants.SORT_BY_DUE_DATE, Constants.SORT_TIEBREAKER))))) {
+            checkPlan("tasks of an assignee", sql, violations);
+        }
+
+        assertThat(violations).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read pages of equality-filtered and unfiltered lists in index order without sorting")
+    void shouldReadPagesInIndexOrder() {
+        List<String> unsorted = new ArrayList<>();
+
+        for (String sortBy : SORT_FIELDS) {
+            for (String order : ORDERS) {
+                TaskFilterRequest unfiltered = pageRequest(TaskFilterRequest.builder(), sortBy, order);
+                checkIndexSorted("all tasks " + describe(unfiltered),
+                                 () -> taskService.getAllTasks(unfiltered), unsorted);
+
+                TaskFilterRequest byStatus = pageRequest(TaskFilterRequest.builder().status(TaskStatus.COMPLETED),
+                                                         sortBy, order);
+                checkIndexSorted("all tasks " + describe(byStatus),
+                                 () -> taskService.getAllTasks(byStatus), unsorted);
+
+                TaskFilterRequest byProject = pageRequest(TaskFilterRequest.builder(), sortBy, order);
+                checkIndexSorted("project tasks " + describe(byProject),
+                                 () -> taskService.getTasksForProject(largestProjectId, byProject), unsorted);
+            }
+        }
+
+        assertThat(unsorted).isEmpty();
+    }
+
+    private List<TaskFilterRequest> allTaskFilters() {
+        return List.of(
+                TaskFilterRequest.builder().build(),
+                TaskFilterRequest.builder().status(TaskStatus.PENDING).build(),
+                TaskFilterRequest.builder().startDate(START_DATE).endDate(END_DATE).build(),
+                TaskFilterRequest.builder().status(TaskStatus.COMPLETED).startDate(START_DATE).endDate(END_DATE)
+                                 .build(),
+                TaskFilterRequest.builder().taskName("payment").build(),
+                TaskFilterRequest.builder().status(TaskStatus.IN_PROGRESS).taskName("login").build());
+    }
+
+    private List<TaskFilterRequest> projectTaskFilters() {
+        return List.of(
+                TaskFilterRequest.builder().build(),
+                TaskFilterRequest.builder().startDate(START_DATE).build(),
+                TaskFilterRequest.builder().startDate(START_DATE).endDate(END_DATE).build());
+    }
+
+    /**
+     * Combine each filter with every sort field and order, as a later offset page in each total mode
+     * and as a cursor page.
+     */
+    private List<TaskFilterRequest> withEveryPagination(List<TaskFilterRequest> filters) {
+        List<TaskFilterRequest> requests = new ArrayList<>();
+        for (TaskFilterRequest filter : filters) {
+            for (String sortBy : SORT_FIELDS) {
+                for (String order : ORDERS) {
+                    for (String total : TOTAL_MODES) {
+                        requests.add(copy(filter).sortBy(sortBy).order(order).page(1).size(5).total(total).build());
+                    }
+                    requests.add(copy(filter).sortBy(sortBy).order(order).size(5)
+                                             .pagination(Constants.PAGINATION_CURSOR).build());
+                }
+            }
+        }
+        return requests;
+    }
+
+    /**
+     * Run a list request and check the plan of every SELECT it sent. A cursor request also follows its next-page
+     * cursor, so the seek predicate is covered.
+     */
+    private void check(String description, TaskFilterRequest request,
+                       Function<TaskFilterRequest, PagedResponse<TaskResponse>> query, List<String> violations) {
+        List<String> statements = capture(() -> {
+            PagedResponse<TaskResponse> page = query.apply(request);
+            if (page.getNextCursor() != null) {
+                request.setCursor(page.getNextCursor());
+                query.apply(request);
+            }
+        });
+        for (String sql : statements) {
+            checkPlan(description, sql, violations);
+        }
+    }
+
+    private void checkPlan(String description, String sql, List<String> violations) {
+        String plan = explain(sql);
+        if (plan.contains(".tableScan")) {
+            violations.add(description + " scans a table:\n" + plan);
+        }
+    }
+
+    private void checkIndexSorted(String description, Runnable query, List<String> unsorted) {
+        List<String> idQueries = capture(query).stream()
+                                               .filter(sql -> PAGE_ID_QUERY.matcher(sql).matches())
+                                               .toList();
+        assertThat(idQueries).as(description).hasSize(1);
+
+        String plan = explain(idQueries.getFirst());
+        if (!plan.contains("/* index sorted */")) {
+            unsorted.add(description + " sorts its matches:\n" + plan);
+        }
+    }
+
+    /**
+     * Run a query and return the SELECT statements it sent.
+     */
+    private List<String> capture(Runnable query) {
+        CapturingStatementInspector.start();
+        try {
+            query.run();
+            return CapturingStatementInspector.statements().stream()
+                                              .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("select"))
+                                              .toList();
+        } finally {
+            CapturingStatementInspector.stop();
+        }
+    }
+
+    private String explain(String sql) {
+        // Criteria values are inlined; only the offset and limit remain as JDBC parameters
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql.replace("?", "1"), String.class);
+    }
+
+    private TaskFilterRequest pageRequest(TaskFilterRequest.TaskFilterRequestBuilder builder, String sortBy,
+                                          String order) {
+        return builder.sortBy(sortBy).order(order).page(1).size(5).total(Constants.TOTAL_NONE).build();
+    }
+
+    private TaskFilterRequest.TaskFilterRequestBuilder copy(TaskFilterRequest filter) {
+        return TaskFilterRequest.builder()
+                                .status(filter.getStatus())
+                                .taskName(filter.getTaskName())
+                                .startDate(filter.getStartDate())
+                                .endDate(filter.getEndDate());
+    }
+
+    private String describe(TaskFilterRequest request) {
+        return String.format("[status=%s, taskName=%s, startDate=%s, endDate=%s, sortBy=%s, order=%s, "
+                                     + "pagination=%s, total=%s]", request.getStatus(), request.getTaskName(),
+                             request.getStartDate(), request.getEndDate(), request.getSortBy(), request.getOrder(),
+                             request.getPagination(), request.getTotal());
+    }
+
+    /**
+     * Statement inspector recording the SQL of the current thread while capturing.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+        static void start() {
+            STATEMENTS.set(new ArrayList<>());
+        }
+
+        static void stop() {
+            STATEMENTS.remove();
+        }
+
+        static List<String> statements() {
+            List<String> statements = STATEMENTS.get();
+            return statements == null ? List.of() : statements;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = STATEMENTS.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -1,24 +1,38 @@
 package com.ifm.projectmgmt.repository;
 
+import com.ifm.projectmgmt.config.JpaConfig;
+import com.ifm.projectmgmt.dto.request.TaskStatusChange;
+import com.ifm.projectmgmt.dto.response.TaskResponse;
 import com.ifm.projectmgmt.entity.Project;
 import com.ifm.projectmgmt.entity.Task;
 import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.specification.TaskSpecification;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.test.context.TestPropertySource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
 
 /**
  * Integration tests for TaskRepository.
@@ -27,6 +41,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  * @version 1.0.0
  */
 @DataJpaTest
+@Import(JpaConfig.class)
 @TestPropertySource(properties = {
         "spring.flyway.enabled=false",
         "spring.jpa.hibernate.ddl-auto=create-drop"
@@ -43,6 +58,9 @@ class TaskRepositoryTest {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @SpyBean
+    private JdbcTemplate jdbcTemplate;
+
     private Project testProject;
 
     @BeforeEach
@@ -177,6 +195,28 @@ class TaskRepositoryTest {
         assertThat(count).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("Should maintain and repair project task counts")
+    void shouldMaintainAndRepairProjectTaskCounts() {
+        // Given
+        entityManager.persistAndFlush(createTask("Task 1", 2, testProject));
+        entityManager.persistAndFlush(createTask("Task 2", 3, testProject));
+
+        // When
+        projectRepository.adjustTaskCount(testProject.getId(), 1);
+        entityManager.clear();
+        long maintained = projectRepository.findById(testProject.getId()).orElseThrow().getTaskCount();
+
+        int repaired = projectRepository.repairTaskCounts();
+        long repairedCount = projectRepository.findById(testProject.getId()).orElseThrow().getTaskCount();
+
+        // Then
+        assertThat(maintained).isEqualTo(1);
+        assertThat(repaired).isEqualTo(1);
+        assertThat(repairedCount).isEqualTo(2);
+        assertThat(projectRepository.repairTaskCounts()).isZero();
+    }
+
     @Test
     @DisplayName("Should find overdue tasks")
     void shouldFindOverdueTasks() {
@@ -224,6 +264,104 @@ class TaskRepositoryTest {
         assertThat(result.getContent().get(2).getPriority()).isEqualTo(5);
     }
 
+    @Test
+    @DisplayName("Should walk all tasks with keyset seek without skipping or repeating ties")
+    void shouldWalkAllTasksWithKeysetSeek() {
+        // Given - several tasks share the same priority
+        for (int i = 0; i < 7; i++) {
+            entityManager.persist(createTask("Task " + i, i % 2 + 1, testProject));
+        }
+        entityManager.flush();
+
+        Sort sort = Sort.by(Sort.Direction.ASC, "priority", "id");
+        List<TaskResponse> walked = new ArrayList<>();
+
+        // When - fetch pages of 3 by seeking past the last row of the previous page
+        List<TaskResponse> page = taskRepository.findResponses(
+                TaskSpecification.belongsToProject(testProject.getId()), sort, 3);
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            TaskResponse last = page.getLast();
+            page = taskRepository.findResponses(
+                    TaskSpecification.belongsToProject(testProject.getId())
+                                     .and(TaskSpecification.seekAfter("priority", Sort.Direction.ASC,
+                                                                      last.getPriority(), last.getId())),
+                    sort, 3);
+        }
+
+        // Then
+        assertThat(walked).hasSize(7);
+        assertThat(walked).extracting(TaskResponse::getId).doesNotHaveDuplicates();
+        assertThat(walked).extracting(TaskResponse::getPriority).isSorted();
+    }
+
+    @Test
+    @DisplayName("Should project task responses without hydrating entities")
+    void shouldProjectTaskResponsesWithoutHydratingEntities() {
+        // Given
+        Task task = entityManager.persistAndFlush(createTask("Projected Task", 2, testProject));
+        entityManager.clear();
+
+        // When
+        Page<TaskResponse> result = taskRepository.findResponses(
+                TaskSpecification.belongsToProject(testProject.getId()), PageRequest.of(0, 10));
+        TaskResponse byId = taskRepository.findResponseById(task.getId()).orElseThrow();
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        TaskResponse response = result.getContent().getFirst();
+        assertThat(response.getName()).isEqualTo("Projected Task");
+        assertThat(response.getProjectId()).isEqualTo(testProject.getId());
+        assertThat(response.getProjectName()).isEqualTo("Test Project");
+        assertThat(response.getVersion()).isEqualTo(task.getVersion());
+        assertThat(response.getCreatedAt()).isNotNull();
+        assertThat(byId.getId()).isEqualTo(task.getId());
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+        assertThat(taskRepository.findResponseById(-1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should switch lazy query execution off again when a streaming query fails to open")
+    void shouldResetLazyQueryExecutionWhenStreamFailsToOpen() {
+        // Given
+        Specification<Task> failing = (root, query, criteriaBuilder) -> {
+            throw new IllegalStateException("Broken filter");
+        };
+
+        // When/Then
+        assertThatThrownBy(() -> taskRepository.streamResponses(failing, Sort.by("id")))
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        InOrder session = inOrder(jdbcTemplate);
+        session.verify(jdbcTemplate).execute("SET LAZY_QUERY_EXECUTION TRUE");
+        session.verify(jdbcTemplate).execute("SET LAZY_QUERY_EXECUTION FALSE");
+    }
+
+    @Test
+    @DisplayName("Should update statuses only where the version matches")
+    void shouldUpdateStatusesOnlyWhereVersionMatches() {
+        // Given
+        Task current = entityManager.persist(createTask("Current Task", 2, testProject));
+        Task stale = entityManager.persist(createTask("Stale Task", 2, testProject));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TaskStatusChange> changes = List.of(
+                TaskStatusChange.builder().id(current.getId()).version(current.getVersion())
+                                .status(TaskStatus.COMPLETED).build(),
+                TaskStatusChange.builder().id(stale.getId()).version(stale.getVersion() + 1)
+                                .status(TaskStatus.COMPLETED).build());
+
+        // When
+        int[] counts = taskRepository.updateStatuses(changes, LocalDateTime.now());
+
+        // Then
+        assertThat(counts).containsExactly(1, 0);
+        Task updated = taskRepository.findById(current.getId()).orElseThrow();
+        assertThat(updated.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(updated.getVersion()).isEqualTo(current.getVersion() + 1);
+        assertThat(taskRepository.findById(stale.getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.PENDING);
+    }
+
     private Task createTask(String name, int priority, Project project) {
         Task task = new Task();
         task.setName(name);
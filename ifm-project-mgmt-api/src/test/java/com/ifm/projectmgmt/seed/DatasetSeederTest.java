@@ -0,0 +1,115 @@
+package com.ifm.projectmgmt.seed;
+
+import com.ifm.projectmgmt.dto.request.CreateTaskRequest;
+import com.ifm.projectmgmt.repository.TaskRepository;
+import com.ifm.projectmgmt.service.TaskService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for DatasetSeeder, run against the Flyway schema.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@SpringBootTest
+@ActiveProfiles("seed")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:seedtest",
+        "seed.tasks=5000",
+        "seed.projects=20",
+        "seed.assignees=50",
+        "seed.chunk-size=2000"
+})
+@DisplayName("DatasetSeeder Integration Tests")
+class DatasetSeederTest {
+
+    private static final int SAMPLE_TASKS = 22;
+
+    @Autowired
+    private DatasetSeeder datasetSeeder;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should seed tasks at startup and keep project task counts in step")
+    void shouldSeedTasksAndTaskCounts() {
+        // Then
+        assertThat(taskRepository.count()).isEqualTo(5000 + SAMPLE_TASKS);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(task_count) FROM project", Long.class))
+                .isEqualTo(5000 + SAMPLE_TASKS);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM project p WHERE p.task_count <> (SELECT COUNT(*) FROM task t "
+                        + "WHERE t.project_id = p.id)", Long.class))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should restore the task indexes dropped for the load")
+    void shouldRestoreTaskIndexes() {
+        // When
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = 'TASK'", String.class);
+
+        // Then
+        assertThat(indexes).contains("IDX_TASK_PROJECT_DUE_DATE_ID", "IDX_TASK_PROJECT_DUE_DATE_DESC_ID_DESC",
+                                     "IDX_TASK_PROJECT_PRIORITY_ID", "IDX_TASK_PROJECT_PRIORITY_DESC_ID_DESC",
+                                     "IDX_TASK_STATUS_DUE_DATE_ID", "IDX_TASK_STATUS_DUE_DATE_DESC_ID_DESC",
+                                     "IDX_TASK_STATUS_PRIORITY_ID", "IDX_TASK_STATUS_PRIORITY_DESC_ID_DESC",
+                                     "IDX_TASK_DUE_DATE_ID", "IDX_TASK_DUE_DATE_DESC_ID_DESC", "IDX_TASK_PRIORITY_ID",
+                                     "IDX_TASK_PRIORITY_DESC_ID_DESC", "IDX_TASK_ASSIGNEE_DUE_DATE_ID");
+    }
+
+    @Test
+    @DisplayName("Should create new tasks and projects above the seeded IDs")
+    void shouldCreateNewRowsAboveSeededIds() {
+        // Given
+        long maxTaskId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM task", Long.class);
+        long projectId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM project", Long.class);
+        CreateTaskRequest request = CreateTaskRequest.builder()
+                                                     .name("After Seeding")
+                                                     .priority(3)
+                                                     .dueDate(LocalDate.now().plusDays(1))
+                                                     .assignee("after@example.com")
+                                                     .build();
+
+        // When
+        Long taskId = taskService.createTask(projectId, request).getId();
+        jdbcTemplate.update("INSERT INTO project (name, created_at, updated_at) "
+                                    + "VALUES ('After Seeding', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+
+        // Then
+        assertThat(taskId).isGreaterThan(maxTaskId);
+        assertThat(jdbcTemplate.queryForObject("SELECT MAX(id) FROM project", Long.class)).isGreaterThan(projectId);
+    }
+
+    @Test
+    @DisplayName("Should skip seeding when the database already holds enough tasks")
+    void shouldSkipSeedingWhenAlreadySeeded() throws Exception {
+        // Given
+        long before = taskRepository.count();
+
+        // When
+        datasetSeeder.run(null);
+
+        // Then
+        assertThat(taskRepository.count()).isEqualTo(before);
+    }
+}
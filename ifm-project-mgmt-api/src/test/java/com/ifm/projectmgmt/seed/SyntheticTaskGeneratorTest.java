@@ -0,0 +1,88 @@
+package com.ifm.projectmgmt.seed;
+
+import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.seed.SyntheticTaskGenerator.SyntheticTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SyntheticTaskGenerator.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@DisplayName("SyntheticTaskGenerator Unit Tests")
+class SyntheticTaskGeneratorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+    private static final int TASKS = 20_000;
+
+    @Test
+    @DisplayName("Should generate the same tasks for the same seed")
+    void shouldBeDeterministic() {
+        assertThat(generate(7)).isEqualTo(generate(7));
+        assertThat(generate(7)).isNotEqualTo(generate(8));
+    }
+
+    @Test
+    @DisplayName("Should skew project sizes and assignee workloads towards a few")
+    void shouldSkewProjectsAndAssignees() {
+        // When
+        List<SyntheticTask> tasks = generate(42);
+        Map<Integer, Long> byProject = countBy(tasks, SyntheticTask::projectIndex);
+        Map<String, Long> byAssignee = countBy(tasks, SyntheticTask::assignee);
+
+        // Then
+        assertThat(byProject.get(0)).isGreaterThan(TASKS / 10);
+        assertThat(byProject.get(0)).isGreaterThan(10 * byProject.getOrDefault(99, 0L));
+        assertThat(byAssignee.get(SyntheticTaskGenerator.assigneeEmail(0)))
+                .isGreaterThan(10 * byAssignee.getOrDefault(SyntheticTaskGenerator.assigneeEmail(199), 0L));
+    }
+
+    @Test
+    @DisplayName("Should create tasks in the past, oldest first, and mostly complete overdue ones")
+    void shouldFollowCreationTimesAndStatuses() {
+        // When
+        List<SyntheticTask> tasks = generate(42);
+
+        // Then
+        assertThat(tasks).allSatisfy(task -> {
+            assertThat(task.createdAt()).isBefore(NOW).isAfter(NOW.minusDays(366));
+            assertThat(task.dueDate()).isAfter(task.createdAt().toLocalDate());
+            assertThat(task.priority()).isBetween(1, 5);
+        });
+        assertThat(tasks.getFirst().createdAt()).isBefore(tasks.getLast().createdAt());
+
+        List<SyntheticTask> overdue = tasks.stream()
+                                           .filter(task -> task.dueDate().isBefore(NOW.toLocalDate().minusDays(30)))
+                                           .toList();
+        assertThat(overdue.stream().filter(task -> task.status() == TaskStatus.COMPLETED).count())
+                .isGreaterThan(overdue.size() * 8L / 10);
+    }
+
+    @Test
+    @DisplayName("Should reject seeding without projects")
+    void shouldRejectEmptyProjects() {
+        assertThatThrownBy(() -> new SyntheticTaskGenerator(1, TASKS, 0, 10, 365, NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<SyntheticTask> generate(long seed) {
+        SyntheticTaskGenerator generator = new SyntheticTaskGenerator(seed, TASKS, 100, 200, 365, NOW);
+        return LongStream.range(0, TASKS).mapToObj(generator::next).toList();
+    }
+
+    private <K> Map<K, Long> countBy(List<SyntheticTask> tasks, Function<SyntheticTask, K> key) {
+        return tasks.stream().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+}
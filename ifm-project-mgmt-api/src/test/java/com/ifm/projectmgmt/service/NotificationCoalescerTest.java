@@ -0,0 +1,116 @@
+package com.ifm.projectmgmt.service;
+
+import com.ifm.projectmgmt.dto.notification.TaskNotification;
+import com.ifm.projectmgmt.entity.NotificationOutbox;
+import com.ifm.projectmgmt.entity.NotificationType;
+import com.ifm.projectmgmt.entity.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for NotificationCoalescer.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationCoalescer Unit Tests")
+class NotificationCoalescerTest {
+
+    @Mock
+    private NotificationOutboxService outboxService;
+
+    @InjectMocks
+    private NotificationCoalescer coalescer;
+
+    @Test
+    @DisplayName("Should pass a single entry through unchanged")
+    void shouldPassSingleEntryThrough() {
+        // Given
+        NotificationOutbox entry = entry(1L, NotificationType.TASK_UPDATED,
+                task(10L, "Task", TaskStatus.PENDING, null, "priority changed from 2 to 1"));
+
+        // When
+        NotificationCoalescer.CoalescedNotification result = coalescer.coalesce(List.of(entry));
+
+        // Then
+        assertThat(result.type()).isEqualTo(NotificationType.TASK_UPDATED);
+        assertThat(result.events()).isEqualTo(1);
+        assertThat(result.tasks().getFirst().getChanges()).isEqualTo("priority changed from 2 to 1");
+    }
+
+    @Test
+    @DisplayName("Should merge changes per task into a digest")
+    void shouldMergeChangesPerTaskIntoDigest() {
+        // Given
+        List<NotificationOutbox> entries = List.of(
+                entry(1L, NotificationType.TASK_UPDATED,
+                      task(10L, "Task A", TaskStatus.PENDING, null, "name changed")),
+                entry(2L, NotificationType.TASK_STATUS_CHANGED,
+                      task(10L, "Task A", TaskStatus.IN_PROGRESS, TaskStatus.PENDING, null)),
+                entry(3L, NotificationType.TASK_STATUS_CHANGED,
+                      task(11L, "Task B", TaskStatus.COMPLETED, TaskStatus.PENDING, null)),
+                entry(4L, NotificationType.TASK_STATUS_CHANGED,
+                      task(10L, "Task A", TaskStatus.COMPLETED, TaskStatus.IN_PROGRESS, null)),
+                entry(5L, NotificationType.TASK_UPDATED,
+                      task(10L, "Task A", TaskStatus.COMPLETED, null, "name changed")));
+
+        // When
+        NotificationCoalescer.CoalescedNotification result = coalescer.coalesce(entries);
+
+        // Then
+        assertThat(result.type()).isEqualTo(NotificationType.TASK_DIGEST);
+        assertThat(result.events()).isEqualTo(5);
+        assertThat(result.tasks()).extracting(TaskNotification::getTaskId).containsExactly(10L, 11L);
+        assertThat(result.tasks().get(0).getChanges())
+                .isEqualTo("name changed; status changed from PENDING to COMPLETED");
+        assertThat(result.tasks().get(1).getChanges()).isEqualTo("status changed from PENDING to COMPLETED");
+    }
+
+    @Test
+    @DisplayName("Should merge creations of one project into one tasks created notification")
+    void shouldMergeCreationsIntoTasksCreated() {
+        // Given
+        List<NotificationOutbox> entries = List.of(
+                entry(1L, NotificationType.TASK_CREATED, task(10L, "Task A", TaskStatus.PENDING, null, null)),
+                entry(2L, NotificationType.TASK_CREATED, task(11L, "Task B", TaskStatus.PENDING, null, null)));
+
+        // When
+        NotificationCoalescer.CoalescedNotification result = coalescer.coalesce(entries);
+
+        // Then
+        assertThat(result.type()).isEqualTo(NotificationType.TASKS_CREATED);
+        assertThat(result.tasks()).extracting(TaskNotification::getTaskName).containsExactly("Task A", "Task B");
+    }
+
+    private NotificationOutbox entry(Long id, NotificationType type, TaskNotification task) {
+        NotificationOutbox entry = NotificationOutbox.builder()
+                                                     .id(id)
+                                                     .type(type)
+                                                     .recipient("test@example.com")
+                                                     .build();
+        when(outboxService.readPayload(entry)).thenReturn(List.of(task));
+        return entry;
+    }
+
+    private TaskNotification task(Long id, String name, TaskStatus status, TaskStatus previousStatus,
+                                  String changes) {
+        return TaskNotification.builder()
+                               .taskId(id)
+                               .taskName(name)
+                               .status(status)
+                               .previousStatus(previousStatus)
+                               .projectName("Test Project")
+                               .changes(changes)
+                               .build();
+    }
+}
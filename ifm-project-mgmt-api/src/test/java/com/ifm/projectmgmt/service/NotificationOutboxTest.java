@@ -0,0 +1,210 @@
+package com.ifm.projectmgmt.service;
+
+import com.ifm.projectmgmt.dto.notification.TaskNotification;
+import com.ifm.projectmgmt.dto.request.CreateTaskRequest;
+import com.ifm.projectmgmt.dto.request.UpdateTaskRequest;
+import com.ifm.projectmgmt.dto.request.UpdateTaskStatusRequest;
+import com.ifm.projectmgmt.entity.NotificationOutbox;
+import com.ifm.projectmgmt.entity.NotificationType;
+import com.ifm.projectmgmt.entity.Project;
+import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.repository.NotificationOutboxRepository;
+import com.ifm.projectmgmt.repository.ProjectRepository;
+import com.ifm.projectmgmt.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the transactional notification outbox and its dispatcher.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "notification.outbox.poll-interval=PT1H",
+        "notification.coalescing.window=PT0S",
+        // Own database, so dispatchers of other cached test contexts cannot drain this outbox
+        "spring.datasource.url=jdbc:h2:mem:outboxtest"
+})
+@DisplayName("Notification Outbox Integration Tests")
+class NotificationOutboxTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private NotificationOutboxDispatcher dispatcher;
+
+    @Autowired
+    private NotificationOutboxService outboxService;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Project testProject;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+
+        testProject = new Project();
+        testProject.setName("Outbox Test Project");
+        testProject = projectRepository.saveAndFlush(testProject);
+    }
+
+    @Test
+    @DisplayName("Should store a task snapshot in the outbox and deliver it after dispatch")
+    void shouldStoreAndDeliverNotification() {
+        // When
+        Long taskId = taskService.createTask(testProject.getId(), createRequest("Outbox Task", "a@example.com"))
+                                 .getId();
+
+        // Then - stored, not yet sent
+        List<NotificationOutbox> entries = outboxRepository.findAll();
+        assertThat(entries).hasSize(1);
+        assertThat(entries.getFirst().getType()).isEqualTo(NotificationType.TASK_CREATED);
+        assertThat(entries.getFirst().getRecipient()).isEqualTo("a@example.com");
+
+        List<TaskNotification> payload = outboxService.readPayload(entries.getFirst());
+        assertThat(payload).extracting(TaskNotification::getTaskId).containsExactly(taskId);
+        assertThat(payload.getFirst().getProjectName()).isEqualTo("Outbox Test Project");
+        double deliveredBefore = meterRegistry.get("notification.outbox.delivered").counter().count();
+
+        // When
+        dispatcher.dispatch();
+
+        // Then
+        assertThat(outboxRepository.count()).isZero();
+        assertThat(meterRegistry.get("notification.outbox.delivered").counter().count())
+                .isEqualTo(deliveredBefore + 1);
+        assertThat(meterRegistry.get("notification.outbox.pending").gauge().value()).isZero();
+        assertThat(meterRegistry.get("notification.outbox.pending.bytes").gauge().value()).isZero();
+        assertThat(meterRegistry.get("notification.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should merge pending notifications of an assignee into one")
+    void shouldMergePendingNotificationsOfAnAssignee() {
+        // Given
+        Long taskId = taskService.createTask(testProject.getId(), createRequest("Burst Task", "a@example.com"))
+                                 .getId();
+        taskService.updateTask(taskId, UpdateTaskRequest.builder().priority(1).build(), null);
+        taskService.updateTaskStatus(taskId, UpdateTaskStatusRequest.builder().status(TaskStatus.IN_PROGRESS).build(),
+                null);
+        taskService.updateTaskStatus(taskId, UpdateTaskStatusRequest.builder().status(TaskStatus.COMPLETED).build(),
+                null);
+        assertThat(outboxRepository.count()).isEqualTo(4);
+
+        double sentBefore = meterRegistry.get("notification.sent").counter().count();
+        double collapsedBefore = meterRegistry.get("notification.coalesced.events").counter().count();
+
+        // When
+        dispatcher.dispatch();
+
+        // Then
+        assertThat(outboxRepository.count()).isZero();
+        assertThat(meterRegistry.get("notification.sent").counter().count()).isEqualTo(sentBefore + 1);
+        assertThat(meterRegistry.get("notification.coalesced.events").counter().count())
+                .isEqualTo(collapsedBefore + 3);
+    }
+
+    @Test
+    @DisplayName("Should not store notifications for rolled-back writes")
+    void shouldNotStoreNotificationsForRolledBackWrites() {
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            taskService.createTask(testProject.getId(), createRequest("Rolled Back", "a@example.com"));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should store one batch notification per assignee")
+    void shouldStoreOneBatchNotificationPerAssignee() {
+        // When
+        taskService.createTasks(testProject.getId(), List.of(
+                createRequest("Task A", "alice@example.com"),
+                createRequest("Task B", "bob@example.com"),
+                createRequest("Task C", "alice@example.com")));
+
+        // Then
+        List<NotificationOutbox> entries = outboxRepository.findAll();
+        assertThat(entries).extracting(NotificationOutbox::getType)
+                           .containsOnly(NotificationType.TASKS_CREATED);
+        assertThat(entries).extracting(NotificationOutbox::getRecipient)
+                           .containsExactlyInAnyOrder("alice@example.com", "bob@example.com");
+        NotificationOutbox alice = entries.stream()
+                                          .filter(entry -> entry.getRecipient().equals("alice@example.com"))
+                                          .findFirst()
+                                          .orElseThrow();
+        assertThat(outboxService.readPayload(alice)).extracting(TaskNotification::getTaskName)
+                                                    .containsExactly("Task A", "Task C");
+    }
+
+    @Test
+    @DisplayName("Should keep failed notifications and schedule a retry")
+    void shouldKeepFailedNotificationsForRetry() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.save(NotificationOutbox.builder()
+                                                .type(NotificationType.TASK_CREATED)
+                                                .recipient("a@example.com")
+                                                .payload("not json")
+                                                .createdAt(now)
+                                                .nextAttemptAt(now)
+                                                .build());
+
+        // When
+        dispatcher.dispatch();
+
+        // Then
+        NotificationOutbox entry = outboxRepository.findAll().getFirst();
+        assertThat(entry.getAttempts()).isEqualTo(1);
+        assertThat(entry.getLastError()).contains("Unreadable notification outbox payload");
+        assertThat(entry.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(meterRegistry.get("notification.outbox.pending").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.outbox.pending.bytes").gauge().value())
+                .isEqualTo("not json".length());
+    }
+
+    private CreateTaskRequest createRequest(String name, String assignee) {
+        return CreateTaskRequest.builder()
+                                .name(name)
+                                .priority(2)
+                                .dueDate(LocalDate.now().plusDays(5))
+                                .assignee(assignee)
+                                .build();
+    }
+}
@@ -1,7 +1,7 @@
 package com.ifm.projectmgmt.service;
 
-import com.ifm.projectmgmt.entity.Project;
-import com.ifm.projectmgmt.entity.Task;
+import com.ifm.projectmgmt.dto.notification.TaskNotification;
+import com.ifm.projectmgmt.entity.NotificationType;
 import com.ifm.projectmgmt.entity.TaskStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,9 +11,10 @@ import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -27,37 +28,31 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("NotificationService Async Tests")
 class NotificationServiceTest {
 
+    private static final String RECIPIENT = "test@example.com";
+
     @InjectMocks
     private NotificationService notificationService;
 
-    private Task testTask;
+    private TaskNotification testTask;
 
     @BeforeEach
     void setUp() {
-        Project testProject = new Project();
-        testProject.setId(1L);
-        testProject.setName("Test Project");
-        testProject.setDescription("Test Description");
-        testProject.setCreatedAt(LocalDateTime.now());
-        testProject.setUpdatedAt(LocalDateTime.now());
-
-        testTask = new Task();
-        testTask.setId(1L);
-        testTask.setName("Test Task");
-        testTask.setPriority(3);
-        testTask.setDueDate(LocalDate.now().plusDays(7));
-        testTask.setAssignee("test@example.com");
-        testTask.setStatus(TaskStatus.PENDING);
-        testTask.setProject(testProject);
-        testTask.setCreatedAt(LocalDateTime.now());
-        testTask.setUpdatedAt(LocalDateTime.now());
+        testTask = TaskNotification.builder()
+                                   .taskId(1L)
+                                   .taskName("Test Task")
+                                   .priority(3)
+                                   .dueDate(LocalDate.now().plusDays(7))
+                                   .status(TaskStatus.PENDING)
+                                   .projectName("Test Project")
+                                   .build();
     }
 
     @Test
     @DisplayName("Should send task created notification asynchronously")
     void shouldSendTaskCreatedNotificationAsync() throws ExecutionException, InterruptedException {
         // When
-        CompletableFuture<Void> result = notificationService.sendTaskCreatedNotification(testTask);
+        CompletableFuture<Void> result = notificationService.deliver(
+                NotificationType.TASK_CREATED, RECIPIENT, List.of(testTask));
 
         // Then
         assertThat(result).isNotNull();
@@ -72,10 +67,11 @@ class NotificationServiceTest {
     @DisplayName("Should send task updated notification asynchronously")
     void shouldSendTaskUpdatedNotificationAsync() throws ExecutionException, InterruptedException {
         // Given
-        String changes = "Priority changed from 2 to 3";
+        testTask.setChanges("Priority changed from 2 to 3");
 
         // When
-        CompletableFuture<Void> result = notificationService.sendTaskUpdatedNotification(testTask, changes);
+        CompletableFuture<Void> result = notificationService.deliver(
+                NotificationType.TASK_UPDATED, RECIPIENT, List.of(testTask));
 
         // Then
         assertThat(result).isNotNull();
@@ -89,12 +85,12 @@ class NotificationServiceTest {
     @DisplayName("Should send task status changed notification asynchronously")
     void shouldSendTaskStatusChangedNotificationAsync() throws ExecutionException, InterruptedException {
         // Given
-        String oldStatus = "PENDING";
-        String newStatus = "IN_PROGRESS";
+        testTask.setPreviousStatus(TaskStatus.PENDING);
+        testTask.setStatus(TaskStatus.IN_PROGRESS);
 
         // When
-        CompletableFuture<Void> result = notificationService.sendTaskStatusChangedNotification(
-                testTask, oldStatus, newStatus);
+        CompletableFuture<Void> result = notificationService.deliver(
+                NotificationType.TASK_STATUS_CHANGED, RECIPIENT, List.of(testTask));
 
         // Then
         assertThat(result).isNotNull();
@@ -104,14 +100,53 @@ class NotificationServiceTest {
         assertThat(result.isDone()).isTrue();
     }
 
+    @Test
+    @DisplayName("Should send aggregated tasks created notification asynchronously")
+    void shouldSendTasksCreatedNotificationAsync() throws ExecutionException, InterruptedException {
+        // Given
+        List<TaskNotification> tasks = IntStream.range(0, 25)
+                                                .mapToObj(i -> TaskNotification.builder()
+                                                                               .taskId((long) i)
+                                                                               .taskName("Task " + i)
+                                                                               .projectName("Test Project")
+                                                                               .build())
+                                                .toList();
+
+        // When
+        CompletableFuture<Void> result = notificationService.deliver(
+                NotificationType.TASKS_CREATED, RECIPIENT, tasks);
+
+        // Then
+        result.get();
+        assertThat(result.isDone()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should send batched status changed notifications asynchronously")
+    void shouldSendTaskStatusChangedNotificationsAsync() throws ExecutionException, InterruptedException {
+        // Given
+        testTask.setPreviousStatus(TaskStatus.PENDING);
+        testTask.setStatus(TaskStatus.COMPLETED);
+
+        // When
+        CompletableFuture<Void> result = notificationService.deliver(
+                NotificationType.TASK_STATUSES_CHANGED, RECIPIENT, List.of(testTask));
+
+        // Then
+        result.get();
+        assertThat(result.isDone()).isTrue();
+    }
+
     @Test
     @DisplayName("Should handle multiple concurrent notifications")
     void shouldHandleMultipleConcurrentNotifications() throws ExecutionException, InterruptedException {
         // When - Send multiple notifications concurrently
-        CompletableFuture<Void> future1 = notificationService.sendTaskCreatedNotification(testTask);
-        CompletableFuture<Void> future2 = notificationService.sendTaskUpdatedNotification(testTask, "Test change");
-        CompletableFuture<Void> future3 = notificationService.sendTaskStatusChangedNotification(
-                testTask, "PENDING", "COMPLETED");
+        CompletableFuture<Void> future1 = notificationService.deliver(
+                NotificationType.TASK_CREATED, RECIPIENT, List.of(testTask));
+        CompletableFuture<Void> future2 = notificationService.deliver(
+                NotificationType.TASK_UPDATED, RECIPIENT, List.of(testTask));
+        CompletableFuture<Void> future3 = notificationService.deliver(
+                NotificationType.TASK_STATUS_CHANGED, RECIPIENT, List.of(testTask));
 
         // Wait for all to complete
         CompletableFuture.allOf(future1, future2, future3).get();
@@ -6,6 +6,7 @@ import com.ifm.projectmgmt.entity.Project;
 import com.ifm.projectmgmt.exception.ResourceNotFoundException;
 import com.ifm.projectmgmt.repository.ProjectRepository;
 import com.ifm.projectmgmt.repository.TaskRepository;
+import com.ifm.projectmgmt.util.Constants;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -38,6 +42,18 @@ class ProjectServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private TaskWriteGeneration taskWriteGeneration;
+
+    @Mock
+    private TaskNameIndex taskNameIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -58,8 +74,8 @@ class ProjectServiceTest {
     void shouldGetAllProjectsSuccessfully() {
         // Given
         List<Project> projects = List.of(testProject);
+        testProject.setTaskCount(5L);
         when(projectRepository.findAll()).thenReturn(projects);
-        when(taskRepository.countByProjectId(1L)).thenReturn(5L);
 
         // When
         List<ProjectResponse> responses = projectService.getAllProjects();
@@ -70,15 +86,15 @@ class ProjectServiceTest {
         assertThat(responses.getFirst().getTaskCount()).isEqualTo(5L);
 
         verify(projectRepository).findAll();
-        verify(taskRepository).countByProjectId(1L);
+        verify(taskRepository, never()).countByProjectId(anyLong());
     }
 
     @Test
     @DisplayName("Should get project by ID successfully")
     void shouldGetProjectByIdSuccessfully() {
         // Given
+        testProject.setTaskCount(3L);
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(taskRepository.countByProjectId(1L)).thenReturn(3L);
 
         // When
         ProjectResponse response = projectService.getProjectById(1L);
@@ -90,7 +106,6 @@ class ProjectServiceTest {
         assertThat(response.getTaskCount()).isEqualTo(3L);
 
         verify(projectRepository).findById(1L);
-        verify(taskRepository).countByProjectId(1L);
     }
 
     @Test
@@ -118,7 +133,6 @@ class ProjectServiceTest {
                 .build();
 
         when(projectRepository.save(any(Project.class))).thenReturn(testProject);
-        when(taskRepository.countByProjectId(1L)).thenReturn(0L);
 
         // When
         ProjectResponse response = projectService.createProject(request);
@@ -129,20 +143,42 @@ class ProjectServiceTest {
         assertThat(response.getTaskCount()).isZero();
 
         verify(projectRepository).save(any(Project.class));
-        verify(taskRepository).countByProjectId(1L);
+    }
+
+    @Test
+    @DisplayName("Should repair drifted task counts")
+    void shouldRepairDriftedTaskCounts() {
+        // Given
+        when(projectRepository.repairTaskCounts()).thenReturn(2);
+
+        // When
+        int repaired = projectService.repairTaskCounts();
+
+        // Then
+        assertThat(repaired).isEqualTo(2);
+        verify(projectRepository).repairTaskCounts();
     }
 
     @Test
     @DisplayName("Should delete project successfully")
     void shouldDeleteProjectSuccessfully() {
         // Given
+        ConcurrentMapCache taskCache = new ConcurrentMapCache(Constants.CACHE_TASK_BY_ID);
+        taskCache.put(10L, "cached task");
+        taskCache.put(20L, "task of another project");
+
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+        when(cacheManager.getCache(Constants.CACHE_TASK_BY_ID)).thenReturn(taskCache);
+        when(taskRepository.findIdsByProjectId(1L)).thenReturn(List.of(10L, 11L));
         doNothing().when(projectRepository).delete(any(Project.class));
 
         // When
         projectService.deleteProject(1L);
 
         // Then
+        assertThat(taskCache.get(10L)).isNull();
+        assertThat(taskCache.get(20L)).isNotNull();
+
         verify(projectRepository).findById(1L);
         verify(projectRepository).delete(testProject);
     }
@@ -0,0 +1,270 @@
+package com.ifm.projectmgmt.service;
+
+import com.ifm.projectmgmt.dto.request.CreateTaskRequest;
+import com.ifm.projectmgmt.dto.request.TaskFilterRequest;
+import com.ifm.projectmgmt.dto.request.UpdateProjectRequest;
+import com.ifm.projectmgmt.dto.request.UpdateTaskStatusRequest;
+import com.ifm.projectmgmt.dto.response.PagedResponse;
+import com.ifm.projectmgmt.dto.response.TaskResponse;
+import com.ifm.projectmgmt.entity.Project;
+import com.ifm.projectmgmt.entity.Task;
+import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.repository.ProjectRepository;
+import com.ifm.projectmgmt.repository.TaskRepository;
+import com.ifm.projectmgmt.util.Constants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the task caches backing TaskService.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("Task Cache Integration Tests")
+class TaskCacheTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TaskNameIndex taskNameIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Cache taskByIdCache;
+    private Cache taskSearchCache;
+    private Project testProject;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+
+        taskByIdCache = cacheManager.getCache(Constants.CACHE_TASK_BY_ID);
+        taskByIdCache.clear();
+        taskSearchCache = cacheManager.getCache(Constants.CACHE_TASK_SEARCH);
+        taskSearchCache.clear();
+        cacheManager.getCache(Constants.CACHE_TASK_COUNT).clear();
+
+        testProject = new Project();
+        testProject.setName("Cache Test Project");
+        testProject = projectRepository.saveAndFlush(testProject);
+    }
+
+    @Test
+    @DisplayName("Should cache task by ID after first read")
+    void shouldCacheTaskByIdAfterFirstRead() {
+        // Given
+        Task task = createAndSaveTask("Cached Task");
+
+        // When
+        TaskResponse first = taskService.getTaskById(task.getId());
+        TaskResponse second = taskService.getTaskById(task.getId());
+
+        // Then
+        assertThat(taskByIdCache.get(task.getId())).isNotNull();
+        assertThat(second).isSameAs(first);
+        assertThat(second.getVersion()).isEqualTo(task.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should evict cached task after status update")
+    void shouldEvictCachedTaskAfterStatusUpdate() {
+        // Given
+        Task task = createAndSaveTask("Status Task");
+        taskService.getTaskById(task.getId());
+
+        // When
+        taskService.updateTaskStatus(task.getId(),
+                UpdateTaskStatusRequest.builder().status(TaskStatus.COMPLETED).build(), null);
+
+        // Then
+        assertThat(taskByIdCache.get(task.getId())).isNull();
+        TaskResponse reloaded = taskService.getTaskById(task.getId());
+        assertThat(reloaded.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(reloaded.getVersion()).isEqualTo(task.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("Should not cache a read that a concurrent update committed over before the read finished")
+    void shouldNotCacheReadOverwrittenByConcurrentUpdate() {
+        // Given
+        Task task = createAndSaveTask("Interleaved Task");
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // When - the update commits, and evicts, while the read that loaded the old version is still open
+        TaskResponse read = readOnly.execute(status -> {
+            TaskResponse loaded = taskService.getTaskById(task.getId());
+            Thread writer = Thread.ofVirtual().start(() -> taskService.updateTaskStatus(task.getId(),
+                    UpdateTaskStatusRequest.builder().status(TaskStatus.COMPLETED).build(), null));
+            try {
+                writer.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return loaded;
+        });
+
+        // Then
+        assertThat(read.getVersion()).isEqualTo(task.getVersion());
+        TaskResponse reloaded = taskService.getTaskById(task.getId());
+        assertThat(reloaded.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(reloaded.getVersion()).isEqualTo(task.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("Should evict cached tasks when project is deleted")
+    void shouldEvictCachedTasksWhenProjectIsDeleted() {
+        // Given
+        Task task = createAndSaveTask("Project Task");
+        taskService.getTaskById(task.getId());
+
+        // When
+        projectService.deleteProject(testProject.getId());
+
+        // Then
+        assertThat(taskByIdCache.get(task.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict cached tasks when project is renamed")
+    void shouldEvictCachedTasksWhenProjectIsRenamed() {
+        // Given
+        Task task = createAndSaveTask("Renamed Project Task");
+        TaskResponse cached = taskService.getTaskById(task.getId());
+        assertThat(cached.getProjectName()).isEqualTo("Cache Test Project");
+
+        // When
+        projectService.updateProject(testProject.getId(),
+                UpdateProjectRequest.builder().name("Renamed Cache Project").build());
+
+        // Then
+        assertThat(taskByIdCache.get(task.getId())).isNull();
+        assertThat(taskService.getTaskById(task.getId()).getProjectName()).isEqualTo("Renamed Cache Project");
+    }
+
+    @Test
+    @DisplayName("Should serve repeated name searches from cache")
+    void shouldServeRepeatedNameSearchesFromCache() {
+        // Given
+        createAndSaveTask("Search Task");
+        taskNameIndex.rebuild();
+        TaskFilterRequest filter = searchFilter("search");
+
+        // When
+        PagedResponse<TaskResponse> first = taskService.getAllTasks(filter);
+        PagedResponse<TaskResponse> second = taskService.getAllTasks(searchFilter("search"));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getContent()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reuse cached total until a task is created")
+    void shouldReuseCachedTotalUntilTaskCreated() {
+        // Given
+        createAndSaveTask("First Task");
+        createAndSaveTask("Second Task");
+        TaskFilterRequest filter = TaskFilterRequest.builder()
+                                                    .sortBy(Constants.SORT_BY_DUE_DATE)
+                                                    .order(Constants.SORT_ORDER_ASC)
+                                                    .page(0)
+                                                    .size(1)
+                                                    .total(Constants.TOTAL_CACHED)
+                                                    .build();
+
+        // When
+        PagedResponse<TaskResponse> first = taskService.getTasksForProject(testProject.getId(), filter);
+        createAndSaveTask("Unseen Task");
+        PagedResponse<TaskResponse> cached = taskService.getTasksForProject(testProject.getId(), filter);
+        taskService.createTask(testProject.getId(), CreateTaskRequest.builder()
+                                                                     .name("Fourth Task")
+                                                                     .priority(2)
+                                                                     .dueDate(LocalDate.now().plusDays(3))
+                                                                     .assignee("test@example.com")
+                                                                     .build());
+        PagedResponse<TaskResponse> refreshed = taskService.getTasksForProject(testProject.getId(), filter);
+
+        // Then
+        assertThat(first.getTotalElements()).isEqualTo(2);
+        assertThat(first.getTotalPages()).isEqualTo(2);
+        assertThat(cached.getTotalElements()).isEqualTo(2);
+        assertThat(refreshed.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should not serve cached name searches after a task is created")
+    void shouldNotServeCachedNameSearchesAfterTaskCreated() {
+        // Given
+        createAndSaveTask("Search Task");
+        taskNameIndex.rebuild();
+        PagedResponse<TaskResponse> before = taskService.getAllTasks(searchFilter("search"));
+
+        // When
+        taskService.createTask(testProject.getId(), CreateTaskRequest.builder()
+                                                                     .name("Another Search Task")
+                                                                     .priority(2)
+                                                                     .dueDate(LocalDate.now().plusDays(3))
+                                                                     .assignee("test@example.com")
+                                                                     .build());
+        PagedResponse<TaskResponse> after = taskService.getAllTasks(searchFilter("search"));
+
+        // Then
+        assertThat(before.getContent()).hasSize(1);
+        assertThat(after.getContent()).hasSize(2);
+    }
+
+    private TaskFilterRequest searchFilter(String taskName) {
+        return TaskFilterRequest.builder()
+                                .taskName(taskName)
+                                .sortBy(Constants.SORT_BY_DUE_DATE)
+                                .order(Constants.SORT_ORDER_ASC)
+                                .page(0)
+                                .size(20)
+                                .build();
+    }
+
+    private Task createAndSaveTask(String name) {
+        Task task = new Task();
+        task.setName(name);
+        task.setPriority(3);
+        task.setDueDate(LocalDate.now().plusDays(7));
+        task.setAssignee("test@example.com");
+        task.setStatus(TaskStatus.PENDING);
+        task.setProject(testProject);
+        return taskRepository.saveAndFlush(task);
+    }
+}
@@ -0,0 +1,182 @@
+package com.ifm.projectmgmt.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ifm.projectmgmt.dto.request.CreateTaskRequest;
+import com.ifm.projectmgmt.dto.request.TaskFilterRequest;
+import com.ifm.projectmgmt.dto.response.TaskResponse;
+import com.ifm.projectmgmt.entity.Project;
+import com.ifm.projectmgmt.exception.InvalidInputException;
+import com.ifm.projectmgmt.repository.NotificationOutboxRepository;
+import com.ifm.projectmgmt.repository.ProjectRepository;
+import com.ifm.projectmgmt.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for TaskExportService.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.datasource.url=jdbc:h2:mem:exporttest",
+        "notification.outbox.poll-interval=PT1H",
+        "task-export.fetch-size=2"
+})
+@DisplayName("TaskExportService Integration Tests")
+class TaskExportServiceTest {
+
+    private static final LocalDate DUE_DATE = LocalDate.now().plusDays(10);
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private List<Long> taskIds;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+
+        Project project = new Project();
+        project.setName("Export, Project");
+        project = projectRepository.saveAndFlush(project);
+
+        List<CreateTaskRequest> requests = IntStream.rangeClosed(1, 7)
+                                                    .mapToObj(i -> CreateTaskRequest.builder()
+                                                                                    .name((i % 2 == 0 ? "Beta " : "Alpha ") + i)
+                                                                                    .priority(i % 5 + 1)
+                                                                                    .dueDate(DUE_DATE.plusDays(i))
+                                                                                    .assignee("user" + i + "@example.com")
+                                                                                    .build())
+                                                    .toList();
+        taskIds = taskService.createTasks(project.getId(), requests).getTaskIds();
+    }
+
+    @Test
+    @DisplayName("Should export matching tasks as CSV in ID order")
+    void shouldExportMatchingTasksAsCsv() throws Exception {
+        // Given
+        TaskFilterRequest filter = TaskFilterRequest.builder()
+                                                    .taskName("alpha")
+                                                    .build();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long count = taskExportService.exportTasks(filter, "csv", false, output);
+
+        // Then
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(count).isEqualTo(4);
+        assertThat(lines).hasSize(5);
+        assertThat(lines.getFirst())
+                .isEqualTo("id,name,priority,dueDate,assignee,status,projectId,projectName,version,createdAt,updatedAt");
+        assertThat(lines.get(1)).startsWith(taskIds.getFirst() + ",\"Alpha 1\",2," + DUE_DATE.plusDays(1)
+                                                    + ",user1@example.com,PENDING,")
+                                .contains(",\"Export, Project\",0,");
+        assertThat(lines.subList(1, 5)).extracting(line -> Long.valueOf(line.substring(0, line.indexOf(','))))
+                                       .containsExactly(taskIds.get(0), taskIds.get(2), taskIds.get(4), taskIds.get(6));
+    }
+
+    @Test
+    @DisplayName("Should export gzipped NDJSON with one task per line")
+    void shouldExportGzippedNdjson() throws Exception {
+        // Given
+        TaskFilterRequest filter = TaskFilterRequest.builder()
+                                                    .endDate(DUE_DATE.plusDays(5))
+                                                    .build();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long count = taskExportService.exportTasks(filter, "NDJSON", true, output);
+
+        // Then
+        String ndjson;
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            ndjson = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(count).isEqualTo(5);
+        assertThat(ndjson).endsWith("}\n");
+
+        List<TaskResponse> tasks = ndjson.lines()
+                                         .map(line -> {
+                                             try {
+                                                 return objectMapper.readValue(line, TaskResponse.class);
+                                             } catch (Exception e) {
+                                                 throw new IllegalStateException(e);
+                                             }
+                                         })
+                                         .toList();
+        assertThat(tasks).extracting(TaskResponse::getId).containsExactlyElementsOf(taskIds.subList(0, 5));
+        assertThat(tasks.getLast().getDueDate()).isEqualTo(DUE_DATE.plusDays(5));
+    }
+
+    @Test
+    @DisplayName("Should write the CSV header when no task matches")
+    void shouldWriteCsvHeaderWhenNoTaskMatches() throws Exception {
+        // Given
+        TaskFilterRequest filter = TaskFilterRequest.builder()
+                                                    .taskName("no such task")
+                                                    .build();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long count = taskExportService.exportTasks(filter, "csv", false, output);
+
+        // Then
+        assertThat(count).isZero();
+        assertThat(output.toString(StandardCharsets.UTF_8))
+                .isEqualTo("id,name,priority,dueDate,assignee,status,projectId,projectName,version,createdAt,updatedAt\n");
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported formats and inverted date ranges before writing")
+    void shouldRejectInvalidExportRequests() {
+        TaskFilterRequest filter = TaskFilterRequest.builder().build();
+        TaskFilterRequest invertedRange = TaskFilterRequest.builder()
+                                                           .startDate(DUE_DATE.plusDays(5))
+                                                           .endDate(DUE_DATE)
+                                                           .build();
+
+        assertThat(taskExportService.checkExport(filter, "ndjson")).isEqualTo("application/x-ndjson");
+        assertThatThrownBy(() -> taskExportService.checkExport(filter, "xml"))
+                .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> taskExportService.exportTasks(invertedRange, "csv", false,
+                                                               new ByteArrayOutputStream()))
+                .isInstanceOf(InvalidInputException.class);
+    }
+}
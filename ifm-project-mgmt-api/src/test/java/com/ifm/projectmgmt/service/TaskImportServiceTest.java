@@ -0,0 +1,181 @@
+package com.ifm.projectmgmt.service;
+
+import com.ifm.projectmgmt.dto.request.CreateTaskRequest;
+import com.ifm.projectmgmt.dto.response.TaskImportError;
+import com.ifm.projectmgmt.dto.response.TaskImportResponse;
+import com.ifm.projectmgmt.entity.Project;
+import com.ifm.projectmgmt.entity.Task;
+import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.exception.InvalidInputException;
+import com.ifm.projectmgmt.repository.NotificationOutboxRepository;
+import com.ifm.projectmgmt.repository.ProjectRepository;
+import com.ifm.projectmgmt.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for TaskImportService.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.datasource.url=jdbc:h2:mem:importtest",
+        "notification.outbox.poll-interval=PT1H",
+        "task-import.chunk-size=3",
+        "task-import.max-reported-errors=2"
+})
+@DisplayName("TaskImportService Integration Tests")
+class TaskImportServiceTest {
+
+    private static final LocalDate DUE_DATE = LocalDate.now().plusDays(10);
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+
+        project = new Project();
+        project.setName("Import Project");
+        project = projectRepository.saveAndFlush(project);
+    }
+
+    @Test
+    @DisplayName("Should import valid CSV rows in chunks and report invalid ones by line")
+    void shouldImportCsvAndReportInvalidRows() throws Exception {
+        // Given - extra columns are ignored, values are trimmed
+        String csv = """
+                name,priority,dueDate,assignee,legacyId
+                Design schema,2,%1$s,alice@example.com,A-1
+                Bad priority,9,%1$s,bob@example.com,A-2
+                 Build API , 3 ,%1$s, carol@example.com ,A-3
+                No assignee,1,%1$s,,A-4
+                Bad date,1,not-a-date,dave@example.com,A-5
+                Write docs,4,%1$s,erin@example.com,A-6
+                Deploy,5,%1$s,frank@example.com,A-7
+                """.formatted(DUE_DATE);
+
+        // When
+        TaskImportResponse response = taskImportService.importTasks(project.getId(), "text/csv", stream(csv));
+
+        // Then
+        assertThat(response.getFormat()).isEqualTo("csv");
+        assertThat(response.getRowsRead()).isEqualTo(7);
+        assertThat(response.getImportedCount()).isEqualTo(4);
+        assertThat(response.getRejectedCount()).isEqualTo(3);
+        assertThat(response.isAborted()).isFalse();
+        assertThat(response.getRowsPerSecond()).isPositive();
+        assertThat(response.getErrors()).extracting(TaskImportError::getLine).containsExactly(3L, 5L);
+        assertThat(response.getErrors().getFirst().getMessage()).isEqualTo("Priority must be between 1 and 5");
+        assertThat(response.isErrorsTruncated()).isTrue();
+
+        List<Task> tasks = taskRepository.findAll();
+        assertThat(tasks).extracting(Task::getName)
+                         .containsExactlyInAnyOrder("Design schema", "Build API", "Write docs", "Deploy");
+        assertThat(tasks).allSatisfy(task -> {
+            assertThat(task.getStatus()).isEqualTo(TaskStatus.PENDING);
+            assertThat(task.getVersion()).isZero();
+            assertThat(task.getCreatedAt()).isNotNull();
+        });
+        assertThat(projectRepository.findById(project.getId()).orElseThrow().getTaskCount()).isEqualTo(4);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should skip NDJSON rows with invalid values and stop at malformed JSON")
+    void shouldSkipInvalidNdjsonRowsAndStopAtMalformedJson() throws Exception {
+        // Given
+        String ndjson = """
+                {"name":"First","priority":1,"dueDate":"%1$s","assignee":"a@example.com"}
+                {"name":"Wrong type","priority":"high","dueDate":"%1$s","assignee":"b@example.com"}
+                {"name":"Second","priority":2,"dueDate":"%1$s","assignee":"c@example.com"}
+                {"name":"Broken",,"priority":3}
+                {"name":"Never read","priority":3,"dueDate":"%1$s","assignee":"d@example.com"}
+                """.formatted(DUE_DATE);
+
+        // When
+        TaskImportResponse response = taskImportService.importTasks(project.getId(), "application/x-ndjson",
+                                                                    stream(ndjson));
+
+        // Then
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getRejectedCount()).isEqualTo(2);
+        assertThat(response.isAborted()).isTrue();
+        assertThat(response.getErrors().getFirst().getLine()).isEqualTo(2);
+        assertThat(response.getErrors().getFirst().getMessage()).isEqualTo("Invalid value 'high' for field 'priority'");
+        assertThat(response.getErrors().get(1).getMessage()).startsWith("Unreadable content, import stopped");
+        assertThat(taskRepository.findAll()).extracting(Task::getName).containsExactlyInAnyOrder("First", "Second");
+    }
+
+    @Test
+    @DisplayName("Should assign imported tasks IDs that later creates do not reuse")
+    void shouldNotCollideWithLaterCreates() throws Exception {
+        // Given
+        String ndjson = IntStream.range(0, 10)
+                                 .mapToObj(i -> "{\"name\":\"Task " + i + "\",\"priority\":3,\"dueDate\":\""
+                                         + DUE_DATE + "\",\"assignee\":\"a@example.com\"}")
+                                 .collect(Collectors.joining("\n"));
+        taskImportService.importTasks(project.getId(), "application/x-ndjson", stream(ndjson));
+
+        // When
+        taskService.createTask(project.getId(), CreateTaskRequest.builder()
+                                                                 .name("Created")
+                                                                 .priority(1)
+                                                                 .dueDate(DUE_DATE)
+                                                                 .assignee("b@example.com")
+                                                                 .build());
+
+        // Then
+        assertThat(taskRepository.count()).isEqualTo(11);
+        assertThat(projectRepository.findById(project.getId()).orElseThrow().getTaskCount()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported content types")
+    void shouldRejectUnsupportedContentType() {
+        assertThatThrownBy(() -> taskImportService.importTasks(project.getId(), "application/json", stream("[]")))
+                .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> taskImportService.importTasks(project.getId(), null, stream("")))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,159 @@
+package com.ifm.projectmgmt.service;
+
+import com.ifm.projectmgmt.repository.TaskRepository;
+import com.ifm.projectmgmt.specification.TaskSpecification;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TaskNameIndex.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskNameIndex Unit Tests")
+class TaskNameIndexTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskNameIndex taskNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        taskNameIndex = new TaskNameIndex(taskRepository, meterRegistry, 2);
+
+        when(taskRepository.streamAllNames()).thenReturn(Stream.of(
+                nameView(1L, "Design Database Schema"),
+                nameView(2L, "Implement User Authentication"),
+                nameView(3L, "Database Migration Plan")));
+        taskNameIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should resolve candidates case-insensitively")
+    void shouldResolveCandidatesCaseInsensitively() {
+        assertThat(taskNameIndex.findCandidates("DATABASE")).contains(Set.of(1L, 3L));
+        assertThat(taskNameIndex.findCandidates("auth")).contains(Set.of(2L));
+        assertThat(taskNameIndex.findCandidates("xyz")).contains(Set.of());
+    }
+
+    @Test
+    @DisplayName("Should normalize like the name filter regardless of the default locale")
+    void shouldNormalizeLikeNameFilterRegardlessOfDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            assertThat(TaskSpecification.toLowerCase("IMPLEMENT")).isEqualTo("implement");
+            assertThat(taskNameIndex.findCandidates("IMPLEMENT")).contains(Set.of(2L));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back for short terms, wildcards and unselective terms")
+    void shouldFallBackWhenIndexCannotAnswer() {
+        assertThat(taskNameIndex.findCandidates("da")).isEmpty();
+        assertThat(taskNameIndex.findCandidates("data_base")).isEmpty();
+        assertThat(taskNameIndex.findCandidates("50%")).isEmpty();
+
+        taskNameIndex.onCreated(Map.of(4L, "Database Backup"));
+
+        // Three tasks contain every trigram of "database", above the limit of two candidates
+        assertThat(taskNameIndex.findCandidates("database")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep index in sync with creates, renames and deletes")
+    void shouldKeepIndexInSyncWithWrites() {
+        // When
+        taskNameIndex.onCreated(Map.of(4L, "Write API Docs"));
+        taskNameIndex.onRenamed(2L, "Implement User Authentication", "Implement Login");
+        taskNameIndex.onDeleted(List.of(1L));
+
+        // Then
+        assertThat(taskNameIndex.findCandidates("api doc")).contains(Set.of(4L));
+        assertThat(taskNameIndex.findCandidates("login")).contains(Set.of(2L));
+        assertThat(taskNameIndex.findCandidates("authentication")).contains(Set.of());
+        assertThat(taskNameIndex.findCandidates("schema")).contains(Set.of());
+        assertThat(taskNameIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep names written by open transactions and during the snapshot read across a rebuild")
+    void shouldKeepConcurrentWritesAcrossRebuild() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            taskNameIndex.onCreated(Map.of(4L, "Quarterly Roadmap"));
+            List<TransactionSynchronization> openTransaction = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+
+            // The snapshot misses the uncommitted task, and another task commits while the snapshot is read
+            when(taskRepository.streamAllNames()).thenReturn(Stream.of(nameView(1L, "Design Database Schema"))
+                                                                   .peek(view -> taskNameIndex.onCreated(
+                                                                           Map.of(5L, "Release Checklist"))));
+
+            // When
+            taskNameIndex.rebuild();
+            openTransaction.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        // Then
+        assertThat(taskNameIndex.findCandidates("roadmap")).contains(Set.of(4L));
+        assertThat(taskNameIndex.findCandidates("checklist")).contains(Set.of(5L));
+        assertThat(taskNameIndex.findCandidates("authentication")).contains(Set.of());
+        assertThat(taskNameIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should expose size and memory footprint as metrics")
+    void shouldExposeMetrics() {
+        assertThat(meterRegistry.get("task.name.index.tasks").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("task.name.index.trigrams").gauge().value()).isPositive();
+        assertThat(meterRegistry.get("task.name.index.memory").gauge().value()).isPositive();
+    }
+
+    private TaskRepository.TaskNameView nameView(Long id, String name) {
+        return new TaskRepository.TaskNameView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Long getProjectId() {
+                return 1L;
+            }
+        };
+    }
+}
@@ -0,0 +1,208 @@
+package com.ifm.projectmgmt.service;
+
+import com.ifm.projectmgmt.dto.response.TaskSuggestion;
+import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.event.TaskChangedEvent;
+import com.ifm.projectmgmt.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TaskNameSuggester.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskNameSuggester Unit Tests")
+class TaskNameSuggesterTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskNameSuggester taskNameSuggester;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        taskNameSuggester = new TaskNameSuggester(taskRepository, meterRegistry);
+
+        when(taskRepository.streamAllNames()).thenReturn(Stream.of(
+                nameView(1L, "Design Review", 1L),
+                nameView(2L, "Design Database Schema", 1L),
+                nameView(3L, "design review", 2L),
+                nameView(4L, "Deploy to Staging", 2L),
+                nameView(5L, "Write Tests", 1L)));
+        taskNameSuggester.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should rank distinct names by frequency, then recency")
+    void shouldRankDistinctNamesByFrequencyThenRecency() {
+        // When
+        List<TaskSuggestion> suggestions = taskNameSuggester.suggest("De", null, 10);
+
+        // Then
+        assertThat(suggestions).extracting(TaskSuggestion::getName)
+                               .containsExactly("design review", "Deploy to Staging", "Design Database Schema");
+        assertThat(suggestions.get(0).getTaskCount()).isEqualTo(2);
+        assertThat(suggestions.get(0).getTaskId()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should restrict suggestions to a project and limit")
+    void shouldRestrictSuggestionsToProjectAndLimit() {
+        assertThat(taskNameSuggester.suggest("des", 1L, 10)).extracting(TaskSuggestion::getName)
+                                                            .containsExactly("Design Database Schema", "Design Review");
+        assertThat(taskNameSuggester.suggest("de", 2L, 1)).extracting(TaskSuggestion::getName)
+                                                          .containsExactly("Deploy to Staging");
+        assertThat(taskNameSuggester.suggest("de", 99L, 10)).isEmpty();
+        assertThat(taskNameSuggester.suggest(" ", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply committed creates, renames and deletes incrementally")
+    void shouldApplyWritesIncrementally() {
+        // When
+        taskNameSuggester.onTaskChanged(event(TaskChangedEvent.ChangeType.CREATED, 6L, 1L, null, "Write Docs"));
+        taskNameSuggester.onTaskChanged(event(TaskChangedEvent.ChangeType.UPDATED, 5L, 1L, "Write Tests",
+                                              "Refactor Tests"));
+        taskNameSuggester.onTaskChanged(event(TaskChangedEvent.ChangeType.DELETED, 4L, 2L, "Deploy to Staging",
+                                              null));
+
+        // Then
+        assertThat(taskNameSuggester.suggest("wri", null, 10)).extracting(TaskSuggestion::getName)
+                                                              .containsExactly("Write Docs");
+        assertThat(taskNameSuggester.suggest("ref", 1L, 10)).extracting(TaskSuggestion::getTaskId)
+                                                            .containsExactly(5L);
+        assertThat(taskNameSuggester.suggest("dep", null, 10)).isEmpty();
+        assertThat(taskNameSuggester.distinctNameCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should match a full ranking of every matching name for short and long prefixes")
+    void shouldMatchFullRankingForShortAndLongPrefixes() {
+        // Given
+        Random random = new Random(42);
+        String[] words = {"design", "deploy", "review", "release", "test", "tune", "docs", "debug"};
+        Map<Long, String> names = new HashMap<>();
+        Map<Long, Long> projects = new HashMap<>();
+        for (long id = 100; id < 2100; id++) {
+            String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)]
+                    + " " + random.nextInt(20);
+            long projectId = 1 + random.nextInt(3);
+            names.put(id, name);
+            projects.put(id, projectId);
+            taskNameSuggester.onTaskChanged(event(TaskChangedEvent.ChangeType.CREATED, id, projectId, null, name));
+        }
+        for (long id = 100; id < 2100; id += 7) {
+            String renamed = words[random.nextInt(words.length)] + " " + random.nextInt(5);
+            taskNameSuggester.onTaskChanged(event(TaskChangedEvent.ChangeType.UPDATED, id, projects.get(id),
+                                                  names.get(id), renamed));
+            names.put(id, renamed);
+        }
+        for (long id = 103; id < 2100; id += 11) {
+            taskNameSuggester.onTaskChanged(event(TaskChangedEvent.ChangeType.DELETED, id, projects.get(id),
+                                                  names.remove(id), null));
+        }
+
+        // When/Then
+        for (String prefix : List.of("d", "de", "dep", "deploy", "deploy d", "deploy debug 1", "r", "rel", "t",
+                                     "tune tu", "x", "design docs 19")) {
+            for (Long projectId : new Long[]{null, 2L}) {
+                assertThat(taskNameSuggester.suggest(prefix, projectId, 5))
+                        .as("prefix '%s' in project %s", prefix, projectId)
+                        .extracting(TaskSuggestion::getName, TaskSuggestion::getTaskId,
+                                    TaskSuggestion::getTaskCount)
+                        .containsExactlyElementsOf(expectedRanking(names, projects, prefix, projectId, 5));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should report distinct names and estimated memory as gauges")
+    void shouldReportNamesAndMemoryGauges() {
+        // When
+        double names = meterRegistry.get("task.name.suggester.names").gauge().value();
+        double memory = meterRegistry.get("task.name.suggester.memory").gauge().value();
+
+        // Then
+        assertThat(names).isEqualTo(4);
+        assertThat(memory).isPositive();
+    }
+
+    /**
+     * Rank every matching distinct name from scratch: most tasks first, then most recent task.
+     */
+    private List<Tuple> expectedRanking(Map<Long, String> names, Map<Long, Long> projects,
+                                        String prefix, Long projectId, int limit) {
+        Map<String, List<Long>> idsByKey = new HashMap<>();
+        Map<String, String> spellings = new HashMap<>();
+        names.keySet().stream().sorted().forEach(id -> {
+            String key = names.get(id).toLowerCase(Locale.ROOT);
+            if (key.startsWith(prefix) && (projectId == null || projectId.equals(projects.get(id)))) {
+                idsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(id);
+                spellings.put(key, names.get(id));
+            }
+        });
+        return idsByKey.entrySet().stream()
+                       .sorted(Comparator.comparingInt((Map.Entry<String, List<Long>> entry) -> entry.getValue().size())
+                                         .thenComparingLong(entry -> entry.getValue().get(entry.getValue().size() - 1))
+                                         .reversed())
+                       .limit(limit)
+                       .map(entry -> tuple(spellings.get(entry.getKey()),
+                                           entry.getValue().get(entry.getValue().size() - 1),
+                                           entry.getValue().size()))
+                       .toList();
+    }
+
+    private TaskChangedEvent event(TaskChangedEvent.ChangeType type, Long id, Long projectId,
+                                   String nameBefore, String nameAfter) {
+        return new TaskChangedEvent(type, id, projectId, 0L, state(nameBefore), state(nameAfter));
+    }
+
+    private TaskChangedEvent.TaskState state(String name) {
+        return name == null ? null
+                : new TaskChangedEvent.TaskState(name, 3, LocalDate.now(), TaskStatus.PENDING, "a@example.com");
+    }
+
+    private TaskRepository.TaskNameView nameView(Long id, String name, Long projectId) {
+        return new TaskRepository.TaskNameView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Long getProjectId() {
+                return projectId;
+            }
+        };
+    }
+}
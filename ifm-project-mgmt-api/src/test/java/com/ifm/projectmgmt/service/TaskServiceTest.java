@@ -1,34 +1,51 @@
 package com.ifm.projectmgmt.service;
 
 import com.ifm.projectmgmt.dto.request.CreateTaskRequest;
+import com.ifm.projectmgmt.dto.request.TaskFilterRequest;
+import com.ifm.projectmgmt.dto.request.TaskStatusChange;
 import com.ifm.projectmgmt.dto.request.UpdateTaskRequest;
 import com.ifm.projectmgmt.dto.request.UpdateTaskStatusRequest;
 import com.ifm.projectmgmt.dto.response.PagedResponse;
+import com.ifm.projectmgmt.dto.response.TaskBatchResponse;
 import com.ifm.projectmgmt.dto.response.TaskResponse;
+import com.ifm.projectmgmt.dto.response.TaskStatusBatchResponse;
+import com.ifm.projectmgmt.dto.response.TaskStatusResult;
 import com.ifm.projectmgmt.entity.Project;
 import com.ifm.projectmgmt.entity.Task;
 import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.event.TaskChangedEvent;
 import com.ifm.projectmgmt.exception.ConcurrentModificationException;
 import com.ifm.projectmgmt.exception.InvalidInputException;
+import com.ifm.projectmgmt.exception.PreconditionFailedException;
 import com.ifm.projectmgmt.exception.ResourceNotFoundException;
 import com.ifm.projectmgmt.repository.ProjectRepository;
 import com.ifm.projectmgmt.repository.TaskRepository;
+import com.ifm.projectmgmt.util.Constants;
+import com.ifm.projectmgmt.util.TaskCursor;
+import com.ifm.projectmgmt.util.TaskETags;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -52,13 +69,29 @@ class TaskServiceTest {
     private ProjectRepository projectRepository;
 
     @Mock
-    private NotificationService notificationService;
+    private NotificationOutboxService notificationOutbox;
+
+    @Mock
+    private TaskWriteGeneration taskWriteGeneration;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private TaskNameIndex taskNameIndex;
+
+    @Mock
+    private TaskNameSuggester taskNameSuggester;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private TaskService taskService;
 
     private Project testProject;
     private Task testTask;
+    private TaskResponse testTaskResponse;
 
     @BeforeEach
     void setUp() {
@@ -80,6 +113,8 @@ class TaskServiceTest {
         testTask.setVersion(0L);
         testTask.setCreatedAt(LocalDateTime.now());
         testTask.setUpdatedAt(LocalDateTime.now());
+
+        testTaskResponse = toResponse(testTask);
     }
 
     @Test
@@ -107,7 +142,45 @@ class TaskServiceTest {
 
         verify(projectRepository).findById(1L);
         verify(taskRepository).save(any(Task.class));
-        verify(notificationService).sendTaskCreatedNotification(any(Task.class));
+        verify(projectRepository).adjustTaskCount(1L, 1);
+        verify(notificationOutbox).taskCreated(any(Task.class));
+
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(TaskChangedEvent.ChangeType.CREATED);
+        assertThat(event.getValue().before()).isNull();
+        assertThat(event.getValue().after().name()).isEqualTo(testTask.getName());
+    }
+
+    @Test
+    @DisplayName("Should create tasks in batch with one notification per assignee")
+    void shouldCreateTasksInBatch() {
+        // Given
+        List<CreateTaskRequest> requests = List.of(
+                createRequest("Task A", "alice@example.com"),
+                createRequest("Task B", "bob@example.com"),
+                createRequest("Task C", "alice@example.com"));
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+        doAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            for (int i = 0; i < tasks.size(); i++) {
+                tasks.get(i).setId(100L + i);
+            }
+            return null;
+        }).when(taskRepository).insertAll(anyList());
+
+        // When
+        TaskBatchResponse response = taskService.createTasks(1L, requests);
+
+        // Then
+        assertThat(response.getProjectId()).isEqualTo(1L);
+        assertThat(response.getCreatedCount()).isEqualTo(3);
+        assertThat(response.getTaskIds()).containsExactly(100L, 101L, 102L);
+
+        verify(projectRepository).adjustTaskCount(1L, 3);
+        verify(notificationOutbox).tasksCreated(argThat(tasks -> tasks.size() == 3));
+        verify(notificationOutbox, never()).taskCreated(any());
     }
 
     @Test
@@ -130,14 +203,14 @@ class TaskServiceTest {
 
         verify(projectRepository).findById(999L);
         verify(taskRepository, never()).save(any());
-        verify(notificationService, never()).sendTaskCreatedNotification(any());
+        verify(notificationOutbox, never()).taskCreated(any());
     }
 
     @Test
     @DisplayName("Should get task by ID successfully")
     void shouldGetTaskByIdSuccessfully() {
         // Given
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(testTaskResponse));
 
         // When
         TaskResponse response = taskService.getTaskById(1L);
@@ -147,30 +220,44 @@ class TaskServiceTest {
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getName()).isEqualTo("Test Task");
 
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findResponseById(1L);
+        verify(taskRepository, never()).findById(anyLong());
     }
 
     @Test
     @DisplayName("Should throw exception when task not found")
     void shouldThrowExceptionWhenTaskNotFound() {
         // Given
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskRepository.findResponseById(999L)).thenReturn(Optional.empty());
 
         // When/Then
         assertThatThrownBy(() -> taskService.getTaskById(999L))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Task not found");
 
-        verify(taskRepository).findById(999L);
+        verify(taskRepository).findResponseById(999L);
+    }
+
+    @Test
+    @DisplayName("Should suggest task names without touching the database")
+    void shouldSuggestTaskNamesFromMemory() {
+        // When
+        taskService.suggestTaskNames("des", 1L, 5);
+
+        // Then
+        verify(taskNameSuggester).suggest("des", 1L, 5);
+        verifyNoInteractions(taskRepository, projectRepository);
+        assertThatThrownBy(() -> taskService.suggestTaskNames("des", null, Constants.MAX_SUGGEST_LIMIT + 1))
+                .isInstanceOf(InvalidInputException.class);
     }
 
     @Test
     @DisplayName("Should get tasks for project with filters")
     void shouldGetTasksForProjectWithFilters() {
         // Given
-        Page<Task> taskPage = new PageImpl<>(List.of(testTask));
+        Page<TaskResponse> taskPage = new PageImpl<>(List.of(testTaskResponse));
         when(projectRepository.existsById(1L)).thenReturn(true);
-        when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
+        when(taskRepository.findResponses(any(Specification.class), any(Pageable.class)))
                 .thenReturn(taskPage);
 
         // When
@@ -190,7 +277,7 @@ class TaskServiceTest {
         assertThat(response.getTotalElements()).isEqualTo(1);
 
         verify(projectRepository).existsById(1L);
-        verify(taskRepository).findAll(any(Specification.class), any(Pageable.class));
+        verify(taskRepository).findResponses(any(Specification.class), any(Pageable.class));
     }
 
     @Test
@@ -210,7 +297,112 @@ class TaskServiceTest {
                 .hasMessageContaining("Start date must be before end date");
 
         verify(projectRepository).existsById(1L);
-        verify(taskRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        verify(taskRepository, never()).findResponses(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should skip count query when total mode is none")
+    void shouldSkipCountQueryWhenTotalModeIsNone() {
+        // Given
+        TaskFilterRequest filter = TaskFilterRequest.builder()
+                                                    .sortBy("priority")
+                                                    .order("asc")
+                                                    .page(0)
+                                                    .size(1)
+                                                    .total("none")
+                                                    .build();
+
+        when(taskRepository.findResponseSlice(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(testTaskResponse), PageRequest.of(0, 1), true));
+
+        // When
+        PagedResponse<TaskResponse> response = taskService.getAllTasks(filter);
+
+        // Then
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.getTotalElements()).isNull();
+        assertThat(response.getTotalPages()).isNull();
+        assertThat(response.isFirst()).isTrue();
+        assertThat(response.isLast()).isFalse();
+
+        verify(taskRepository, never()).findResponses(any(Specification.class), any(Pageable.class));
+        verify(taskRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("Should return next cursor instead of totals in cursor mode")
+    void shouldReturnNextCursorInCursorMode() {
+        // Given
+        Task secondTask = new Task();
+        secondTask.setId(2L);
+        secondTask.setName("Second Task");
+        secondTask.setPriority(3);
+        secondTask.setDueDate(testTask.getDueDate());
+        secondTask.setProject(testProject);
+
+        TaskFilterRequest filter = TaskFilterRequest.builder()
+                                                    .sortBy("priority")
+                                                    .order("asc")
+                                                    .size(1)
+                                                    .pagination("cursor")
+                                                    .build();
+
+        when(taskRepository.findResponses(any(Specification.class), any(Sort.class), anyInt()))
+                .thenReturn(List.of(testTaskResponse, toResponse(secondTask)));
+
+        // When
+        PagedResponse<TaskResponse> response = taskService.getAllTasks(filter);
+
+        // Then
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.getTotalElements()).isNull();
+        assertThat(response.getPrevCursor()).isNull();
+        assertThat(response.isFirst()).isTrue();
+        assertThat(response.isLast()).isFalse();
+
+        TaskCursor next = TaskCursor.decode(response.getNextCursor());
+        assertThat(next.id()).isEqualTo(1L);
+        assertThat(next.sortValue()).isEqualTo(3);
+        assertThat(next.backward()).isFalse();
+
+        verify(taskRepository).findResponses(any(Specification.class), any(Sort.class), eq(2));
+        verify(taskRepository, never()).findResponses(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should reject cursor that does not match requested sort")
+    void shouldRejectCursorForDifferentSort() {
+        // Given
+        String cursor = new TaskCursor("priority", Sort.Direction.ASC, 3, 1L, false).encode();
+        TaskFilterRequest filter = TaskFilterRequest.builder()
+                                                    .sortBy("dueDate")
+                                                    .order("asc")
+                                                    .size(20)
+                                                    .cursor(cursor)
+                                                    .build();
+
+        // When/Then
+        assertThatThrownBy(() -> taskService.getAllTasks(filter))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining("cursor does not match");
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown total mode instead of counting exactly")
+    void shouldRejectUnknownTotalMode() {
+        // Given
+        TaskFilterRequest filter = TaskFilterRequest.builder()
+                                                    .sortBy("priority")
+                                                    .order("asc")
+                                                    .size(20)
+                                                    .total("bogus")
+                                                    .build();
+
+        // When/Then
+        assertThatThrownBy(() -> taskService.getAllTasks(filter))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessage(Constants.ERROR_INVALID_TOTAL);
+        verify(taskRepository, never()).findResponses(any(Specification.class), any(Pageable.class));
     }
 
     @Test
@@ -226,13 +418,13 @@ class TaskServiceTest {
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // When
-        TaskResponse response = taskService.updateTask(1L, request);
+        TaskResponse response = taskService.updateTask(1L, request, null);
 
         // Then
         assertThat(response).isNotNull();
         verify(taskRepository).findById(1L);
         verify(taskRepository).save(any(Task.class));
-        verify(notificationService).sendTaskUpdatedNotification(any(Task.class), anyString());
+        verify(notificationOutbox).taskUpdated(any(Task.class), anyString());
     }
 
     @Test
@@ -247,13 +439,169 @@ class TaskServiceTest {
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // When
-        TaskResponse response = taskService.updateTaskStatus(1L, request);
+        TaskResponse response = taskService.updateTaskStatus(1L, request, null);
 
         // Then
         assertThat(response).isNotNull();
         verify(taskRepository).findById(1L);
         verify(taskRepository).save(any(Task.class));
-        verify(notificationService).sendTaskStatusChangedNotification(any(Task.class), anyString(), anyString());
+        verify(notificationOutbox).taskStatusChanged(any(Task.class), eq(TaskStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("Should reject a stale If-Match before loading the task")
+    void shouldRejectStaleIfMatchBeforeLoadingTask() {
+        // Given
+        UpdateTaskStatusRequest request = UpdateTaskStatusRequest.builder()
+                                                                 .status(TaskStatus.IN_PROGRESS)
+                                                                 .build();
+        String staleETag = TaskETags.of(0L, testProject.getName());
+
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(versionView(1L, testProject.getName())));
+
+        // When/Then
+        assertThatThrownBy(() -> taskService.updateTaskStatus(1L, request, staleETag))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("If-Match does not match")
+                .extracting("currentETag")
+                .isEqualTo(TaskETags.of(1L, testProject.getName()));
+
+        verify(taskRepository, never()).findById(anyLong());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("Should update a task when If-Match matches the current ETag")
+    void shouldUpdateTaskWhenIfMatchMatches() {
+        // Given
+        UpdateTaskRequest request = UpdateTaskRequest.builder()
+                                                     .priority(5)
+                                                     .build();
+
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(versionView(0L, testProject.getName())));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        // When
+        TaskResponse response = taskService.updateTask(1L, request, TaskETags.of(testTaskResponse));
+
+        // Then
+        assertThat(response.getPriority()).isEqualTo(5);
+        verify(taskRepository).save(any(Task.class));
+        verify(taskRepository).flush();
+    }
+
+    @Test
+    @DisplayName("Should reject If-Match when the task changed after the ETag check")
+    void shouldRejectIfMatchWhenTaskChangedAfterCheck() {
+        // Given
+        UpdateTaskStatusRequest request = UpdateTaskStatusRequest.builder()
+                                                                 .status(TaskStatus.IN_PROGRESS)
+                                                                 .build();
+        testTask.setVersion(1L);
+
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(versionView(0L, testProject.getName())));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+
+        // When/Then
+        assertThatThrownBy(() -> taskService.updateTaskStatus(1L, request, TaskETags.of(0L, testProject.getName())))
+                .isInstanceOf(PreconditionFailedException.class);
+
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("Should report updated, conflicting and missing tasks in a status batch")
+    void shouldReportOutcomesOfStatusBatch() {
+        // Given
+        Task staleTask = new Task();
+        staleTask.setId(2L);
+        staleTask.setName("Stale Task");
+        staleTask.setAssignee("test@example.com");
+        staleTask.setStatus(TaskStatus.PENDING);
+        staleTask.setProject(testProject);
+        staleTask.setVersion(5L);
+
+        List<TaskStatusChange> changes = List.of(
+                TaskStatusChange.builder().id(1L).version(0L).status(TaskStatus.COMPLETED).build(),
+                TaskStatusChange.builder().id(2L).version(4L).status(TaskStatus.COMPLETED).build(),
+                TaskStatusChange.builder().id(3L).version(0L).status(TaskStatus.COMPLETED).build());
+
+        when(taskRepository.findResponses(any(Specification.class), any(Sort.class), anyInt()))
+                .thenReturn(List.of(testTaskResponse, toResponse(staleTask)));
+        when(taskRepository.updateStatuses(eq(changes), any(LocalDateTime.class)))
+                .thenReturn(new int[]{1, 0, 0});
+
+        // When
+        TaskStatusBatchResponse response = taskService.updateTaskStatuses(changes);
+
+        // Then
+        assertThat(response.getUpdatedCount()).isEqualTo(1);
+        assertThat(response.getConflictCount()).isEqualTo(1);
+        assertThat(response.getNotFoundCount()).isEqualTo(1);
+        assertThat(response.getResults())
+                .extracting(TaskStatusResult::getOutcome)
+                .containsExactly(TaskStatusResult.Outcome.UPDATED,
+                                 TaskStatusResult.Outcome.CONFLICT,
+                                 TaskStatusResult.Outcome.NOT_FOUND);
+        assertThat(response.getResults())
+                .extracting(TaskStatusResult::getVersion)
+                .containsExactly(1L, 5L, null);
+
+        verify(notificationOutbox).taskStatusesChanged(
+                argThat(tasks -> tasks.size() == 1 && tasks.getFirst().getStatus() == TaskStatus.COMPLETED),
+                eq(Map.of(1L, TaskStatus.PENDING)));
+        verify(taskWriteGeneration).advanceAfterCommit();
+    }
+
+    @Test
+    @DisplayName("Should report the version re-read after the batch for a conflicting task")
+    void shouldReportCurrentVersionOfConflictingTask() {
+        // Given - another writer commits version 6 between the up-front read and the batch update
+        Task staleTask = new Task();
+        staleTask.setId(2L);
+        staleTask.setName("Stale Task");
+        staleTask.setAssignee("test@example.com");
+        staleTask.setStatus(TaskStatus.PENDING);
+        staleTask.setProject(testProject);
+        staleTask.setVersion(5L);
+        TaskResponse before = toResponse(staleTask);
+        staleTask.setVersion(6L);
+        TaskResponse after = toResponse(staleTask);
+
+        List<TaskStatusChange> changes = List.of(
+                TaskStatusChange.builder().id(2L).version(5L).status(TaskStatus.COMPLETED).build());
+
+        when(taskRepository.findResponses(any(Specification.class), any(Sort.class), anyInt()))
+                .thenReturn(List.of(before), List.of(after));
+        when(taskRepository.updateStatuses(eq(changes), any(LocalDateTime.class)))
+                .thenReturn(new int[]{0});
+
+        // When
+        TaskStatusBatchResponse response = taskService.updateTaskStatuses(changes);
+
+        // Then
+        assertThat(response.getConflictCount()).isEqualTo(1);
+        assertThat(response.getResults())
+                .extracting(TaskStatusResult::getVersion)
+                .containsExactly(6L);
+        verify(taskRepository, times(2)).findResponses(any(Specification.class), any(Sort.class), anyInt());
+        verify(notificationOutbox, never()).taskStatusesChanged(anyList(), anyMap());
+    }
+
+    @Test
+    @DisplayName("Should reject a status batch that changes the same task twice")
+    void shouldRejectStatusBatchWithDuplicateTask() {
+        // Given
+        List<TaskStatusChange> changes = List.of(
+                TaskStatusChange.builder().id(1L).version(0L).status(TaskStatus.IN_PROGRESS).build(),
+                TaskStatusChange.builder().id(1L).version(1L).status(TaskStatus.COMPLETED).build());
+
+        // When/Then
+        assertThatThrownBy(() -> taskService.updateTaskStatuses(changes))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessage(Constants.ERROR_DUPLICATE_BATCH_TASK + 1L);
+        verify(taskRepository, never()).updateStatuses(anyList(), any(LocalDateTime.class));
     }
 
     @Test
@@ -269,7 +617,7 @@ class TaskServiceTest {
                 .thenThrow(new OptimisticLockingFailureException("Concurrent modification"));
 
         // When/Then
-        assertThatThrownBy(() -> taskService.updateTaskStatus(1L, request))
+        assertThatThrownBy(() -> taskService.updateTaskStatus(1L, request, null))
                 .isInstanceOf(ConcurrentModificationException.class)
                 .hasMessageContaining("Task was modified by another process");
 
@@ -290,6 +638,7 @@ class TaskServiceTest {
         // Then
         verify(taskRepository).findById(1L);
         verify(taskRepository).delete(testTask);
+        verify(projectRepository).adjustTaskCount(1L, -1);
     }
 
     @Test
@@ -305,4 +654,43 @@ class TaskServiceTest {
         verify(taskRepository).findById(999L);
         verify(taskRepository, never()).delete(any(Task.class));
     }
+
+    private TaskResponse toResponse(Task task) {
+        return TaskResponse.builder()
+                           .id(task.getId())
+                           .name(task.getName())
+                           .priority(task.getPriority())
+                           .dueDate(task.getDueDate())
+                           .assignee(task.getAssignee())
+                           .status(task.getStatus())
+                           .projectId(task.getProject().getId())
+                           .projectName(task.getProject().getName())
+                           .version(task.getVersion())
+                           .createdAt(task.getCreatedAt())
+                           .updatedAt(task.getUpdatedAt())
+                           .build();
+    }
+
+    private CreateTaskRequest createRequest(String name, String assignee) {
+        return CreateTaskRequest.builder()
+                                .name(name)
+                                .priority(2)
+                                .dueDate(LocalDate.now().plusDays(5))
+                                .assignee(assignee)
+                                .build();
+    }
+
+    private TaskRepository.TaskVersionView versionView(Long version, String projectName) {
+        return new TaskRepository.TaskVersionView() {
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+
+            @Override
+            public String getProjectName() {
+                return projectName;
+            }
+        };
+    }
 }
@@ -0,0 +1,104 @@
+package com.ifm.projectmgmt.bench;
+
+import com.ifm.projectmgmt.dto.response.TaskResponse;
+import com.ifm.projectmgmt.entity.Project;
+import com.ifm.projectmgmt.entity.Task;
+import com.ifm.projectmgmt.entity.TaskStatus;
+import com.ifm.projectmgmt.repository.TaskRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Fixed, realistic fixtures shared by the benchmarks.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public final class BenchmarkData {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 15, 9, 30);
+    private static final LocalDate DUE_DATE = LocalDate.of(2030, 6, 30);
+    private static final String[] VERBS = {"Review", "Refactor", "Release", "Research", "Design", "Deploy",
+            "Document", "Test", "Fix", "Update", "Plan", "Migrate"};
+    private static final String[] OBJECTS = {"accessibility", "API", "audit log", "billing", "cache", "checkout",
+            "dashboard", "database schema", "email templates", "export", "login", "navigation", "notifications",
+            "onboarding", "payments", "permissions", "reports", "search", "settings", "sitemap"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * @return a project with a maintained task count
+     */
+    public static Project project() {
+        Project project = new Project();
+        project.setId(1L);
+        project.setName("Website Redesign");
+        project.setDescription("Redesign of the public website, including navigation, content and accessibility");
+        project.setTaskCount(250);
+        project.setCreatedAt(CREATED_AT);
+        project.setUpdatedAt(CREATED_AT.plusDays(3));
+        return project;
+    }
+
+    /**
+     * @param project the owning project
+     * @param id      the task ID
+     * @return a task of the project
+     */
+    public static Task task(Project project, long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setName("Review accessibility of page " + id);
+        task.setPriority((int) (id % 5) + 1);
+        task.setDueDate(DUE_DATE.minusDays(id % 90));
+        task.setAssignee("user" + (id % 20) + "@example.com");
+        task.setStatus(TaskStatus.values()[(int) (id % TaskStatus.values().length)]);
+        task.setProject(project);
+        task.setVersion(id % 4);
+        task.setCreatedAt(CREATED_AT.plusMinutes(id));
+        task.setUpdatedAt(CREATED_AT.plusMinutes(id * 2));
+        return task;
+    }
+
+    /**
+     * @param count number of rows
+     * @return task responses as returned by a page query
+     */
+    public static List<TaskResponse> taskResponses(int count) {
+        Project project = project();
+        return LongStream.rangeClosed(1, count)
+                         .mapToObj(id -> TaskResponse.from(task(project, id)))
+                         .toList();
+    }
+
+    /**
+     * @param id the task ID
+     * @return the name of a task of one of 50 projects; a fifth share one of 240 common names, the rest are mostly
+     * distinct
+     */
+    public static TaskRepository.TaskNameView taskName(long id) {
+        String name = VERBS[(int) (id % VERBS.length)] + " " + OBJECTS[(int) (id / VERBS.length % OBJECTS.length)]
+                + (id % 5 == 0 ? "" : " " + (id % 9973));
+        Long projectId = id % 50 + 1;
+        return new TaskRepository.TaskNameView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Long getProjectId() {
+                return projectId;
+            }
+        };
+    }
+}
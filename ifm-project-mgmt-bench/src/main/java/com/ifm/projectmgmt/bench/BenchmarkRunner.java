@@ -0,0 +1,48 @@
+package com.ifm.projectmgmt.bench;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Entry point of benchmarks.jar.
+ * Accepts the regular JMH command line options and always adds the GC profiler,
+ * so every result is reported in ops/s together with bytes allocated per operation ({@code gc.alloc.rate.norm}).
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Run the benchmarks selected on the command line, or all of them.
+     *
+     * @param args JMH command line options, e.g. a benchmark name regex
+     * @throws CommandLineOptionException if the options are invalid
+     * @throws RunnerException            if a benchmark fails
+     * @throws IOException                 if the benchmark list cannot be read
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        CommandLineOptions options = new CommandLineOptions(args);
+        if (options.shouldHelp() || options.shouldList() || options.shouldListWithParams()
+                || options.shouldListProfilers() || options.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+
+        new Runner(new OptionsBuilder()
+                           .parent(options)
+                           .addProfiler(GCProfiler.class)
+                           .build())
+                .run();
+    }
+}
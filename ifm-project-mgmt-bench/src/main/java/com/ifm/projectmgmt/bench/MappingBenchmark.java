@@ -0,0 +1,64 @@
+package com.ifm.projectmgmt.bench;
+
+import com.ifm.projectmgmt.dto.response.PagedResponse;
+import com.ifm.projectmgmt.dto.response.ProjectResponse;
+import com.ifm.projectmgmt.dto.response.TaskResponse;
+import com.ifm.projectmgmt.entity.Project;
+import com.ifm.projectmgmt.entity.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping benchmarks: TaskResponse.from and ProjectResponse.from, as used by the services,
+ * and PagedResponse.of.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    private Project project;
+    private Task task;
+    private Page<TaskResponse> page;
+
+    @Setup
+    public void setUp() {
+        project = BenchmarkData.project();
+        task = BenchmarkData.task(project, 42);
+        page = new PageImpl<>(BenchmarkData.taskResponses(100), PageRequest.of(2, 100), 1000);
+    }
+
+    @Benchmark
+    public TaskResponse taskResponseFrom() {
+        return TaskResponse.from(task);
+    }
+
+    @Benchmark
+    public ProjectResponse projectResponseFrom() {
+        return ProjectResponse.from(project);
+    }
+
+    @Benchmark
+    public PagedResponse<TaskResponse> pagedResponseOf() {
+        return PagedResponse.of(page);
+    }
+}
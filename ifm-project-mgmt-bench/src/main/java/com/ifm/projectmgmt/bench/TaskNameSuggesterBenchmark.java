@@ -0,0 +1,79 @@
+package com.ifm.projectmgmt.bench;
+
+import com.ifm.projectmgmt.dto.response.TaskSuggestion;
+import com.ifm.projectmgmt.repository.TaskRepository;
+import com.ifm.projectmgmt.service.TaskNameSuggester;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Task name suggestion latency at seeded scale, for the short prefixes that match the most distinct names.
+ * The suggester is rebuilt from a repository stub that streams the seeded names, as it is at startup.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskNameSuggesterBenchmark {
+
+    private static final int LIMIT = 10;
+
+    @Param({"10000", "200000"})
+    private int tasks;
+
+    private TaskNameSuggester suggester;
+
+    @Setup
+    public void setUp() {
+        TaskRepository repository = (TaskRepository) Proxy.newProxyInstance(
+                TaskRepository.class.getClassLoader(), new Class<?>[]{TaskRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("streamAllNames")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return LongStream.rangeClosed(1, tasks).mapToObj(BenchmarkData::taskName);
+                });
+        suggester = new TaskNameSuggester(repository, new SimpleMeterRegistry());
+        suggester.rebuild();
+    }
+
+    @Benchmark
+    public List<TaskSuggestion> oneLetterPrefix() {
+        return suggester.suggest("r", null, LIMIT);
+    }
+
+    @Benchmark
+    public List<TaskSuggestion> twoLetterPrefix() {
+        return suggester.suggest("re", null, LIMIT);
+    }
+
+    @Benchmark
+    public List<TaskSuggestion> longPrefix() {
+        return suggester.suggest("review a", null, LIMIT);
+    }
+
+    @Benchmark
+    public List<TaskSuggestion> oneLetterPrefixInProject() {
+        return suggester.suggest("r", 3L, LIMIT);
+    }
+}
@@ -0,0 +1,53 @@
+package com.ifm.projectmgmt.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ifm.projectmgmt.bench.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization benchmark of a 100-row task page, with the same date settings as application.yml.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private PagedResponse<TaskResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                                                  .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                                                  .timeZone("UTC")
+                                                  .build();
+        page = PagedResponse.of(new PageImpl<>(BenchmarkData.taskResponses(100), PageRequest.of(0, 100), 1000));
+    }
+
+    @Benchmark
+    public byte[] serializeTaskPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,87 @@
+package com.ifm.projectmgmt.specification;
+
+import com.ifm.projectmgmt.entity.Project;
+import com.ifm.projectmgmt.entity.Task;
+import com.ifm.projectmgmt.entity.TaskStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.query.SelectionQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task filter benchmarks: building TaskSpecification.withFilters, and translating it into a Hibernate Criteria query.
+ * Hibernate is bootstrapped against an empty in-memory H2 database; no query is executed.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskSpecificationBenchmark {
+
+    private static final LocalDate START_DATE = LocalDate.of(2030, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2030, 12, 31);
+
+    private SessionFactory sessionFactory;
+    private Session session;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Project.class)
+                .addAnnotatedClass(Task.class)
+                .setProperty(AvailableSettings.URL, "jdbc:h2:mem:bench")
+                .setProperty(AvailableSettings.USER, "sa")
+                .setProperty(AvailableSettings.DIALECT, H2Dialect.class.getName())
+                .buildSessionFactory();
+        session = sessionFactory.openSession();
+        criteriaBuilder = session.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Specification<Task> buildSpecification() {
+        return TaskSpecification.withFilters(TaskStatus.IN_PROGRESS, "review", START_DATE, END_DATE);
+    }
+
+    @Benchmark
+    public SelectionQuery<Task> toCriteriaQuery() {
+        Specification<Task> spec = TaskSpecification.withFilters(TaskStatus.IN_PROGRESS, "review",
+                                                                 START_DATE, END_DATE);
+
+        CriteriaQuery<Task> query = criteriaBuilder.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        query.where(spec.toPredicate(root, query, criteriaBuilder));
+        return session.createSelectionQuery(query);
+    }
+}
@@ -0,0 +1,124 @@
+package com.ifm.projectmgmt.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes recorded for one operation.
+ * Latency is measured from the scheduled start of a request, not from when it was sent, so time spent waiting
+ * for a free connection or for earlier requests is counted instead of hidden (coordinated omission).
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Operation operation;
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder versionedUpdates = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+
+    public EndpointStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Record one completed request.
+     *
+     * @param latencyNanos time from the scheduled start to the response
+     * @param outcome      the outcome of the request
+     */
+    public void record(long latencyNanos, Outcome outcome) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        requests.increment();
+        if (outcome.isError()) {
+            errors.increment();
+        }
+        versionedUpdates.add(outcome.updates());
+        conflicts.add(outcome.conflicts());
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Latency histogram in microseconds.
+     *
+     * @return latency histogram
+     */
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getUpdates() {
+        return versionedUpdates.sum();
+    }
+
+    public long getConflicts() {
+        return conflicts.sum();
+    }
+
+    /**
+     * Share of the status updates rejected because the task was modified concurrently.
+     *
+     * @return conflict rate between 0 and 1, or 0 for operations without updates
+     */
+    public double getConflictRate() {
+        long updates = getUpdates();
+        return updates == 0 ? 0 : (double) getConflicts() / updates;
+    }
+
+    /**
+     * Outcome of one request.
+     *
+     * @param status    the HTTP status, or -1 if no response was received
+     * @param updates   the number of task status updates attempted
+     * @param conflicts the number of those updates rejected by an optimistic lock conflict
+     */
+    public record Outcome(int status, int updates, int conflicts) {
+
+        /**
+         * Outcome of a request that updates nothing.
+         *
+         * @param status the HTTP status
+         * @return outcome
+         */
+        public static Outcome of(int status) {
+            return new Outcome(status, 0, 0);
+        }
+
+        /**
+         * Outcome of a request that failed before a response was received.
+         *
+         * @return outcome
+         */
+        public static Outcome failed() {
+            return new Outcome(-1, 0, 0);
+        }
+
+        /**
+         * Whether the request failed. Optimistic lock conflicts are counted separately and are not errors.
+         *
+         * @return true if no response was received or the status is an error other than 409
+         */
+        public boolean isError() {
+            return status < 0 || (status >= 400 && status != 409);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.ifm.projectmgmt.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ifm.projectmgmt.loadtest.EndpointStats.Outcome;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Entry point of loadtest.jar.
+ * Seeds a running API, then drives it with an open-loop arrival schedule: requests are started at a fixed rate
+ * whether or not earlier ones have completed, the way independent users arrive. When the concurrency limit is
+ * reached, later arrivals wait, and that wait is part of their recorded latency.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public final class LoadTest {
+
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+
+    private LoadTest() {
+    }
+
+    /**
+     * Run a load test with the settings given on the command line.
+     *
+     * @param args {@code --key=value} settings, see {@link LoadTestConfig#USAGE}
+     * @throws Exception if the API cannot be seeded or the results cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("--help")) {
+            System.out.print(LoadTestConfig.USAGE);
+            return;
+        }
+
+        LoadTestConfig config;
+        try {
+            config = LoadTestConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadTestConfig.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                                               .version(HttpClient.Version.HTTP_1_1)
+                                               .connectTimeout(Duration.ofSeconds(5))
+                                               .executor(executor)
+                                               .build()) {
+            Workload workload = new Workload(config, httpClient, objectMapper);
+            System.out.printf("Seeding %d projects with %d tasks each at %s%n",
+                              config.projects(), config.tasksPerProject(), config.baseUrl());
+            workload.seed();
+            System.out.printf("Seeded %d tasks, %d of them hot%n", workload.getTaskCount(), config.hotTasks());
+
+            Instant startedAt = Instant.now();
+            Map<Operation, EndpointStats> stats = run(config, workload, executor);
+
+            ResultsReport report = new ResultsReport(config, startedAt, stats.values(), objectMapper);
+            System.out.println();
+            report.print(System.out);
+            Path file = report.write();
+            System.out.printf("%nResults written to %s%n", file);
+            if (config.baseline() != null) {
+                report.compare(config.baseline(), System.out);
+            }
+        }
+    }
+
+    private static Map<Operation, EndpointStats> run(LoadTestConfig config, Workload workload,
+                                                     ExecutorService executor) throws InterruptedException {
+        Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation));
+        }
+        OperationPicker picker = new OperationPicker(config.mix());
+        Semaphore inFlight = new Semaphore(config.concurrency());
+        LongAdder completed = new LongAdder();
+
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / (double) config.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        long nextProgress = start + PROGRESS_INTERVAL.toNanos();
+        System.out.printf("Running %d req/s for %ds warm-up and %ds measurement, at most %d in flight%n",
+                          config.rate(), config.warmup().toSeconds(), config.duration().toSeconds(),
+                          config.concurrency());
+
+        for (long arrival = 0; ; arrival++) {
+            long scheduled = start + (long) (arrival * intervalNanos);
+            if (scheduled >= end) {
+                break;
+            }
+            for (long wait = scheduled - System.nanoTime(); wait > 0; wait = scheduled - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            if (System.nanoTime() >= nextProgress) {
+                System.out.printf("  %3ds: %d completed, %d in flight%n",
+                                  TimeUnit.NANOSECONDS.toSeconds(nextProgress - start), completed.sum(),
+                                  config.concurrency() - inFlight.availablePermits());
+                nextProgress += PROGRESS_INTERVAL.toNanos();
+            }
+
+            inFlight.acquire();
+            Operation operation = picker.next();
+            boolean measured = scheduled >= measureFrom;
+            executor.execute(() -> {
+                try {
+                    Outcome outcome = workload.execute(operation);
+                    if (measured) {
+                        stats.get(operation).record(System.nanoTime() - scheduled, outcome);
+                    }
+                    completed.increment();
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+
+        inFlight.acquire(config.concurrency());
+        return stats;
+    }
+
+    /**
+     * Picks operations at random in proportion to their weights.
+     */
+    private static final class OperationPicker {
+
+        private final Operation[] operations;
+        private final int[] cumulativeWeights;
+
+        private OperationPicker(Map<Operation, Integer> mix) {
+            Operation[] weighted = mix.entrySet().stream()
+                                      .filter(entry -> entry.getValue() > 0)
+                                      .map(Map.Entry::getKey)
+                                      .toArray(Operation[]::new);
+            this.operations = weighted;
+            this.cumulativeWeights = new int[weighted.length];
+            int sum = 0;
+            for (int i = 0; i < weighted.length; i++) {
+                sum += mix.get(weighted[i]);
+                cumulativeWeights[i] = sum;
+            }
+        }
+
+        private Operation next() {
+            int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            int index = Arrays.binarySearch(cumulativeWeights, value + 1);
+            return operations[index >= 0 ? index : -index - 1];
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.ifm.projectmgmt.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Load test settings, read from {@code --key=value} command line arguments.
+ *
+ * @param baseUrl         the API base URL
+ * @param rate            the arrival rate in requests per second, independent of response times
+ * @param concurrency     the maximum number of requests in flight
+ * @param warmup          the warm-up time, whose requests are not recorded
+ * @param duration        the measured time after the warm-up
+ * @param mix             the weight of each operation
+ * @param projects        the number of projects to seed
+ * @param tasksPerProject the number of tasks to seed per project
+ * @param hotTasks        the number of tasks that receive every status update, so updates contend
+ * @param outputDir       the directory the results file is written to
+ * @param baseline        a previous results file to compare with, or null
+ * @param label           a name for this run, stored in the results file
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public record LoadTestConfig(URI baseUrl, int rate, int concurrency, Duration warmup, Duration duration,
+                             Map<Operation, Integer> mix, int projects, int tasksPerProject, int hotTasks,
+                             Path outputDir, Path baseline, String label) {
+
+    /**
+     * Usage text printed for {@code --help} and invalid arguments.
+     */
+    public static final String USAGE = """
+            Usage: java -jar target/loadtest.jar [--key=value ...]
+              --base-url=http://localhost:8080   API base URL
+              --rate=200                         arrivals per second (open loop)
+              --concurrency=256                  maximum requests in flight
+              --warmup=10                        warm-up seconds, not recorded
+              --duration=60                      measured seconds
+              --mix=list-tasks:20,suggest:15     operation weights (omitted operations keep their default)
+              --projects=5                       projects to seed
+              --tasks-per-project=200            tasks to seed per project
+              --hot-tasks=20                     tasks receiving all status updates
+              --output=target/loadtest-results   results directory
+              --baseline=<results.json>          previous results to compare p99 with
+              --label=<name>                     name stored with the results
+            Operations: list-projects, list-tasks, filter-tasks, calendar, suggest, get-task, update-status,
+                        status-batch, create-task
+            """;
+
+    /**
+     * Parse command line arguments, using defaults for the ones not given.
+     *
+     * @param args the command line arguments
+     * @return load test settings
+     * @throws IllegalArgumentException if an argument is unknown or invalid
+     */
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Invalid argument: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadTestConfig config = new LoadTestConfig(
+                URI.create(stripTrailingSlash(options.remove("base-url"), "http://localhost:8080")),
+                positive(options.remove("rate"), 200, "rate"),
+                positive(options.remove("concurrency"), 256, "concurrency"),
+                Duration.ofSeconds(nonNegative(options.remove("warmup"), 10, "warmup")),
+                Duration.ofSeconds(positive(options.remove("duration"), 60, "duration")),
+                parseMix(options.remove("mix")),
+                positive(options.remove("projects"), 5, "projects"),
+                positive(options.remove("tasks-per-project"), 200, "tasks-per-project"),
+                positive(options.remove("hot-tasks"), 20, "hot-tasks"),
+                Path.of(Objects.requireNonNullElse(options.remove("output"), "target/loadtest-results")),
+                Optional.ofNullable(options.remove("baseline")).map(Path::of).orElse(null),
+                Objects.requireNonNullElse(options.remove("label"), "")
+        );
+
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown arguments: " + options.keySet());
+        }
+        return config;
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        Arrays.stream(Operation.values()).forEach(operation -> mix.put(operation, operation.defaultWeight()));
+        if (value != null && !value.isBlank()) {
+            for (String entry : value.split(",")) {
+                String[] parts = entry.trim().split(":");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Invalid mix entry: " + entry);
+                }
+                mix.put(Operation.fromKey(parts[0]), nonNegative(parts[1], 0, "mix " + parts[0]));
+            }
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix must give at least one operation a positive weight");
+        }
+        return mix;
+    }
+
+    private static int positive(String value, int defaultValue, String name) {
+        int parsed = nonNegative(value, defaultValue, name);
+        if (parsed == 0) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+        return parsed;
+    }
+
+    private static int nonNegative(String value, int defaultValue, String name) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed < 0) {
+                throw new IllegalArgumentException(name + " must not be negative");
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a number: " + value);
+        }
+    }
+
+    private static String stripTrailingSlash(String value, String defaultValue) {
+        String url = value == null ? defaultValue : value;
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
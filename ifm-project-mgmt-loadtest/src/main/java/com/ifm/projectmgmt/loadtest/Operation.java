@@ -0,0 +1,97 @@
+package com.ifm.projectmgmt.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Endpoints exercised by the load test, following the requests of {@code IFM-Project-Management.postman_collection.json}.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public enum Operation {
+
+    /**
+     * GET /api/projects.
+     */
+    LIST_PROJECTS("list-projects", 5),
+
+    /**
+     * GET /api/projects/{id}/tasks sorted by priority, paged.
+     */
+    LIST_TASKS("list-tasks", 20),
+
+    /**
+     * GET /api/tasks filtered by status and task name.
+     */
+    FILTER_TASKS("filter-tasks", 15),
+
+    /**
+     * GET /api/projects/{id}/tasks within a due date range, sorted by due date.
+     */
+    CALENDAR("calendar", 10),
+
+    /**
+     * GET /api/tasks/suggest with a short name prefix.
+     */
+    SUGGEST("suggest", 15),
+
+    /**
+     * GET /api/tasks/{id}.
+     */
+    GET_TASK("get-task", 10),
+
+    /**
+     * PATCH /api/tasks/{id}/status on a hot task.
+     */
+    UPDATE_STATUS("update-status", 10),
+
+    /**
+     * PATCH /api/tasks/status with versions of several hot tasks.
+     */
+    STATUS_BATCH("status-batch", 5),
+
+    /**
+     * POST /api/projects/{id}/tasks.
+     */
+    CREATE_TASK("create-task", 10);
+
+    private final String key;
+    private final int defaultWeight;
+
+    Operation(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    /**
+     * Name of the operation on the command line and in results.
+     *
+     * @return operation key
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Share of the default traffic mix, in percent.
+     *
+     * @return default weight
+     */
+    public int defaultWeight() {
+        return defaultWeight;
+    }
+
+    /**
+     * Find an operation by its key.
+     *
+     * @param key the operation key
+     * @return the operation
+     * @throws IllegalArgumentException if no operation has the key
+     */
+    public static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                     .filter(operation -> operation.key.equals(key))
+                     .findFirst()
+                     .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + key));
+    }
+}
@@ -0,0 +1,177 @@
+package com.ifm.projectmgmt.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Prints the results of a load test and writes them as JSON for comparison across runs.
+ * Each operation is stored with its percentiles in microseconds and its full latency histogram
+ * (HdrHistogram compressed, base64), so later tools can merge runs or compute other percentiles.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public class ResultsReport {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+                                                                             .withZone(ZoneOffset.UTC);
+    private static final String ROW_FORMAT = "%-14s %9s %7s %9s %9s %9s %9s %9s %9s %9s%n";
+
+    private final LoadTestConfig config;
+    private final Instant startedAt;
+    private final Collection<EndpointStats> stats;
+    private final ObjectMapper objectMapper;
+
+    public ResultsReport(LoadTestConfig config, Instant startedAt, Collection<EndpointStats> stats,
+                         ObjectMapper objectMapper) {
+        this.config = config;
+        this.startedAt = startedAt;
+        this.stats = stats;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Print one row per operation and a total row.
+     *
+     * @param out the stream to print to
+     */
+    public void print(PrintStream out) {
+        out.printf(ROW_FORMAT, "operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms",
+                   "p999 ms", "max ms", "conflicts");
+        Histogram total = new Histogram(3);
+        long requests = 0;
+        long errors = 0;
+        for (EndpointStats endpoint : stats) {
+            if (endpoint.getRequests() == 0) {
+                continue;
+            }
+            total.add(endpoint.getLatency());
+            requests += endpoint.getRequests();
+            errors += endpoint.getErrors();
+            printRow(out, endpoint.getOperation().key(), endpoint.getRequests(), endpoint.getErrors(),
+                     endpoint.getLatency(), endpoint.getUpdates() == 0
+                             ? "-"
+                             : String.format(Locale.ROOT, "%.1f%%", endpoint.getConflictRate() * 100));
+        }
+        printRow(out, "total", requests, errors, total, "");
+    }
+
+    /**
+     * Write the results to a new timestamped file in the output directory.
+     *
+     * @return the results file
+     * @throws IOException if the file cannot be written
+     */
+    public Path write() throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("label", config.label());
+        root.put("startedAt", startedAt.toString());
+
+        ObjectNode settings = root.putObject("config");
+        settings.put("baseUrl", config.baseUrl().toString());
+        settings.put("rate", config.rate());
+        settings.put("concurrency", config.concurrency());
+        settings.put("warmupSeconds", config.warmup().toSeconds());
+        settings.put("durationSeconds", config.duration().toSeconds());
+        settings.put("projects", config.projects());
+        settings.put("tasksPerProject", config.tasksPerProject());
+        settings.put("hotTasks", config.hotTasks());
+        ObjectNode mix = settings.putObject("mix");
+        config.mix().forEach((operation, weight) -> mix.put(operation.key(), weight));
+
+        ObjectNode operations = root.putObject("operations");
+        for (EndpointStats endpoint : stats) {
+            if (endpoint.getRequests() == 0) {
+                continue;
+            }
+            Histogram latency = endpoint.getLatency();
+            ObjectNode node = operations.putObject(endpoint.getOperation().key());
+            node.put("requests", endpoint.getRequests());
+            node.put("errors", endpoint.getErrors());
+            node.put("throughput", throughput(endpoint.getRequests()));
+            node.put("updates", endpoint.getUpdates());
+            node.put("conflicts", endpoint.getConflicts());
+            node.put("conflictRate", endpoint.getConflictRate());
+            ObjectNode percentiles = node.putObject("latencyMicros");
+            percentiles.put("mean", latency.getMean());
+            percentiles.put("p50", latency.getValueAtPercentile(50));
+            percentiles.put("p90", latency.getValueAtPercentile(90));
+            percentiles.put("p99", latency.getValueAtPercentile(99));
+            percentiles.put("p999", latency.getValueAtPercentile(99.9));
+            percentiles.put("max", latency.getMaxValue());
+            node.put("histogram", encode(latency));
+        }
+
+        Files.createDirectories(config.outputDir());
+        Path file = config.outputDir().resolve("loadtest-" + FILE_TIMESTAMP.format(startedAt) + ".json");
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), root);
+        return file;
+    }
+
+    /**
+     * Print the p99 latency and throughput of every operation next to those of a previous run.
+     *
+     * @param baseline the previous results file
+     * @param out      the stream to print to
+     * @throws IOException if the baseline cannot be read
+     */
+    public void compare(Path baseline, PrintStream out) throws IOException {
+        JsonNode previous = objectMapper.readTree(baseline.toFile()).path("operations");
+        out.printf("%nComparison with %s%n", baseline);
+        out.printf("%-14s %12s %12s %9s %12s %12s%n", "operation", "base p99 ms", "p99 ms", "change",
+                   "base req/s", "req/s");
+        for (EndpointStats endpoint : stats) {
+            JsonNode before = previous.path(endpoint.getOperation().key());
+            if (endpoint.getRequests() == 0 || before.isMissingNode()) {
+                continue;
+            }
+            double basePercentile = before.path("latencyMicros").path("p99").asDouble();
+            double percentile = endpoint.getLatency().getValueAtPercentile(99);
+            String change = basePercentile == 0
+                    ? "-"
+                    : String.format(Locale.ROOT, "%+.1f%%", (percentile - basePercentile) * 100 / basePercentile);
+            out.printf(Locale.ROOT, "%-14s %12.2f %12.2f %9s %12.1f %12.1f%n", endpoint.getOperation().key(),
+                       basePercentile / 1000, percentile / 1000, change,
+                       before.path("throughput").asDouble(), throughput(endpoint.getRequests()));
+        }
+    }
+
+    private void printRow(PrintStream out, String name, long requests, long errors, Histogram latency,
+                          String conflicts) {
+        out.printf(ROW_FORMAT, name, requests, errors,
+                   String.format(Locale.ROOT, "%.1f", throughput(requests)),
+                   millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+                   millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+                   millis(latency.getMaxValue()), conflicts);
+    }
+
+    private double throughput(long requests) {
+        return (double) requests / config.duration().toSeconds();
+    }
+
+    private static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.2f", micros / 1000.0);
+    }
+
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+}
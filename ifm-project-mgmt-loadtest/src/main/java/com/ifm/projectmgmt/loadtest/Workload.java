@@ -0,0 +1,237 @@
+package com.ifm.projectmgmt.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ifm.projectmgmt.loadtest.EndpointStats.Outcome;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Seeds the data a load test runs against and issues one request per operation.
+ * Status updates all target a small set of hot tasks, and the versioned batch update sends the version this client
+ * last saw, like a user editing a stale page. Concurrent updates of the same task therefore produce the optimistic
+ * lock conflicts a busy team would.
+ *
+ * @author Kervin Balibagoso
+ * @version 1.0.0
+ */
+public class Workload {
+
+    private static final String[] VERBS = {"Review", "Deploy", "Design", "Test", "Refactor", "Document", "Plan",
+            "Migrate", "Fix", "Release"};
+    private static final String[] AREAS = {"login", "billing", "search", "reports", "onboarding", "api",
+            "dashboard", "exports"};
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final int STATUS_BATCH_SIZE = 3;
+    private static final int PAGE_SIZE = 20;
+    private static final int DUE_DATE_DAYS = 90;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final List<Long> projectIds = new ArrayList<>();
+    private final List<Long> taskIds = new ArrayList<>();
+    private final Map<Long, Long> hotTaskVersions = new ConcurrentHashMap<>();
+    private Long[] hotTaskIds;
+
+    public Workload(LoadTestConfig config, HttpClient httpClient, ObjectMapper objectMapper) {
+        this.config = config;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Create the projects and tasks of this run and choose the hot tasks.
+     *
+     * @throws IOException          if the API cannot be reached or rejects a request
+     * @throws InterruptedException if interrupted while seeding
+     */
+    public void seed() throws IOException, InterruptedException {
+        for (int p = 0; p < config.projects(); p++) {
+            JsonNode project = expect(201, send("POST", "/api/projects", Map.of(
+                    "name", "Load test " + runId + " #" + (p + 1),
+                    "description", "Seeded by the load test")));
+            long projectId = project.get("id").asLong();
+            projectIds.add(projectId);
+
+            for (int created = 0; created < config.tasksPerProject(); created += SEED_BATCH_SIZE) {
+                int count = Math.min(SEED_BATCH_SIZE, config.tasksPerProject() - created);
+                List<Map<String, Object>> tasks = IntStream.range(0, count).mapToObj(i -> newTask()).toList();
+                JsonNode batch = expect(201, send("POST", "/api/projects/" + projectId + "/tasks:batch",
+                                                  Map.of("tasks", tasks)));
+                batch.get("taskIds").forEach(id -> taskIds.add(id.asLong()));
+            }
+        }
+
+        List<Long> shuffled = new ArrayList<>(taskIds);
+        Collections.shuffle(shuffled);
+        shuffled.stream().limit(config.hotTasks()).forEach(id -> hotTaskVersions.put(id, 0L));
+        hotTaskIds = hotTaskVersions.keySet().toArray(Long[]::new);
+    }
+
+    public int getTaskCount() {
+        return taskIds.size();
+    }
+
+    /**
+     * Issue one request of the given operation.
+     *
+     * @param operation the operation
+     * @return the outcome, never null
+     */
+    public Outcome execute(Operation operation) {
+        try {
+            return switch (operation) {
+                case LIST_PROJECTS -> Outcome.of(send("GET", "/api/projects", null).statusCode());
+                case LIST_TASKS -> listTasks();
+                case FILTER_TASKS -> filterTasks();
+                case CALENDAR -> calendar();
+                case SUGGEST -> suggest();
+                case GET_TASK -> getTask();
+                case UPDATE_STATUS -> updateStatus();
+                case STATUS_BATCH -> updateStatuses();
+                case CREATE_TASK -> Outcome.of(send("POST", "/api/projects/" + randomProject() + "/tasks",
+                                                    newTask()).statusCode());
+            };
+        } catch (IOException e) {
+            return Outcome.failed();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Outcome.failed();
+        }
+    }
+
+    private Outcome listTasks() throws IOException, InterruptedException {
+        int pages = Math.max(1, config.tasksPerProject() / PAGE_SIZE);
+        String path = "/api/projects/" + randomProject() + "/tasks?page=" + random().nextInt(pages)
+                + "&size=" + PAGE_SIZE + "&sortBy=priority&order=desc";
+        return Outcome.of(send("GET", path, null).statusCode());
+    }
+
+    private Outcome filterTasks() throws IOException, InterruptedException {
+        String path = "/api/tasks?status=" + pick(STATUSES) + "&taskName=" + encode(pick(AREAS))
+                + "&size=" + PAGE_SIZE;
+        return Outcome.of(send("GET", path, null).statusCode());
+    }
+
+    private Outcome calendar() throws IOException, InterruptedException {
+        LocalDate start = LocalDate.now().plusDays(random().nextInt(DUE_DATE_DAYS));
+        String path = "/api/projects/" + randomProject() + "/tasks?startDate=" + start
+                + "&endDate=" + start.plusDays(7) + "&sortBy=dueDate&order=asc&size=" + PAGE_SIZE;
+        return Outcome.of(send("GET", path, null).statusCode());
+    }
+
+    private Outcome suggest() throws IOException, InterruptedException {
+        String verb = pick(VERBS).toLowerCase();
+        String prefix = verb.substring(0, 1 + random().nextInt(Math.min(3, verb.length())));
+        return Outcome.of(send("GET", "/api/tasks/suggest?q=" + encode(prefix) + "&limit=10", null).statusCode());
+    }
+
+    private Outcome getTask() throws IOException, InterruptedException {
+        long taskId = taskIds.get(random().nextInt(taskIds.size()));
+        HttpResponse<byte[]> response = send("GET", "/api/tasks/" + taskId, null);
+        if (response.statusCode() == 200 && hotTaskVersions.containsKey(taskId)) {
+            hotTaskVersions.put(taskId, objectMapper.readTree(response.body()).get("version").asLong());
+        }
+        return Outcome.of(response.statusCode());
+    }
+
+    private Outcome updateStatus() throws IOException, InterruptedException {
+        int status = send("PATCH", "/api/tasks/" + pick(hotTaskIds) + "/status",
+                          Map.of("status", pick(STATUSES))).statusCode();
+        return new Outcome(status, 1, status == 409 ? 1 : 0);
+    }
+
+    private Outcome updateStatuses() throws IOException, InterruptedException {
+        Set<Long> ids = new LinkedHashSet<>();
+        while (ids.size() < Math.min(STATUS_BATCH_SIZE, hotTaskIds.length)) {
+            ids.add(pick(hotTaskIds));
+        }
+        List<Map<String, Object>> updates = ids.stream()
+                                               .map(id -> Map.<String, Object>of(
+                                                       "id", id,
+                                                       "version", hotTaskVersions.get(id),
+                                                       "status", pick(STATUSES)))
+                                               .toList();
+
+        HttpResponse<byte[]> response = send("PATCH", "/api/tasks/status", Map.of("updates", updates));
+        if (response.statusCode() != 200) {
+            return new Outcome(response.statusCode(), updates.size(), 0);
+        }
+
+        JsonNode body = objectMapper.readTree(response.body());
+        for (JsonNode result : body.get("results")) {
+            if (!result.get("version").isNull()) {
+                hotTaskVersions.put(result.get("id").asLong(), result.get("version").asLong());
+            }
+        }
+        return new Outcome(200, updates.size(), body.get("conflictCount").asInt());
+    }
+
+    private Map<String, Object> newTask() {
+        return Map.of(
+                "name", pick(VERBS) + " " + pick(AREAS) + " " + random().nextInt(100),
+                "priority", 1 + random().nextInt(5),
+                "dueDate", LocalDate.now().plusDays(random().nextInt(DUE_DATE_DAYS)).toString(),
+                "assignee", "user" + random().nextInt(50) + "@example.com");
+    }
+
+    private HttpResponse<byte[]> send(String method, String path, Object body)
+            throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.baseUrl() + path))
+                                         .timeout(REQUEST_TIMEOUT)
+                                         .header("Content-Type", "application/json")
+                                         .header("Accept", "application/json")
+                                         .method(method, publisher)
+                                         .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private JsonNode expect(int status, HttpResponse<byte[]> response) throws IOException {
+        if (response.statusCode() != status) {
+            throw new IOException(response.request().method() + " " + response.request().uri() + " returned "
+                                          + response.statusCode() + ": "
+                                          + new String(response.body(), StandardCharsets.UTF_8));
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private long randomProject() {
+        return projectIds.get(random().nextInt(projectIds.size()));
+    }
+
+    private static <T> T pick(T[] values) {
+        return values[random().nextInt(values.length)];
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+}